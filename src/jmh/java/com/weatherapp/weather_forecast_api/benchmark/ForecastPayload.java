@@ -0,0 +1,148 @@
+package com.weatherapp.weather_forecast_api.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.weatherapp.weather_forecast_api.client.OpenMeteoHourlyForecastDecoder;
+import com.weatherapp.weather_forecast_api.dto.WeatherForecastResponse;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
+import com.weatherapp.weather_forecast_api.model.HourlyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.OpenMeteo;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoHourlyForecast;
+import com.weatherapp.weather_forecast_api.service.SolarEnergyService;
+import com.weatherapp.weather_forecast_api.service.WeatherDataMappingService;
+import com.weatherapp.weather_forecast_api.service.WeatherMappingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.IntFunction;
+
+/**
+ * Open-Meteo daily forecast for one location in every representation the request pipeline
+ * passes through, for 7-day (default), 16-day (maximum forecast) and 365-day (archive) ranges,
+ * plus the hourly forecast for the same number of days.
+ */
+@State(Scope.Benchmark)
+public class ForecastPayload {
+
+    @Param({"7", "16", "365"})
+    public int days;
+
+    public final JsonMapper jsonMapper = JsonMapper.builder().findAndAddModules().build();
+    public final WeatherDataMappingService dataMappingService = new WeatherDataMappingService();
+    public final SolarEnergyService solarEnergyService = new SolarEnergyService();
+    public final WeatherMappingService mappingService = new WeatherMappingService(solarEnergyService);
+
+    public final OpenMeteoHourlyForecastDecoder hourlyDecoder = new OpenMeteoHourlyForecastDecoder(new JsonFactory(),
+            16 * 1024 * 1024, 168, new PipelineMetrics(new SimpleMeterRegistry()));
+
+    public byte[] json;
+    public OpenMeteo openMeteo;
+    public List<DailyWeatherData> weatherData;
+    public DailyForecastColumns columns;
+    public WeatherForecastResponse forecastResponse;
+    public byte[] hourlyJson;
+    public HourlyForecastColumns hourlyColumns;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        json = forecastJson(days).getBytes(StandardCharsets.UTF_8);
+        openMeteo = jsonMapper.readValue(json, OpenMeteo.class);
+        weatherData = dataMappingService.mapToWeatherData(openMeteo);
+        columns = dataMappingService.mapToColumns(openMeteo);
+        forecastResponse = new WeatherForecastResponse(mappingService.mapToForecastDtos(columns));
+        hourlyJson = hourlyJson(days).getBytes(StandardCharsets.UTF_8);
+        hourlyColumns = hourlyDecoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(hourlyJson),
+                ResolvableType.forClass(OpenMeteoHourlyForecast.class), MediaType.APPLICATION_JSON, Map.of()).hourly();
+    }
+
+    static String hourlyJson(int days) {
+        int hours = days * 24;
+        LocalDateTime start = LocalDateTime.of(2025, 6, 17, 0, 0);
+
+        return """
+                {
+                  "latitude": 52.23,
+                  "longitude": 21.01,
+                  "generationtime_ms": 0.42,
+                  "utc_offset_seconds": 7200,
+                  "timezone": "Europe/Warsaw",
+                  "hourly": {
+                    "time": %s,
+                    "temperature_2m": %s,
+                    "sunshine_duration": %s,
+                    "shortwave_radiation": %s
+                  }
+                }
+                """.formatted(
+                array(hours, hour -> "\"" + start.plusHours(hour) + "\""),
+                array(hours, hour -> decimal(16.0 + 6.0 * Math.sin(hour / 3.8))),
+                array(hours, hour -> decimal(Math.max(0.0, 3600.0 * Math.sin((hour % 24 - 5) / 15.0 * Math.PI)))),
+                array(hours, hour -> decimal(Math.max(0.0, 800.0 * Math.sin((hour % 24 - 5) / 15.0 * Math.PI)))));
+    }
+
+    static String forecastJson(int days) {
+        LocalDate start = LocalDate.of(2025, 6, 17);
+
+        return """
+                {
+                  "latitude": 52.23,
+                  "longitude": 21.01,
+                  "generationtime_ms": 0.42,
+                  "utc_offset_seconds": 7200,
+                  "timezone": "Europe/Warsaw",
+                  "timezone_abbreviation": "GMT+2",
+                  "elevation": 113.0,
+                  "daily_units": {
+                    "time": "iso8601",
+                    "temperature_2m_max": "°C",
+                    "temperature_2m_min": "°C",
+                    "weather_code": "wmo code",
+                    "sunshine_duration": "s",
+                    "surface_pressure_mean": "hPa"
+                  },
+                  "daily": {
+                    "time": %s,
+                    "temperature_2m_max": %s,
+                    "temperature_2m_min": %s,
+                    "weather_code": %s,
+                    "sunshine_duration": %s,
+                    "surface_pressure_mean": %s
+                  }
+                }
+                """.formatted(
+                array(days, day -> "\"" + start.plusDays(day) + "\""),
+                array(days, day -> decimal(18.0 + 8.0 * Math.sin(day / 9.0))),
+                array(days, day -> decimal(9.0 + 6.0 * Math.sin(day / 9.0))),
+                array(days, day -> Integer.toString(new int[]{0, 1, 2, 3, 45, 51, 61, 80, 95}[day % 9])),
+                array(days, day -> decimal(20000.0 + 15000.0 * Math.cos(day / 11.0))),
+                array(days, day -> decimal(1010.0 + 7.0 * Math.sin(day / 5.0))));
+    }
+
+    private static String array(int days, IntFunction<String> value) {
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        for (int day = 0; day < days; day++) {
+            joiner.add(value.apply(day));
+        }
+        return joiner.toString();
+    }
+
+    private static String decimal(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
@@ -0,0 +1,38 @@
+package com.weatherapp.weather_forecast_api.benchmark;
+
+import com.weatherapp.weather_forecast_api.dto.HourlyForecastDto;
+import com.weatherapp.weather_forecast_api.model.HourlyResolution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of cached hourly columns to DTOs at each resolution. Decoding of the hourly block is
+ * measured in {@link SerializationBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HourlyBenchmark {
+
+    @Param({"HOURLY", "THREE_HOURLY", "SIX_HOURLY", "DAILY"})
+    public HourlyResolution resolution;
+
+    @Benchmark
+    public List<HourlyForecastDto> mapToHourlyForecastDtos(ForecastPayload payload) {
+        return payload.mappingService.mapToHourlyForecastDtos(payload.hourlyColumns, resolution);
+    }
+}
@@ -0,0 +1,55 @@
+package com.weatherapp.weather_forecast_api.benchmark;
+
+import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
+import com.weatherapp.weather_forecast_api.service.WeatherSummaryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private final WeatherSummaryService summaryService = new WeatherSummaryService();
+
+    @Benchmark
+    public List<DailyWeatherData> mapToWeatherData(ForecastPayload payload) {
+        return payload.dataMappingService.mapToWeatherData(payload.openMeteo);
+    }
+
+    @Benchmark
+    public DailyForecastColumns mapToColumns(ForecastPayload payload) {
+        return payload.dataMappingService.mapToColumns(payload.openMeteo);
+    }
+
+    @Benchmark
+    public List<DailyForecastDto> mapToForecastDtosFromList(ForecastPayload payload) {
+        return payload.mappingService.mapToForecastDtos(payload.weatherData);
+    }
+
+    @Benchmark
+    public List<DailyForecastDto> mapToForecastDtosFromColumns(ForecastPayload payload) {
+        return payload.mappingService.mapToForecastDtos(payload.columns);
+    }
+
+    @Benchmark
+    public WeatherReport mapToReport(ForecastPayload payload) {
+        return payload.mappingService.mapToReport(payload.columns, summaryService);
+    }
+}
@@ -0,0 +1,67 @@
+package com.weatherapp.weather_forecast_api.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.weatherapp.weather_forecast_api.client.OpenMeteoForecastDecoder;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.OpenMeteo;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoHourlyForecast;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private static final ResolvableType FORECAST_TYPE = ResolvableType.forClass(OpenMeteoForecast.class);
+    private static final ResolvableType HOURLY_FORECAST_TYPE = ResolvableType.forClass(OpenMeteoHourlyForecast.class);
+
+    private final OpenMeteoForecastDecoder decoder = new OpenMeteoForecastDecoder(new JsonFactory(), 16 * 1024 * 1024, 7,
+            new PipelineMetrics(new SimpleMeterRegistry()));
+
+    @Benchmark
+    public OpenMeteo deserializeOpenMeteo(ForecastPayload payload) throws IOException {
+        return payload.jsonMapper.readValue(payload.json, OpenMeteo.class);
+    }
+
+    @Benchmark
+    public OpenMeteoForecast decodeOpenMeteoForecast(ForecastPayload payload) {
+        return decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(payload.json), FORECAST_TYPE,
+                MediaType.APPLICATION_JSON, Map.of());
+    }
+
+    @Benchmark
+    public OpenMeteoHourlyForecast decodeOpenMeteoHourlyForecast(ForecastPayload payload) {
+        return payload.hourlyDecoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(payload.hourlyJson),
+                HOURLY_FORECAST_TYPE, MediaType.APPLICATION_JSON, Map.of());
+    }
+
+    @Benchmark
+    public byte[] serializeOpenMeteo(ForecastPayload payload) throws IOException {
+        return payload.jsonMapper.writeValueAsBytes(payload.openMeteo);
+    }
+
+    @Benchmark
+    public byte[] serializeWeatherForecastResponse(ForecastPayload payload) throws IOException {
+        return payload.jsonMapper.writeValueAsBytes(payload.forecastResponse);
+    }
+}
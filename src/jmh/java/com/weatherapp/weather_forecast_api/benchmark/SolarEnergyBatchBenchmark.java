@@ -0,0 +1,133 @@
+package com.weatherapp.weather_forecast_api.benchmark;
+
+import com.weatherapp.weather_forecast_api.config.SolarConfig;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.EnergyBatch;
+import com.weatherapp.weather_forecast_api.model.SolarInstallation;
+import com.weatherapp.weather_forecast_api.service.SolarEnergyBatchService;
+import com.weatherapp.weather_forecast_api.service.SolarEnergyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Energy of a fleet of installations over a 7-day forecast: the per-day {@link SolarEnergyService}
+ * loop against {@link SolarEnergyBatchService} with the scalar and the Vector API kernel, on packed
+ * arrays and including the packing of per-installation forecasts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class SolarEnergyBatchBenchmark {
+
+    private static final int DAYS = 7;
+
+    @Param({"1000", "10000"})
+    public int installations;
+
+    private final SolarEnergyService solarEnergyService = new SolarEnergyService();
+    private final SolarEnergyBatchService vectorService = new SolarEnergyBatchService(new SolarConfig());
+    private SolarEnergyBatchService scalarService;
+
+    private List<SolarInstallation> fleet;
+    private List<DailyForecastColumns> forecasts;
+    private double[] sunshineHours;
+    private double[] peakPowerKw;
+    private double[] efficiency;
+    private double[] orientationDerating;
+    private double[] energy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SolarConfig scalarConfig = new SolarConfig();
+        scalarConfig.setVectorApi(false);
+        scalarService = new SolarEnergyBatchService(scalarConfig);
+        if (!vectorService.isVectorized()) {
+            throw new IllegalStateException("Run with --add-modules jdk.incubator.vector");
+        }
+
+        Random random = new Random(42);
+        List<DailyForecastColumns> cells = new ArrayList<>();
+        for (int cell = 0; cell < 64; cell++) {
+            double[] sunshine = new double[DAYS];
+            for (int day = 0; day < DAYS; day++) {
+                sunshine[day] = random.nextDouble(0.0, 15.0);
+            }
+            cells.add(new DailyForecastColumns(new int[]{0, 1, 2, 3, 4, 5, 6}, new int[DAYS], new double[DAYS],
+                    new double[DAYS], sunshine, new double[DAYS]));
+        }
+
+        fleet = new ArrayList<>(installations);
+        forecasts = new ArrayList<>(installations);
+        for (int i = 0; i < installations; i++) {
+            fleet.add(new SolarInstallation(random.nextDouble(2.0, 50.0), random.nextDouble(0.15, 0.23),
+                    random.nextDouble(0.6, 1.0)));
+            forecasts.add(cells.get(i % cells.size()));
+        }
+
+        int length = installations * DAYS;
+        sunshineHours = new double[length];
+        peakPowerKw = new double[length];
+        efficiency = new double[length];
+        orientationDerating = new double[length];
+        energy = new double[length];
+        for (int i = 0; i < length; i++) {
+            SolarInstallation installation = fleet.get(i / DAYS);
+            sunshineHours[i] = forecasts.get(i / DAYS).sunshineHours(i % DAYS);
+            peakPowerKw[i] = installation.peakPowerKw();
+            efficiency[i] = installation.efficiency();
+            orientationDerating[i] = installation.orientationDerating();
+        }
+    }
+
+    @Benchmark
+    public double[] perDaySolarEnergyService() {
+        for (int i = 0; i < installations; i++) {
+            DailyForecastColumns forecast = forecasts.get(i);
+            for (int day = 0; day < DAYS; day++) {
+                energy[i * DAYS + day] = solarEnergyService.calculateEnergyProduction(
+                        forecast.sunshineHours(day), fleet.get(i));
+            }
+        }
+        return energy;
+    }
+
+    @Benchmark
+    public double[] scalarKernel() {
+        scalarService.calculate(sunshineHours, peakPowerKw, efficiency, orientationDerating, energy);
+        return energy;
+    }
+
+    @Benchmark
+    public double[] vectorKernel() {
+        vectorService.calculate(sunshineHours, peakPowerKw, efficiency, orientationDerating, energy);
+        return energy;
+    }
+
+    @Benchmark
+    public EnergyBatch scalarBatch() {
+        return scalarService.calculate(fleet, forecasts);
+    }
+
+    @Benchmark
+    public EnergyBatch vectorBatch() {
+        return vectorService.calculate(fleet, forecasts);
+    }
+}
@@ -0,0 +1,27 @@
+package com.weatherapp.weather_forecast_api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolarEnergyBenchmark {
+
+    @Benchmark
+    public void calculateEnergyProduction(ForecastPayload payload, Blackhole blackhole) {
+        for (int day = 0; day < payload.columns.size(); day++) {
+            blackhole.consume(payload.solarEnergyService.calculateEnergyProduction(payload.columns.sunshineHours(day)));
+        }
+    }
+}
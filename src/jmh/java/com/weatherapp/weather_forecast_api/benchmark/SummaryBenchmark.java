@@ -0,0 +1,61 @@
+package com.weatherapp.weather_forecast_api.benchmark;
+
+import com.weatherapp.weather_forecast_api.dto.WeatherSummaryResponse;
+import com.weatherapp.weather_forecast_api.service.WeatherSummaryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SummaryBenchmark {
+
+    private final WeatherSummaryService summaryService = new WeatherSummaryService();
+
+    @Benchmark
+    public double calculateAveragePressure(ForecastPayload payload) {
+        return summaryService.calculateAveragePressure(payload.weatherData);
+    }
+
+    @Benchmark
+    public double calculateAverageSunshineHours(ForecastPayload payload) {
+        return summaryService.calculateAverageSunshineHours(payload.weatherData);
+    }
+
+    @Benchmark
+    public double findMinTemperature(ForecastPayload payload) {
+        return summaryService.findMinTemperature(payload.weatherData);
+    }
+
+    @Benchmark
+    public double findMaxTemperature(ForecastPayload payload) {
+        return summaryService.findMaxTemperature(payload.weatherData);
+    }
+
+    @Benchmark
+    public String generateWeekSummary(ForecastPayload payload) {
+        return summaryService.generateWeekSummary(payload.weatherData);
+    }
+
+    @Benchmark
+    public WeatherSummaryResponse summarizeList(ForecastPayload payload) {
+        return summaryService.summarize(payload.weatherData);
+    }
+
+    @Benchmark
+    public WeatherSummaryResponse summarizeColumns(ForecastPayload payload) {
+        return summaryService.summarize(payload.columns);
+    }
+}
@@ -0,0 +1,220 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Forecasts per grid cell in three tiers: fresh entries until the next model update, the last good
+ * forecast as a stale view for {@code staleTtl} after it was fetched, and recent upstream failures
+ * for {@code failureTtl} so a failing cell is not hammered with retries. With a {@link ForecastStore},
+ * forecasts are also written to disk and misses are read through from it, so a restart keeps
+ * serving the forecasts fetched before it.
+ */
+@Component
+public class ForecastCache {
+    private final boolean enabled;
+    private final boolean staleEnabled;
+    private final boolean failuresEnabled;
+    private final Cache<ForecastKey, DailyForecastColumns> cache;
+    private final Cache<ForecastKey, DailyForecastColumns> staleCache;
+    private final Cache<ForecastKey, WeatherApiException> failureCache;
+    private final ForecastStore forecastStore;
+    private final ModelUpdateExpiry<ForecastKey, DailyForecastColumns> modelUpdateExpiry;
+    private final Duration staleTtl;
+    private final Clock clock;
+
+    @Autowired
+    public ForecastCache(CacheConfig cacheConfig, ObjectProvider<ForecastStore> forecastStore) {
+        this(cacheConfig, forecastStore.getIfAvailable(), Clock.systemUTC());
+    }
+
+    public ForecastCache(CacheConfig cacheConfig) {
+        this(cacheConfig, null, Clock.systemUTC());
+    }
+
+    ForecastCache(CacheConfig cacheConfig, Clock clock) {
+        this(cacheConfig, null, clock);
+    }
+
+    ForecastCache(CacheConfig cacheConfig, ForecastStore forecastStore, Clock clock) {
+        this.enabled = cacheConfig.isEnabled();
+        this.staleEnabled = enabled && cacheConfig.getStaleTtl().isPositive();
+        this.failuresEnabled = enabled && cacheConfig.getFailureTtl().isPositive();
+        this.forecastStore = enabled ? forecastStore : null;
+        this.modelUpdateExpiry = new ModelUpdateExpiry<>(cacheConfig, clock);
+        this.staleTtl = cacheConfig.getStaleTtl();
+        this.clock = clock;
+        Ticker ticker = () -> TimeUnit.MILLISECONDS.toNanos(clock.millis());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfter(modelUpdateExpiry)
+                .ticker(ticker)
+                .build();
+        this.staleCache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfterWrite(cacheConfig.getStaleTtl())
+                .ticker(ticker)
+                .build();
+        this.failureCache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfterWrite(cacheConfig.getFailureTtl())
+                .ticker(ticker)
+                .build();
+    }
+
+    public DailyForecastColumns getIfPresent(ForecastKey key) {
+        if (!enabled) {
+            return null;
+        }
+
+        DailyForecastColumns cached = cache.getIfPresent(key);
+        return cached != null || forecastStore == null ? cached : loadFromStore(key);
+    }
+
+    /**
+     * Reactive {@link #getIfPresent}. A memory hit completes on the calling thread. A miss that has
+     * to read the store runs on {@code boundedElastic}, because paging in the mapped file can block
+     * and must not stall an event-loop thread.
+     */
+    public Mono<DailyForecastColumns> getIfPresentReactive(ForecastKey key) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+
+        DailyForecastColumns cached = cache.getIfPresent(key);
+        if (cached != null || forecastStore == null) {
+            return Mono.justOrEmpty(cached);
+        }
+        return Mono.fromCallable(() -> loadFromStore(key)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Reactive {@link #getIfPresent} for many keys, returning the ones found. All store reads share
+     * one hop to {@code boundedElastic}.
+     */
+    public Mono<Map<ForecastKey, DailyForecastColumns>> getAllPresentReactive(Collection<ForecastKey> keys) {
+        Map<ForecastKey, DailyForecastColumns> found = new HashMap<>();
+        if (!enabled) {
+            return Mono.just(found);
+        }
+
+        List<ForecastKey> misses = new ArrayList<>();
+        for (ForecastKey key : keys) {
+            DailyForecastColumns cached = cache.getIfPresent(key);
+            if (cached != null) {
+                found.put(key, cached);
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty() || forecastStore == null) {
+            return Mono.just(found);
+        }
+
+        return Mono.fromCallable(() -> {
+            for (ForecastKey key : misses) {
+                DailyForecastColumns stored = loadFromStore(key);
+                if (stored != null) {
+                    found.put(key, stored);
+                }
+            }
+            return found;
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public DailyForecastColumns getStale(ForecastKey key) {
+        return staleEnabled ? staleCache.getIfPresent(key) : null;
+    }
+
+    public WeatherApiException getFailure(ForecastKey key) {
+        return failuresEnabled ? failureCache.getIfPresent(key) : null;
+    }
+
+    // Loads outside of Caffeine's compute lock: a slow upstream call must not block other keys
+    // that share the same hash bin. Duplicate loads are prevented by the caller's RequestCoalescer.
+    public DailyForecastColumns get(ForecastKey key, Function<ForecastKey, DailyForecastColumns> loader) {
+        DailyForecastColumns cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        return put(key, loader.apply(key));
+    }
+
+    public DailyForecastColumns put(ForecastKey key, DailyForecastColumns weatherData) {
+        if (enabled) {
+            cache.put(key, weatherData);
+            failureCache.invalidate(key);
+        }
+        if (staleEnabled) {
+            staleCache.put(key, weatherData.asStale());
+        }
+        if (forecastStore != null) {
+            forecastStore.putAsync(key, weatherData, clock.instant());
+        }
+        return weatherData;
+    }
+
+    public void putFailure(ForecastKey key, WeatherApiException failure) {
+        if (failuresEnabled) {
+            failureCache.put(key, failure);
+        }
+    }
+
+    // A stored forecast fetched since the last model update is still fresh. An older one only fills
+    // the stale tier, so the caller serves it while a refresh runs.
+    private DailyForecastColumns loadFromStore(ForecastKey key) {
+        if (staleCache.getIfPresent(key) != null) {
+            return null;
+        }
+
+        ForecastStore.StoredForecast stored = forecastStore.get(key);
+        if (stored == null) {
+            return null;
+        }
+
+        if (!stored.fetchedAt().isBefore(modelUpdateExpiry.lastUpdate())) {
+            cache.put(key, stored.forecast());
+            if (staleEnabled) {
+                staleCache.put(key, stored.forecast().asStale());
+            }
+            return stored.forecast();
+        }
+
+        if (staleEnabled && stored.fetchedAt().plus(staleTtl).isAfter(clock.instant())) {
+            staleCache.asMap().putIfAbsent(key, stored.forecast().asStale());
+        }
+        return null;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        staleCache.invalidateAll();
+        failureCache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
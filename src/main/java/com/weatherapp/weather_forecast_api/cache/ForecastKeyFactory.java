@@ -0,0 +1,41 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ForecastKeyFactory {
+    private final ApiConfig apiConfig;
+    private final double cellsPerDegree;
+
+    @Autowired
+    public ForecastKeyFactory(ApiConfig apiConfig, CacheConfig cacheConfig) {
+        this.apiConfig = apiConfig;
+        this.cellsPerDegree = 1.0 / cacheConfig.getGridResolution();
+    }
+
+    public ForecastKey create(double latitude, double longitude) {
+        return new ForecastKey(
+                snapToGrid(latitude),
+                snapToGrid(longitude),
+                apiConfig.getForecastDays(),
+                apiConfig.getDailyParams()
+        );
+    }
+
+    public ForecastKey createHourly(double latitude, double longitude) {
+        return new ForecastKey(
+                snapToGrid(latitude),
+                snapToGrid(longitude),
+                apiConfig.getForecastDays(),
+                apiConfig.getHourlyParams()
+        );
+    }
+
+    private double snapToGrid(double coordinate) {
+        return Math.round(coordinate * cellsPerDegree) / cellsPerDegree;
+    }
+}
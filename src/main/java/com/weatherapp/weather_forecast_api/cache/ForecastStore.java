@@ -0,0 +1,295 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.weatherapp.weather_forecast_api.config.StoreConfig;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * Forecasts persisted in a memory-mapped file, so a restarted instance starts with a warm cache.
+ * The file is an open-addressing hash table of fixed-size records: the slot of a grid cell follows
+ * from its key, so a lookup probes a few records in place and nothing is loaded at startup. The OS
+ * pages the file in on first access. Each record carries a CRC32, and a record torn by a crash is
+ * ignored instead of served. Write-through from the cache goes through {@link #putAsync}, which queues
+ * the write for a single writer thread, so request and event-loop threads never wait for the write
+ * lock or the checksum.
+ */
+@Component
+@ConditionalOnProperty(prefix = "weather.store", name = "enabled", havingValue = "true")
+@Slf4j
+public class ForecastStore implements AutoCloseable {
+    private static final int MAGIC = 0x57465331;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int PROBE_LIMIT = 8;
+
+    private static final int EMPTY = 0;
+    private static final int OCCUPIED = 1;
+
+    // Record layout: status, CRC32 of everything after it, key, day count, fetch time, then the
+    // epoch day and weather code columns followed by the four double columns, maxDays slots each.
+    private static final int STATUS_OFFSET = 0;
+    private static final int CRC_OFFSET = 4;
+    private static final int LATITUDE_OFFSET = 8;
+    private static final int LONGITUDE_OFFSET = 16;
+    private static final int FORECAST_DAYS_OFFSET = 24;
+    private static final int PARAMS_HASH_OFFSET = 28;
+    private static final int DAYS_OFFSET = 32;
+    private static final int FETCHED_AT_OFFSET = 40;
+    private static final int COLUMNS_OFFSET = 48;
+    private static final int INT_COLUMNS = 2;
+    private static final int DOUBLE_COLUMNS = 4;
+
+    public record StoredForecast(DailyForecastColumns forecast, Instant fetchedAt) {
+    }
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int maxDays;
+    private final int recordSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadPoolExecutor writer;
+
+    @Autowired
+    public ForecastStore(StoreConfig storeConfig) {
+        this.capacity = storeConfig.getCapacity();
+        this.maxDays = storeConfig.getMaxDays();
+        this.recordSize = COLUMNS_OFFSET + maxDays * (INT_COLUMNS * Integer.BYTES + DOUBLE_COLUMNS * Double.BYTES);
+        long fileSize = HEADER_SIZE + (long) capacity * recordSize;
+        if (capacity <= 0 || maxDays <= 0 || fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid forecast store size: " + capacity + " records of "
+                    + maxDays + " days");
+        }
+
+        Path path = storeConfig.getPath();
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            boolean compatible = channel.size() == fileSize && hasMatchingHeader();
+            if (!compatible) {
+                if (channel.size() > 0) {
+                    log.warn("Forecast store {} has a different layout, starting with an empty store", path);
+                }
+                channel.truncate(0);
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            if (!compatible) {
+                writeHeader();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open forecast store " + path, e);
+        }
+
+        // The store is best effort: when the queue is full the write is dropped and the forecast is
+        // only kept in memory, rather than back-pressuring the fetch that produced it.
+        this.writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(storeConfig.getWriteQueueSize(), 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "forecast-store-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> log.debug("Forecast store write queue is full, dropping write"));
+
+        log.info("Opened forecast store {} with {} records", path, capacity);
+    }
+
+    public StoredForecast get(ForecastKey key) {
+        int paramsHash = key.params().hashCode();
+        lock.readLock().lock();
+        try {
+            for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+                int offset = recordOffset(key, probe);
+                if (buffer.getInt(offset + STATUS_OFFSET) == OCCUPIED && matches(offset, key, paramsHash)) {
+                    return buffer.getInt(offset + CRC_OFFSET) == checksum(offset) ? read(offset) : null;
+                }
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void putAsync(ForecastKey key, DailyForecastColumns forecast, Instant fetchedAt) {
+        writer.execute(() -> {
+            try {
+                put(key, forecast, fetchedAt);
+            } catch (RuntimeException e) {
+                log.warn("Failed to store forecast for {}: {}", key, e.getMessage(), e);
+            }
+        });
+    }
+
+    // Replaces the record of the same key, or else the oldest record within the probe window.
+    public void put(ForecastKey key, DailyForecastColumns forecast, Instant fetchedAt) {
+        if (forecast.size() > maxDays) {
+            log.debug("Not storing {}-day forecast for {}, the store holds at most {} days",
+                    forecast.size(), key, maxDays);
+            return;
+        }
+
+        int paramsHash = key.params().hashCode();
+        lock.writeLock().lock();
+        try {
+            int target = -1;
+            long oldestFetch = Long.MAX_VALUE;
+            for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+                int offset = recordOffset(key, probe);
+                boolean occupied = buffer.getInt(offset + STATUS_OFFSET) == OCCUPIED;
+                if (occupied && matches(offset, key, paramsHash)) {
+                    target = offset;
+                    break;
+                }
+
+                long fetchedAtMillis = occupied ? buffer.getLong(offset + FETCHED_AT_OFFSET) : Long.MIN_VALUE;
+                if (fetchedAtMillis < oldestFetch) {
+                    oldestFetch = fetchedAtMillis;
+                    target = offset;
+                }
+            }
+
+            write(target, key, paramsHash, forecast, fetchedAt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Queued writes are finished first. Mapped writes survive a crash of the JVM without forcing;
+    // forcing only protects against an OS crash.
+    @Override
+    public void close() throws IOException {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Forecast store writes did not finish in time, dropping {}", writer.getQueue().size());
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean hasMatchingHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        return header.getInt(0) == MAGIC
+                && header.getInt(4) == VERSION
+                && header.getInt(8) == capacity
+                && header.getInt(12) == maxDays
+                && header.getInt(16) == recordSize;
+    }
+
+    private void writeHeader() {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, capacity);
+        buffer.putInt(12, maxDays);
+        buffer.putInt(16, recordSize);
+    }
+
+    private int recordOffset(ForecastKey key, int probe) {
+        long bits = Double.doubleToLongBits(key.latitude()) * 31 + Double.doubleToLongBits(key.longitude());
+        bits = bits * 31 + key.forecastDays();
+        int hash = (int) (bits ^ (bits >>> 32)) * 0x9E3779B9;
+        return HEADER_SIZE + Math.floorMod(hash + probe, capacity) * recordSize;
+    }
+
+    private boolean matches(int offset, ForecastKey key, int paramsHash) {
+        return Double.compare(buffer.getDouble(offset + LATITUDE_OFFSET), key.latitude()) == 0
+                && Double.compare(buffer.getDouble(offset + LONGITUDE_OFFSET), key.longitude()) == 0
+                && buffer.getInt(offset + FORECAST_DAYS_OFFSET) == key.forecastDays()
+                && buffer.getInt(offset + PARAMS_HASH_OFFSET) == paramsHash;
+    }
+
+    private StoredForecast read(int offset) {
+        int days = buffer.getInt(offset + DAYS_OFFSET);
+        int[] epochDays = new int[days];
+        int[] weatherCodes = new int[days];
+        double[] minTemperatures = new double[days];
+        double[] maxTemperatures = new double[days];
+        double[] sunshineHours = new double[days];
+        double[] pressures = new double[days];
+
+        for (int day = 0; day < days; day++) {
+            epochDays[day] = buffer.getInt(intColumn(offset, 0, day));
+            weatherCodes[day] = buffer.getInt(intColumn(offset, 1, day));
+            minTemperatures[day] = buffer.getDouble(doubleColumn(offset, 0, day));
+            maxTemperatures[day] = buffer.getDouble(doubleColumn(offset, 1, day));
+            sunshineHours[day] = buffer.getDouble(doubleColumn(offset, 2, day));
+            pressures[day] = buffer.getDouble(doubleColumn(offset, 3, day));
+        }
+
+        DailyForecastColumns forecast = new DailyForecastColumns(epochDays, weatherCodes, minTemperatures,
+                maxTemperatures, sunshineHours, pressures);
+        return new StoredForecast(forecast, Instant.ofEpochMilli(buffer.getLong(offset + FETCHED_AT_OFFSET)));
+    }
+
+    // The record is marked empty while it is rewritten, so a crash half-way leaves no readable record.
+    private void write(int offset, ForecastKey key, int paramsHash, DailyForecastColumns forecast, Instant fetchedAt) {
+        buffer.putInt(offset + STATUS_OFFSET, EMPTY);
+        buffer.putDouble(offset + LATITUDE_OFFSET, key.latitude());
+        buffer.putDouble(offset + LONGITUDE_OFFSET, key.longitude());
+        buffer.putInt(offset + FORECAST_DAYS_OFFSET, key.forecastDays());
+        buffer.putInt(offset + PARAMS_HASH_OFFSET, paramsHash);
+        buffer.putInt(offset + DAYS_OFFSET, forecast.size());
+        buffer.putLong(offset + FETCHED_AT_OFFSET, fetchedAt.toEpochMilli());
+
+        for (int day = 0; day < forecast.size(); day++) {
+            buffer.putInt(intColumn(offset, 0, day), forecast.epochDay(day));
+            buffer.putInt(intColumn(offset, 1, day), forecast.weatherCode(day));
+            buffer.putDouble(doubleColumn(offset, 0, day), forecast.minTemperature(day));
+            buffer.putDouble(doubleColumn(offset, 1, day), forecast.maxTemperature(day));
+            buffer.putDouble(doubleColumn(offset, 2, day), forecast.sunshineHours(day));
+            buffer.putDouble(doubleColumn(offset, 3, day), forecast.pressure(day));
+        }
+
+        buffer.putInt(offset + CRC_OFFSET, checksum(offset));
+        buffer.putInt(offset + STATUS_OFFSET, OCCUPIED);
+    }
+
+    private int checksum(int offset) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset + LATITUDE_OFFSET, recordSize - LATITUDE_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private int intColumn(int offset, int column, int day) {
+        return offset + COLUMNS_OFFSET + (column * maxDays + day) * Integer.BYTES;
+    }
+
+    private int doubleColumn(int offset, int column, int day) {
+        return offset + COLUMNS_OFFSET + INT_COLUMNS * maxDays * Integer.BYTES + (column * maxDays + day) * Double.BYTES;
+    }
+}
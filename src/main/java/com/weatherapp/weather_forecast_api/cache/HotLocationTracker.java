@@ -0,0 +1,69 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Approximate request counts per grid cell. Counts are halved on every {@link #decay()}, so the
+ * hottest cells reflect recent traffic. The number of tracked cells is bounded like the forecast
+ * cache, with Caffeine's frequency-based eviction keeping the popular ones.
+ */
+@Component
+public class HotLocationTracker {
+    private final Cache<ForecastKey, LongAdder> requestCounts;
+
+    @Autowired
+    public HotLocationTracker(CacheConfig cacheConfig) {
+        this.requestCounts = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .build();
+    }
+
+    public void record(ForecastKey key) {
+        requestCounts.get(key, k -> new LongAdder()).increment();
+    }
+
+    public List<ForecastKey> hottest(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Map.Entry<ForecastKey, Long>> top = new PriorityQueue<>(limit + 1, Map.Entry.comparingByValue());
+        requestCounts.asMap().forEach((key, count) -> {
+            top.add(Map.entry(key, count.sum()));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+
+        List<Map.Entry<ForecastKey, Long>> sorted = new ArrayList<>(top);
+        sorted.sort(Map.Entry.<ForecastKey, Long>comparingByValue(Comparator.reverseOrder()));
+        return sorted.stream().map(Map.Entry::getKey).toList();
+    }
+
+    public void decay() {
+        requestCounts.asMap().forEach((key, count) -> {
+            long current = count.sumThenReset();
+            if (current > 1) {
+                count.add(current / 2);
+            } else {
+                requestCounts.asMap().remove(key, count);
+            }
+        });
+    }
+
+    public long size() {
+        return requestCounts.estimatedSize();
+    }
+}
@@ -0,0 +1,56 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import com.weatherapp.weather_forecast_api.model.HourlyForecastColumns;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hourly forecasts per grid cell until the next model update. Entries hold the full hourly
+ * columns, so every resolution is computed from the same cached forecast.
+ */
+@Component
+public class HourlyForecastCache {
+    private final boolean enabled;
+    private final Cache<ForecastKey, HourlyForecastColumns> cache;
+
+    @Autowired
+    public HourlyForecastCache(CacheConfig cacheConfig) {
+        this(cacheConfig, Clock.systemUTC());
+    }
+
+    HourlyForecastCache(CacheConfig cacheConfig, Clock clock) {
+        this.enabled = cacheConfig.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfter(new ModelUpdateExpiry<ForecastKey, HourlyForecastColumns>(cacheConfig, clock))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+    }
+
+    public HourlyForecastColumns getIfPresent(ForecastKey key) {
+        return enabled ? cache.getIfPresent(key) : null;
+    }
+
+    public HourlyForecastColumns put(ForecastKey key, HourlyForecastColumns weatherData) {
+        if (enabled) {
+            cache.put(key, weatherData);
+        }
+        return weatherData;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,53 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Expires entries at the next Open-Meteo model update boundary instead of after a fixed TTL,
+ * so a forecast fetched just before a new model run is not served long after it is superseded.
+ */
+public class ModelUpdateExpiry<K, V> implements Expiry<K, V> {
+    private final Clock clock;
+    private final long intervalMillis;
+    private final long offsetMillis;
+    private final long minimumTtlMillis;
+
+    public ModelUpdateExpiry(CacheConfig cacheConfig, Clock clock) {
+        this.clock = clock;
+        this.intervalMillis = cacheConfig.getModelUpdateInterval().toMillis();
+        this.offsetMillis = cacheConfig.getModelUpdateOffset().toMillis();
+        this.minimumTtlMillis = cacheConfig.getMinimumTtl().toMillis();
+    }
+
+    public Instant lastUpdate() {
+        long now = clock.millis();
+        return Instant.ofEpochMilli(now - Math.floorMod(now - offsetMillis, intervalMillis));
+    }
+
+    public Duration timeToNextUpdate() {
+        long now = clock.millis();
+        long sinceEpochBoundary = Math.floorMod(now - offsetMillis, intervalMillis);
+        long untilNextUpdate = intervalMillis - sinceEpochBoundary;
+        return Duration.ofMillis(Math.max(untilNextUpdate, minimumTtlMillis));
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V value, long currentTime) {
+        return timeToNextUpdate().toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return timeToNextUpdate().toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
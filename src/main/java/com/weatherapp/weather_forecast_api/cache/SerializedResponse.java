@@ -0,0 +1,16 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+/**
+ * Finished JSON body of a response together with its gzip-compressed variant and a strong ETag
+ * (quoted) derived from the JSON bytes.
+ */
+public record SerializedResponse(byte[] json, byte[] gzip, String etag) {
+
+    /**
+     * Strong ETag of the gzip variant. The two encodings are different byte sequences, so they
+     * must not share a strong validator.
+     */
+    public String gzipEtag() {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+}
@@ -0,0 +1,98 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.ReportView;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized and gzip-compressed response bodies per {@link WeatherReport} and {@link ReportView}.
+ * Like {@link WeatherReportCache}, keys are weak and compared by identity, so the bytes live
+ * exactly as long as the cached report they were written from. Each body is serialized and
+ * compressed once per model run instead of on every request.
+ */
+@Component
+public class SerializedResponseCache {
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final PipelineMetrics pipelineMetrics;
+    private final Map<ReportView, Cache<WeatherReport, SerializedResponse>> caches = new EnumMap<>(ReportView.class);
+
+    @Autowired
+    public SerializedResponseCache(CacheConfig cacheConfig, ObjectMapper objectMapper, PipelineMetrics pipelineMetrics) {
+        this.enabled = cacheConfig.isEnabled();
+        this.objectMapper = objectMapper;
+        this.pipelineMetrics = pipelineMetrics;
+        for (ReportView view : ReportView.values()) {
+            caches.put(view, Caffeine.newBuilder()
+                    .weakKeys()
+                    .maximumSize(cacheConfig.getMaximumSize())
+                    .build());
+        }
+    }
+
+    public SerializedResponse get(WeatherReport report, ReportView view) {
+        return enabled
+                ? caches.get(view).get(report, r -> serialize(r, view))
+                : serialize(report, view);
+    }
+
+    public void invalidateAll() {
+        caches.values().forEach(Cache::invalidateAll);
+    }
+
+    private SerializedResponse serialize(WeatherReport report, ReportView view) {
+        byte[] json = pipelineMetrics.time(PipelineMetrics.Stage.SERIALIZATION, () -> writeJson(view.body(report)));
+        return new SerializedResponse(json, gzip(json), etag(json));
+    }
+
+    private byte[] writeJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response: " + e.getMessage(), e);
+        }
+    }
+
+    // Compressed once per model run, so the best compression level is worth its CPU cost.
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Remembers the report computed from a cached forecast list. Keys are weak and compared by
+ * identity, so an entry lives exactly as long as the {@link ForecastCache} entry it was built from.
+ */
+@Component
+public class WeatherReportCache {
+    private final boolean enabled;
+    private final Cache<DailyForecastColumns, WeatherReport> cache;
+
+    @Autowired
+    public WeatherReportCache(CacheConfig cacheConfig) {
+        this.enabled = cacheConfig.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .build();
+    }
+
+    public WeatherReport get(DailyForecastColumns weatherData,
+                             Function<DailyForecastColumns, WeatherReport> reportBuilder) {
+        return enabled ? cache.get(weatherData, reportBuilder) : reportBuilder.apply(weatherData);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
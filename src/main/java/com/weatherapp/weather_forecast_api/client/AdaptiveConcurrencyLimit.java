@@ -0,0 +1,51 @@
+package com.weatherapp.weather_forecast_api.client;
+
+/**
+ * AIMD concurrency limit driven by upstream latency. The limit grows by about one per round trip
+ * while calls finish within {@code latencyTolerance} times the lowest recent latency and the limit
+ * is actually in use. It shrinks by {@code LATENCY_BACKOFF} when latency rises above that, and is
+ * halved when a call fails. Not thread-safe, {@link UpstreamLimiter} calls it under its lock.
+ */
+class AdaptiveConcurrencyLimit {
+
+    private static final double LATENCY_BACKOFF = 0.9;
+    private static final double FAILURE_BACKOFF = 0.5;
+    // The lowest latency is re-measured periodically, so a permanently slower upstream does not
+    // pin the limit to its minimum.
+    private static final int MIN_LATENCY_WINDOW = 256;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private double limit;
+    private long minLatencyNanos = Long.MAX_VALUE;
+    private int samples;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double latencyTolerance) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyTolerance = latencyTolerance;
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    void onSuccess(long latencyNanos, int inFlight) {
+        if (++samples % MIN_LATENCY_WINDOW == 0) {
+            minLatencyNanos = latencyNanos;
+        }
+        minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+
+        if (latencyNanos > minLatencyNanos * latencyTolerance) {
+            limit = Math.max(minLimit, limit * LATENCY_BACKOFF);
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    void onFailure() {
+        limit = Math.max(minLimit, limit * FAILURE_BACKOFF);
+    }
+}
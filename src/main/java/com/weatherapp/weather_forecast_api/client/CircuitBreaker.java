@@ -0,0 +1,120 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import com.weatherapp.weather_forecast_api.exception.UpstreamRejectedException;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Consecutive-failure circuit breaker. After {@code failureThreshold} failed calls in a row, calls
+ * are rejected without reaching the upstream for {@code openDuration}. Then a single trial call is
+ * let through: its success closes the breaker and its failure opens it again. Only errors that
+ * {@link UpstreamLimiter#isOverload} classifies as overload or unavailability are failures; any
+ * other error, such as a 400 for a bad request, shows the upstream answering and counts as a
+ * success. Calls rejected locally with {@link UpstreamRejectedException} never reached the upstream
+ * and count neither way.
+ */
+class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                return Mono.error(new UpstreamRejectedException("Open-Meteo API is unavailable, circuit breaker is open"));
+            }
+
+            return call
+                    .doOnSuccess(value -> onSuccess())
+                    .doOnError(error -> {
+                        if (error instanceof UpstreamRejectedException) {
+                            onCancel();
+                        } else if (UpstreamLimiter.isOverload(error)) {
+                            onFailure();
+                        } else {
+                            onSuccess();
+                        }
+                    })
+                    .doOnCancel(this::onCancel);
+        });
+    }
+
+    State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryAcquire() {
+        lock.lock();
+        try {
+            return switch (state) {
+                case CLOSED -> true;
+                case HALF_OPEN -> false;
+                case OPEN -> {
+                    if (clock.millis() - openedAt < openDurationMillis) {
+                        yield false;
+                    }
+                    state = State.HALF_OPEN;
+                    yield true;
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSuccess() {
+        lock.lock();
+        try {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAt = clock.millis();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // A cancelled or locally rejected trial call proves nothing; the next call gets to try instead.
+    private void onCancel() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                state = State.OPEN;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
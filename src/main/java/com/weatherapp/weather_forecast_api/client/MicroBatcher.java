@@ -0,0 +1,104 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Collects single-location fetches for up to {@code window} and sends them as one multi-location
+ * request. A batch is sent early once it holds {@code maxBatchSize} distinct locations.
+ */
+class MicroBatcher {
+
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Function<List<ForecastKey>, Mono<List<OpenMeteoForecast>>> batchFetcher;
+    // Guards only the pending batch. A full batch is sent after unlocking, so the fetch never starts
+    // while other callers wait to enqueue.
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<ForecastKey, CompletableFuture<OpenMeteoForecast>> pending;
+
+    MicroBatcher(Duration window, int maxBatchSize,
+                 Function<List<ForecastKey>, Mono<List<OpenMeteoForecast>>> batchFetcher) {
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.batchFetcher = batchFetcher;
+    }
+
+    Mono<OpenMeteoForecast> submit(ForecastKey key) {
+        return Mono.defer(() -> Mono.fromFuture(enqueue(key), true));
+    }
+
+    private CompletableFuture<OpenMeteoForecast> enqueue(ForecastKey key) {
+        Map<ForecastKey, CompletableFuture<OpenMeteoForecast>> full = null;
+        CompletableFuture<OpenMeteoForecast> call;
+
+        lock.lock();
+        try {
+            if (pending == null) {
+                Map<ForecastKey, CompletableFuture<OpenMeteoForecast>> batch = new LinkedHashMap<>();
+                pending = batch;
+                Mono.delay(window).subscribe(tick -> flush(batch));
+            }
+            call = pending.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (pending.size() >= maxBatchSize) {
+                full = pending;
+                pending = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full != null) {
+            send(full);
+        }
+        return call;
+    }
+
+    private void flush(Map<ForecastKey, CompletableFuture<OpenMeteoForecast>> batch) {
+        lock.lock();
+        try {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+        } finally {
+            lock.unlock();
+        }
+
+        send(batch);
+    }
+
+    private void send(Map<ForecastKey, CompletableFuture<OpenMeteoForecast>> batch) {
+        List<ForecastKey> keys = new ArrayList<>(batch.keySet());
+
+        batchFetcher.apply(keys)
+                .switchIfEmpty(Mono.error(() -> new WeatherApiException("No response received from Open-Meteo API")))
+                .subscribe(responses -> complete(batch, keys, responses),
+                        error -> batch.values().forEach(call -> call.completeExceptionally(error)));
+    }
+
+    private void complete(Map<ForecastKey, CompletableFuture<OpenMeteoForecast>> batch, List<ForecastKey> keys,
+                          List<OpenMeteoForecast> responses) {
+        if (responses.size() != keys.size()) {
+            WeatherApiException error = new WeatherApiException("Expected " + keys.size()
+                    + " locations from Open-Meteo API but received " + responses.size());
+            batch.values().forEach(call -> call.completeExceptionally(error));
+            return;
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            batch.get(keys.get(i)).complete(responses.get(i));
+        }
+    }
+}
@@ -3,43 +3,175 @@ package com.weatherapp.weather_forecast_api.client;
 
 import com.weatherapp.weather_forecast_api.config.ApiConfig;
 import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
-import com.weatherapp.weather_forecast_api.model.OpenMeteo;
-import lombok.RequiredArgsConstructor;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoHourlyForecast;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class OpenMeteoClient {
 
     private final ApiConfig apiConfig;
-    private final WebClient.Builder webClientBuilder;
-
-    public OpenMeteo fetchWeatherForecast(Double latitude, Double longitude) {
-        try {
-            log.info("Fetching weather forecast for lat: {}, lon: {}", latitude, longitude);
-
-            WebClient webClient = webClientBuilder
-                    .baseUrl(apiConfig.getBaseUrl()).build();
-
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(apiConfig.getForecastPath())
-                            .queryParam("latitude", latitude)
-                            .queryParam("longitude", longitude)
-                            .queryParam("daily", apiConfig.getDailyParams())
-                            .queryParam("timezone", apiConfig.getTimezone())
-                            .queryParam("forecast_days", apiConfig.getForecastDays())
-                            .build())
-                    .retrieve()
-                    .bodyToMono(OpenMeteo.class)
-                    .block();
-
-        } catch (Exception e) {
-            log.error("Error calling Open-Meteo API: {}", e.getMessage(), e);
-            throw new WeatherApiException("Failed to fetch weather data: " + e.getMessage());
+    private final WebClient openMeteoWebClient;
+    private final PipelineMetrics pipelineMetrics;
+    private final MicroBatcher microBatcher;
+    private final CircuitBreaker circuitBreaker;
+    private final UpstreamLimiter upstreamLimiter;
+
+    @Autowired
+    public OpenMeteoClient(ApiConfig apiConfig, WebClient openMeteoWebClient, PipelineMetrics pipelineMetrics) {
+        this.apiConfig = apiConfig;
+        this.openMeteoWebClient = openMeteoWebClient;
+        this.pipelineMetrics = pipelineMetrics;
+        this.microBatcher = apiConfig.getMicroBatchWindow().isPositive()
+                ? new MicroBatcher(apiConfig.getMicroBatchWindow(), apiConfig.getMicroBatchMaxSize(),
+                this::fetchWeatherForecastsReactive)
+                : null;
+        this.circuitBreaker = apiConfig.getCircuitBreakerFailureThreshold() > 0
+                ? new CircuitBreaker(apiConfig.getCircuitBreakerFailureThreshold(),
+                apiConfig.getCircuitBreakerOpenDuration(), Clock.systemUTC())
+                : null;
+        this.upstreamLimiter = new UpstreamLimiter(
+                apiConfig.getRateLimitPerSecond() > 0
+                        ? new TokenBucket(apiConfig.getRateLimitPerSecond(), apiConfig.getRateLimitBurst(), System::nanoTime)
+                        : null,
+                new AdaptiveConcurrencyLimit(apiConfig.getConcurrencyLimitInitial(), apiConfig.getConcurrencyLimitMin(),
+                        apiConfig.getConcurrencyLimitMax(), apiConfig.getConcurrencyLimitLatencyTolerance()),
+                apiConfig.getLimiterQueueSize(),
+                apiConfig.getLimiterMaxWait(),
+                Schedulers.parallel(),
+                System::nanoTime,
+                pipelineMetrics);
+    }
+
+    public OpenMeteoForecast fetchWeatherForecast(Double latitude, Double longitude) {
+        return fetchWeatherForecastReactive(latitude, longitude).block();
+    }
+
+    public Mono<OpenMeteoForecast> fetchWeatherForecastReactive(Double latitude, Double longitude) {
+        if (microBatcher != null) {
+            return microBatcher.submit(new ForecastKey(latitude, longitude,
+                    apiConfig.getForecastDays(), apiConfig.getDailyParams()));
         }
+
+        return Mono.defer(() -> {
+                    log.info("Fetching weather forecast for lat: {}, lon: {}", latitude, longitude);
+
+                    return openMeteoWebClient.get()
+                            .uri(uriBuilder -> uriBuilder
+                                    .path(apiConfig.getForecastPath())
+                                    .queryParam("latitude", latitude)
+                                    .queryParam("longitude", longitude)
+                                    .queryParam("daily", apiConfig.getDailyParams())
+                                    .queryParam("timezone", apiConfig.getTimezone())
+                                    .queryParam("forecast_days", apiConfig.getForecastDays())
+                                    .build())
+                            .retrieve()
+                            .bodyToMono(OpenMeteoForecast.class);
+                })
+                .transform(fetch -> pipelineMetrics.time(PipelineMetrics.Stage.FETCH, fetch))
+                .transform(upstreamLimiter::limit)
+                .transform(this::withCircuitBreaker)
+                .onErrorMap(e -> !(e instanceof WeatherApiException), this::toWeatherApiException);
+    }
+
+    public Mono<OpenMeteoHourlyForecast> fetchHourlyForecastReactive(Double latitude, Double longitude) {
+        return Mono.defer(() -> {
+                    log.info("Fetching hourly forecast for lat: {}, lon: {}", latitude, longitude);
+
+                    return openMeteoWebClient.get()
+                            .uri(uriBuilder -> uriBuilder
+                                    .path(apiConfig.getForecastPath())
+                                    .queryParam("latitude", latitude)
+                                    .queryParam("longitude", longitude)
+                                    .queryParam("hourly", apiConfig.getHourlyParams())
+                                    .queryParam("timezone", apiConfig.getTimezone())
+                                    .queryParam("forecast_days", apiConfig.getForecastDays())
+                                    .build())
+                            .retrieve()
+                            .bodyToMono(OpenMeteoHourlyForecast.class);
+                })
+                .transform(fetch -> pipelineMetrics.time(PipelineMetrics.Stage.FETCH, fetch))
+                .transform(upstreamLimiter::limit)
+                .transform(this::withCircuitBreaker)
+                .onErrorMap(e -> !(e instanceof WeatherApiException), this::toWeatherApiException);
+    }
+
+    public Mono<List<OpenMeteoForecast>> fetchWeatherForecastsReactive(List<ForecastKey> locations) {
+        return Mono.defer(() -> {
+                    log.info("Fetching weather forecasts for {} locations", locations.size());
+
+                    return openMeteoWebClient.get()
+                            .uri(uriBuilder -> uriBuilder
+                                    .path(apiConfig.getForecastPath())
+                                    .queryParam("latitude", joinCoordinates(locations, ForecastKey::latitude))
+                                    .queryParam("longitude", joinCoordinates(locations, ForecastKey::longitude))
+                                    .queryParam("daily", apiConfig.getDailyParams())
+                                    .queryParam("timezone", apiConfig.getTimezone())
+                                    .queryParam("forecast_days", apiConfig.getForecastDays())
+                                    .build())
+                            .retrieve()
+                            .bodyToFlux(OpenMeteoForecast.class)
+                            .collectList();
+                })
+                .transform(fetch -> pipelineMetrics.time(PipelineMetrics.Stage.FETCH, fetch))
+                .transform(upstreamLimiter::limit)
+                .transform(this::withCircuitBreaker)
+                .onErrorMap(e -> !(e instanceof WeatherApiException), this::toWeatherApiException);
+    }
+
+    // Archive data lives on a separate host, so its failures do not count towards the forecast circuit
+    // breaker. Both hosts share the account quota, which is why the call still goes through the limiter.
+    public Mono<OpenMeteoForecast> fetchArchiveReactive(Double latitude, Double longitude,
+                                                        LocalDate startDate, LocalDate endDate) {
+        return Mono.defer(() -> {
+                    log.info("Fetching archive for lat: {}, lon: {} from {} to {}", latitude, longitude, startDate, endDate);
+
+                    return openMeteoWebClient.get()
+                            .uri(apiConfig.getArchiveBaseUrl() + apiConfig.getArchivePath(), uriBuilder -> uriBuilder
+                                    .queryParam("latitude", latitude)
+                                    .queryParam("longitude", longitude)
+                                    .queryParam("daily", apiConfig.getDailyParams())
+                                    .queryParam("timezone", apiConfig.getTimezone())
+                                    .queryParam("start_date", startDate)
+                                    .queryParam("end_date", endDate)
+                                    .build())
+                            .retrieve()
+                            .bodyToMono(OpenMeteoForecast.class);
+                })
+                .transform(fetch -> pipelineMetrics.time(PipelineMetrics.Stage.FETCH, fetch))
+                .transform(upstreamLimiter::limit)
+                .onErrorMap(e -> !(e instanceof WeatherApiException), this::toWeatherApiException);
+    }
+
+    // The circuit breaker wraps the limiter: while it is open, calls are turned down before they take a
+    // quota token or a concurrency permit. The limiter's own rejections do not count as breaker failures.
+    private <T> Mono<T> withCircuitBreaker(Mono<T> call) {
+        return circuitBreaker != null ? circuitBreaker.protect(call) : call;
+    }
+
+    private WeatherApiException toWeatherApiException(Throwable e) {
+        log.error("Error calling Open-Meteo API: {}", e.getMessage(), e);
+        return new WeatherApiException("Failed to fetch weather data: " + e.getMessage());
+    }
+
+    private String joinCoordinates(List<ForecastKey> locations, ToDoubleFunction<ForecastKey> coordinate) {
+        return locations.stream()
+                .map(location -> BigDecimal.valueOf(coordinate.applyAsDouble(location)).toPlainString())
+                .collect(Collectors.joining(","));
     }
 }
@@ -0,0 +1,314 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes Open-Meteo forecast JSON straight into {@link OpenMeteoForecast} with a token-level
+ * Jackson parser. Daily arrays are read into primitive buffers sized for the configured number of
+ * forecast days, ISO dates are converted to epoch days from the parser's character buffer, and
+ * fields the API does not use are skipped without being materialised.
+ */
+public class OpenMeteoForecastDecoder implements Decoder<OpenMeteoForecast> {
+
+    static final int INVALID_DATE = Integer.MIN_VALUE;
+    private static final double DEFAULT_TEMPERATURE = 0.0;
+    private static final double DEFAULT_SUNSHINE_SECONDS = 0.0;
+    private static final double DEFAULT_PRESSURE = 1013.25;
+    private static final int DEFAULT_WEATHER_CODE = 0;
+
+    private final JsonFactory jsonFactory;
+    private final int maxInMemorySize;
+    private final int expectedDays;
+    private final PipelineMetrics pipelineMetrics;
+
+    public OpenMeteoForecastDecoder(JsonFactory jsonFactory, int maxInMemorySize, int expectedDays,
+                                    PipelineMetrics pipelineMetrics) {
+        this.jsonFactory = jsonFactory;
+        this.maxInMemorySize = maxInMemorySize;
+        this.expectedDays = Math.max(expectedDays, 1);
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return OpenMeteoForecast.class == elementType.toClass()
+                && (mimeType == null || MediaType.APPLICATION_JSON.isCompatibleWith(mimeType));
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return List.of(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    public Flux<OpenMeteoForecast> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+                                          MimeType mimeType, Map<String, Object> hints) {
+        return DataBufferUtils.join(inputStream, maxInMemorySize)
+                .flatMapIterable(this::decodeAll);
+    }
+
+    @Override
+    public Mono<OpenMeteoForecast> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+                                                MimeType mimeType, Map<String, Object> hints) {
+        return DataBufferUtils.join(inputStream, maxInMemorySize)
+                .flatMap(buffer -> Mono.justOrEmpty(decode(buffer, elementType, mimeType, hints)));
+    }
+
+    @Override
+    public OpenMeteoForecast decode(DataBuffer buffer, ResolvableType targetType,
+                                    MimeType mimeType, Map<String, Object> hints) {
+        List<OpenMeteoForecast> forecasts = decodeAll(buffer);
+        return forecasts.isEmpty() ? null : forecasts.get(0);
+    }
+
+    List<OpenMeteoForecast> decodeAll(DataBuffer buffer) {
+        return pipelineMetrics.time(PipelineMetrics.Stage.DECODE, () -> parseAll(buffer));
+    }
+
+    private List<OpenMeteoForecast> parseAll(DataBuffer buffer) {
+        try (InputStream input = buffer.asInputStream(true);
+             JsonParser parser = jsonFactory.createParser(input)) {
+            List<OpenMeteoForecast> forecasts = new ArrayList<>(1);
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    forecasts.add(readForecast(parser));
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                forecasts.add(readForecast(parser));
+            } else if (token != null) {
+                throw new DecodingException("Unexpected Open-Meteo response token: " + token);
+            }
+
+            return forecasts;
+        } catch (IOException e) {
+            throw new DecodingException("Failed to decode Open-Meteo response: " + e.getMessage(), e);
+        }
+    }
+
+    private OpenMeteoForecast readForecast(JsonParser parser) throws IOException {
+        Double latitude = null;
+        Double longitude = null;
+        Double generationtimeMs = null;
+        DailyReader daily = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "latitude" -> latitude = readNullableDouble(parser, value);
+                case "longitude" -> longitude = readNullableDouble(parser, value);
+                case "generationtime_ms" -> generationtimeMs = readNullableDouble(parser, value);
+                case "daily" -> daily = value == JsonToken.START_OBJECT ? readDaily(parser) : null;
+                default -> parser.skipChildren();
+            }
+        }
+
+        return daily == null
+                ? new OpenMeteoForecast(latitude, longitude, generationtimeMs, 0, null)
+                : new OpenMeteoForecast(latitude, longitude, generationtimeMs, daily.reportedDays(), daily.toColumns());
+    }
+
+    private DailyReader readDaily(JsonParser parser) throws IOException {
+        DailyReader daily = new DailyReader();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            switch (field) {
+                case "time" -> daily.epochDays = readDates(parser, daily);
+                case "temperature_2m_max" -> daily.maxTemperatures = readDoubles(parser, DEFAULT_TEMPERATURE);
+                case "temperature_2m_min" -> daily.minTemperatures = readDoubles(parser, DEFAULT_TEMPERATURE);
+                case "weather_code" -> daily.weatherCodes = readInts(parser, DEFAULT_WEATHER_CODE);
+                case "sunshine_duration" -> daily.sunshineSeconds = readDoubles(parser, DEFAULT_SUNSHINE_SECONDS);
+                case "surface_pressure_mean" -> daily.pressures = readDoubles(parser, DEFAULT_PRESSURE);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return daily;
+    }
+
+    private int[] readDates(JsonParser parser, DailyReader daily) throws IOException {
+        int[] values = new int[expectedDays];
+        int size = 0;
+
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = token == JsonToken.VALUE_STRING
+                    ? parseEpochDay(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())
+                    : skipInvalid(parser);
+        }
+
+        daily.reportedDays = size;
+        return Arrays.copyOf(values, size);
+    }
+
+    private double[] readDoubles(JsonParser parser, double defaultValue) throws IOException {
+        double[] values = new double[expectedDays];
+        int size = 0;
+
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = token.isNumeric() ? parser.getDoubleValue() : skipAndDefault(parser, defaultValue);
+        }
+
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private int[] readInts(JsonParser parser, int defaultValue) throws IOException {
+        int[] values = new int[expectedDays];
+        int size = 0;
+
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = token.isNumeric() ? parser.getValueAsInt() : (int) skipAndDefault(parser, defaultValue);
+        }
+
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private Double readNullableDouble(JsonParser parser, JsonToken token) throws IOException {
+        if (token.isNumeric()) {
+            return parser.getDoubleValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private int skipInvalid(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return INVALID_DATE;
+    }
+
+    private double skipAndDefault(JsonParser parser, double defaultValue) throws IOException {
+        parser.skipChildren();
+        return defaultValue;
+    }
+
+    // Parses yyyy-MM-dd without creating a String or LocalDate.
+    static int parseEpochDay(char[] chars, int offset, int length) {
+        if (length != 10 || chars[offset + 4] != '-' || chars[offset + 7] != '-') {
+            return INVALID_DATE;
+        }
+
+        int year = digits(chars, offset, 4);
+        int month = digits(chars, offset + 5, 2);
+        int day = digits(chars, offset + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID_DATE;
+        }
+
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static int digits(char[] chars, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static final class DailyReader {
+        private int reportedDays;
+        private int[] epochDays;
+        private int[] weatherCodes;
+        private double[] minTemperatures;
+        private double[] maxTemperatures;
+        private double[] sunshineSeconds;
+        private double[] pressures;
+
+        private int reportedDays() {
+            return reportedDays;
+        }
+
+        private DailyForecastColumns toColumns() {
+            int[] dates = epochDays != null ? epochDays : new int[0];
+            int valid = 0;
+            for (int date : dates) {
+                if (date != INVALID_DATE) {
+                    valid++;
+                }
+            }
+
+            int[] days = new int[valid];
+            int[] codes = new int[valid];
+            double[] min = new double[valid];
+            double[] max = new double[valid];
+            double[] sunshine = new double[valid];
+            double[] pressure = new double[valid];
+
+            for (int i = 0, day = 0; i < dates.length; i++) {
+                if (dates[i] == INVALID_DATE) {
+                    continue;
+                }
+                days[day] = dates[i];
+                codes[day] = weatherCodes != null && i < weatherCodes.length ? weatherCodes[i] : DEFAULT_WEATHER_CODE;
+                min[day] = valueAt(minTemperatures, i, DEFAULT_TEMPERATURE);
+                max[day] = valueAt(maxTemperatures, i, DEFAULT_TEMPERATURE);
+                sunshine[day] = valueAt(sunshineSeconds, i, DEFAULT_SUNSHINE_SECONDS) / 3600.0;
+                pressure[day] = valueAt(pressures, i, DEFAULT_PRESSURE);
+                day++;
+            }
+
+            return new DailyForecastColumns(days, codes, min, max, sunshine, pressure);
+        }
+
+        private static double valueAt(double[] column, int index, double defaultValue) {
+            return column != null && index < column.length ? column[index] : defaultValue;
+        }
+    }
+}
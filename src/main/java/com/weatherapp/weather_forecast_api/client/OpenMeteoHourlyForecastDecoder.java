@@ -0,0 +1,248 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.HourlyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoHourlyForecast;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the {@code hourly} block of an Open-Meteo forecast into {@link HourlyForecastColumns}
+ * the same way {@link OpenMeteoForecastDecoder} handles the daily block: values are read token by
+ * token into primitive buffers and local ISO date-times become epoch hours without creating a
+ * String or LocalDateTime.
+ */
+public class OpenMeteoHourlyForecastDecoder implements Decoder<OpenMeteoHourlyForecast> {
+
+    private static final int INVALID_HOUR = Integer.MIN_VALUE;
+    private static final float DEFAULT_TEMPERATURE = 0.0f;
+    private static final float DEFAULT_SUNSHINE_SECONDS = 0.0f;
+    private static final float DEFAULT_RADIATION = 0.0f;
+
+    private final JsonFactory jsonFactory;
+    private final int maxInMemorySize;
+    private final int expectedHours;
+    private final PipelineMetrics pipelineMetrics;
+
+    public OpenMeteoHourlyForecastDecoder(JsonFactory jsonFactory, int maxInMemorySize, int expectedHours,
+                                          PipelineMetrics pipelineMetrics) {
+        this.jsonFactory = jsonFactory;
+        this.maxInMemorySize = maxInMemorySize;
+        this.expectedHours = Math.max(expectedHours, 1);
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return OpenMeteoHourlyForecast.class == elementType.toClass()
+                && (mimeType == null || MediaType.APPLICATION_JSON.isCompatibleWith(mimeType));
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return List.of(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    public Flux<OpenMeteoHourlyForecast> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+                                                MimeType mimeType, Map<String, Object> hints) {
+        return Flux.from(decodeToMono(inputStream, elementType, mimeType, hints));
+    }
+
+    @Override
+    public Mono<OpenMeteoHourlyForecast> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+                                                      MimeType mimeType, Map<String, Object> hints) {
+        return DataBufferUtils.join(inputStream, maxInMemorySize)
+                .flatMap(buffer -> Mono.justOrEmpty(decode(buffer, elementType, mimeType, hints)));
+    }
+
+    @Override
+    public OpenMeteoHourlyForecast decode(DataBuffer buffer, ResolvableType targetType,
+                                          MimeType mimeType, Map<String, Object> hints) {
+        return pipelineMetrics.time(PipelineMetrics.Stage.DECODE, () -> parse(buffer));
+    }
+
+    private OpenMeteoHourlyForecast parse(DataBuffer buffer) {
+        try (InputStream input = buffer.asInputStream(true);
+             JsonParser parser = jsonFactory.createParser(input)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new DecodingException("Unexpected Open-Meteo response token: " + token);
+            }
+
+            return readForecast(parser);
+        } catch (IOException e) {
+            throw new DecodingException("Failed to decode Open-Meteo response: " + e.getMessage(), e);
+        }
+    }
+
+    private OpenMeteoHourlyForecast readForecast(JsonParser parser) throws IOException {
+        Double latitude = null;
+        Double longitude = null;
+        Double generationtimeMs = null;
+        HourlyReader hourly = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "latitude" -> latitude = readNullableDouble(parser, value);
+                case "longitude" -> longitude = readNullableDouble(parser, value);
+                case "generationtime_ms" -> generationtimeMs = readNullableDouble(parser, value);
+                case "hourly" -> hourly = value == JsonToken.START_OBJECT ? readHourly(parser) : null;
+                default -> parser.skipChildren();
+            }
+        }
+
+        return hourly == null
+                ? new OpenMeteoHourlyForecast(latitude, longitude, generationtimeMs, 0, null)
+                : new OpenMeteoHourlyForecast(latitude, longitude, generationtimeMs, hourly.reportedHours, hourly.toColumns());
+    }
+
+    private HourlyReader readHourly(JsonParser parser) throws IOException {
+        HourlyReader hourly = new HourlyReader();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            switch (field) {
+                case "time" -> hourly.epochHours = readTimes(parser, hourly);
+                case "temperature_2m" -> hourly.temperatures = readFloats(parser, DEFAULT_TEMPERATURE);
+                case "sunshine_duration" -> hourly.sunshineSeconds = readFloats(parser, DEFAULT_SUNSHINE_SECONDS);
+                case "shortwave_radiation" -> hourly.radiation = readFloats(parser, DEFAULT_RADIATION);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return hourly;
+    }
+
+    private int[] readTimes(JsonParser parser, HourlyReader hourly) throws IOException {
+        int[] values = new int[expectedHours];
+        int size = 0;
+
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                values[size++] = parseEpochHour(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            } else {
+                parser.skipChildren();
+                values[size++] = INVALID_HOUR;
+            }
+        }
+
+        hourly.reportedHours = size;
+        return Arrays.copyOf(values, size);
+    }
+
+    private float[] readFloats(JsonParser parser, float defaultValue) throws IOException {
+        float[] values = new float[expectedHours];
+        int size = 0;
+
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            if (token.isNumeric()) {
+                values[size++] = parser.getFloatValue();
+            } else {
+                parser.skipChildren();
+                values[size++] = defaultValue;
+            }
+        }
+
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private Double readNullableDouble(JsonParser parser, JsonToken token) throws IOException {
+        if (token.isNumeric()) {
+            return parser.getDoubleValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    // Parses yyyy-MM-ddTHH:mm; minutes are ignored since Open-Meteo reports whole hours.
+    static int parseEpochHour(char[] chars, int offset, int length) {
+        if (length != 16 || chars[offset + 10] != 'T' || chars[offset + 13] != ':') {
+            return INVALID_HOUR;
+        }
+
+        int epochDay = OpenMeteoForecastDecoder.parseEpochDay(chars, offset, 10);
+        int hour = (chars[offset + 11] - '0') * 10 + (chars[offset + 12] - '0');
+        if (epochDay == OpenMeteoForecastDecoder.INVALID_DATE || !Character.isDigit(chars[offset + 11])
+                || !Character.isDigit(chars[offset + 12]) || hour > 23) {
+            return INVALID_HOUR;
+        }
+
+        return epochDay * 24 + hour;
+    }
+
+    private static final class HourlyReader {
+        private int reportedHours;
+        private int[] epochHours;
+        private float[] temperatures;
+        private float[] sunshineSeconds;
+        private float[] radiation;
+
+        private HourlyForecastColumns toColumns() {
+            int[] times = epochHours != null ? epochHours : new int[0];
+            int valid = 0;
+            for (int time : times) {
+                if (time != INVALID_HOUR) {
+                    valid++;
+                }
+            }
+
+            int[] hours = new int[valid];
+            float[] temperature = new float[valid];
+            float[] sunshine = new float[valid];
+            float[] shortwave = new float[valid];
+
+            for (int i = 0, hour = 0; i < times.length; i++) {
+                if (times[i] == INVALID_HOUR) {
+                    continue;
+                }
+                hours[hour] = times[i];
+                temperature[hour] = valueAt(temperatures, i, DEFAULT_TEMPERATURE);
+                sunshine[hour] = valueAt(sunshineSeconds, i, DEFAULT_SUNSHINE_SECONDS);
+                shortwave[hour] = valueAt(radiation, i, DEFAULT_RADIATION);
+                hour++;
+            }
+
+            return new HourlyForecastColumns(hours, temperature, sunshine, shortwave);
+        }
+
+        private static float valueAt(float[] column, int index, float defaultValue) {
+            return column != null && index < column.length ? column[index] : defaultValue;
+        }
+    }
+}
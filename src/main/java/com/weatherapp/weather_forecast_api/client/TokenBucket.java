@@ -0,0 +1,37 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Request quota: refills at {@code ratePerSecond} up to {@code burst} tokens. Not thread-safe,
+ * {@link UpstreamLimiter} calls it under its lock.
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoTime;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double ratePerSecond, int burst, LongSupplier nanoTime) {
+        this.capacity = Math.max(1, burst);
+        this.tokensPerNano = ratePerSecond / 1_000_000_000.0;
+        this.nanoTime = nanoTime;
+        this.tokens = capacity;
+        this.lastRefill = nanoTime.getAsLong();
+    }
+
+    // Takes a token and returns 0, or returns how many nanoseconds remain until a token is available.
+    long tryAcquire() {
+        long now = nanoTime.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+}
@@ -0,0 +1,250 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import com.weatherapp.weather_forecast_api.exception.UpstreamRejectedException;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounds outbound Open-Meteo calls by a request quota ({@link TokenBucket}) and an adaptive
+ * concurrency limit ({@link AdaptiveConcurrencyLimit}). Calls that cannot start right away wait in
+ * a FIFO queue of at most {@code maxQueueSize} entries and fail once they have waited
+ * {@code maxWait}, so a burst is smoothed out instead of turning into 429s. The concurrency limit
+ * backs off on timeouts, 5xx and 429 responses only.
+ */
+class UpstreamLimiter {
+
+    enum Rejection {
+        QUEUE_FULL("queue_full"),
+        DEADLINE("deadline");
+
+        final String tag;
+
+        Rejection(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private static final class Waiter {
+        private final Sinks.Empty<Void> permit = Sinks.empty();
+        private final long enqueuedAt;
+        private boolean granted;
+
+        private Waiter(long enqueuedAt) {
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    private final TokenBucket tokenBucket;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final int maxQueueSize;
+    private final Duration maxWait;
+    private final Scheduler scheduler;
+    private final LongSupplier nanoTime;
+    private final PipelineMetrics pipelineMetrics;
+    // Guards the queue, the in-flight count and the concurrency limit. Waiters are woken after
+    // unlocking, because granting a permit starts the waiting call on the releasing thread.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private int inFlight;
+    private boolean drainScheduled;
+
+    UpstreamLimiter(TokenBucket tokenBucket, AdaptiveConcurrencyLimit concurrencyLimit, int maxQueueSize,
+                    Duration maxWait, Scheduler scheduler, LongSupplier nanoTime, PipelineMetrics pipelineMetrics) {
+        this.tokenBucket = tokenBucket;
+        this.concurrencyLimit = concurrencyLimit;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWait = maxWait;
+        this.scheduler = scheduler;
+        this.nanoTime = nanoTime;
+        this.pipelineMetrics = pipelineMetrics;
+        pipelineMetrics.registerUpstreamLimits(this::limit, this::inFlight, this::queued);
+    }
+
+    <T> Mono<T> limit(Mono<T> call) {
+        return acquire().then(Mono.defer(() -> {
+            long started = nanoTime.getAsLong();
+            return call
+                    .doOnSuccess(value -> release(nanoTime.getAsLong() - started, false))
+                    .doOnError(error -> release(isOverload(error) ? nanoTime.getAsLong() - started : -1,
+                            isOverload(error)))
+                    .doOnCancel(() -> release(-1, false));
+        }));
+    }
+
+    // Only errors that signal an overloaded or unreachable upstream shrink the limit: a 5xx or 429,
+    // a connection that could not be made and a timeout. Other errors, such as a 4xx or a body that
+    // fails to decode, say nothing about load and leave it unchanged. The circuit breaker counts
+    // failures by the same rule.
+    static boolean isOverload(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError()
+                    || response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        if (error instanceof WebClientRequestException) {
+            return true;
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return concurrencyLimit.limit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            Waiter waiter;
+            lock.lock();
+            try {
+                if (waiters.isEmpty() && tryStart() == 0) {
+                    return Mono.empty();
+                }
+                if (waiters.size() >= maxQueueSize) {
+                    pipelineMetrics.recordUpstreamRejection(Rejection.QUEUE_FULL.tag);
+                    return Mono.error(new UpstreamRejectedException("Too many pending Open-Meteo API requests"));
+                }
+                waiter = new Waiter(nanoTime.getAsLong());
+                waiters.addLast(waiter);
+            } finally {
+                lock.unlock();
+            }
+
+            drain();
+            return waiter.permit.asMono()
+                    .doOnCancel(() -> abandon(waiter))
+                    .timeout(maxWait, scheduler)
+                    .onErrorMap(TimeoutException.class, e -> {
+                        pipelineMetrics.recordUpstreamRejection(Rejection.DEADLINE.tag);
+                        return new UpstreamRejectedException("Timed out waiting for an Open-Meteo API request slot");
+                    });
+        });
+    }
+
+    // Returns 0 when the call may start, otherwise the nanoseconds until the quota has a token.
+    // Concurrency is checked first, so a call that has to wait anyway does not use up a token.
+    private long tryStart() {
+        if (inFlight >= concurrencyLimit.limit()) {
+            return -1;
+        }
+        long tokenWait = tokenBucket != null ? tokenBucket.tryAcquire() : 0;
+        if (tokenWait == 0) {
+            inFlight++;
+        }
+        return tokenWait;
+    }
+
+    private void release(long latencyNanos, boolean failed) {
+        lock.lock();
+        try {
+            if (failed) {
+                concurrencyLimit.onFailure();
+            } else if (latencyNanos >= 0) {
+                concurrencyLimit.onSuccess(latencyNanos, inFlight);
+            }
+            inFlight--;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    private void abandon(Waiter waiter) {
+        boolean releasePermit;
+        lock.lock();
+        try {
+            releasePermit = !waiters.remove(waiter) && waiter.granted;
+        } finally {
+            lock.unlock();
+        }
+        if (releasePermit) {
+            release(-1, false);
+        }
+    }
+
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        long retryInNanos = 0;
+        lock.lock();
+        try {
+            while (!waiters.isEmpty()) {
+                long wait = tryStart();
+                if (wait != 0) {
+                    retryInNanos = wait;
+                    break;
+                }
+                Waiter waiter = waiters.pollFirst();
+                waiter.granted = true;
+                granted.add(waiter);
+            }
+            // Waiting for a token: nothing else would wake the queue up, so schedule a retry.
+            if (retryInNanos > 0 && !drainScheduled) {
+                drainScheduled = true;
+            } else {
+                retryInNanos = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        long now = nanoTime.getAsLong();
+        for (Waiter waiter : granted) {
+            pipelineMetrics.recordUpstreamQueueWait(now - waiter.enqueuedAt);
+            waiter.permit.tryEmitEmpty();
+        }
+        if (retryInNanos > 0) {
+            scheduler.schedule(this::scheduledDrain, retryInNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void scheduledDrain() {
+        lock.lock();
+        try {
+            drainScheduled = false;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+}
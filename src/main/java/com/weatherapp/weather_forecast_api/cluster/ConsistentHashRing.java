@@ -0,0 +1,48 @@
+package com.weatherapp.weather_forecast_api.cluster;
+
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Assigns grid cells to cluster members. Every member is placed on the ring at
+ * {@code virtualNodes} points, and a cell belongs to the first member at or after the hash of its
+ * coordinates. Adding or removing a member only moves the cells next to its points.
+ */
+public class ConsistentHashRing {
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<String> members, int virtualNodes) {
+        if (members.isEmpty() || virtualNodes <= 0) {
+            throw new IllegalArgumentException("Consistent hash ring needs at least one member and virtual node");
+        }
+
+        for (String member : members) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(member + "#" + i), member);
+            }
+        }
+    }
+
+    public String owner(ForecastKey key) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key.latitude() + "," + key.longitude()));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    // MD5 spreads similar inputs such as neighbouring coordinates evenly over the ring.
+    private static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+}
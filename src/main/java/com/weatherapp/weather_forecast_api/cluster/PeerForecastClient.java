@@ -0,0 +1,141 @@
+package com.weatherapp.weather_forecast_api.cluster;
+
+import com.weatherapp.weather_forecast_api.config.ClusterConfig;
+import com.weatherapp.weather_forecast_api.dto.PeerForecastResponse;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+/**
+ * Asks the cluster member that owns a grid cell for its forecast before this instance goes to
+ * Open-Meteo itself. Completes empty when clustering is disabled, when this instance is the owner,
+ * or when the owner cannot answer, so the caller falls back to the upstream fetch. When the owner
+ * answers 503 because Open-Meteo failed for it, that failure is signalled as a
+ * {@link WeatherApiException} instead, so the caller remembers it rather than repeating the fetch.
+ * A member that cannot be reached, times out or answers 404 is skipped for {@code peerBackoff}, so
+ * while it is down requests go straight to Open-Meteo instead of each waiting out {@code peerTimeout}.
+ */
+@Component
+@Slf4j
+public class PeerForecastClient {
+    public static final String PEER_FORECAST_PATH = "/internal/forecast";
+    public static final String PEER_SECRET_HEADER = "X-Cluster-Secret";
+    private static final ParameterizedTypeReference<Map<String, Object>> ERROR_BODY = new ParameterizedTypeReference<>() {
+    };
+
+    private final String self;
+    private final String sharedSecret;
+    private final ConsistentHashRing ring;
+    private final Duration peerTimeout;
+    private final long peerBackoffNanos;
+    private final LongSupplier nanoTime;
+    private final Map<String, Long> unavailableUntil = new ConcurrentHashMap<>();
+    private final WebClient webClient;
+
+    @Autowired
+    public PeerForecastClient(ClusterConfig clusterConfig, WebClient.Builder webClientBuilder) {
+        this(clusterConfig, webClientBuilder, System::nanoTime);
+    }
+
+    PeerForecastClient(ClusterConfig clusterConfig, WebClient.Builder webClientBuilder, LongSupplier nanoTime) {
+        this.self = clusterConfig.getSelf();
+        this.sharedSecret = clusterConfig.getSharedSecret();
+        this.peerTimeout = clusterConfig.getPeerTimeout();
+        this.peerBackoffNanos = clusterConfig.getPeerBackoff().toNanos();
+        this.nanoTime = nanoTime;
+        this.webClient = webClientBuilder.clone().build();
+        if (!clusterConfig.isEnabled()) {
+            this.ring = null;
+            return;
+        }
+
+        if (!clusterConfig.getMembers().contains(self)) {
+            throw new IllegalStateException("weather.cluster.self (" + self + ") must be one of weather.cluster.members");
+        }
+        if (sharedSecret == null || sharedSecret.isBlank()) {
+            throw new IllegalStateException("weather.cluster.shared-secret must be set when cluster mode is enabled");
+        }
+        this.ring = new ConsistentHashRing(clusterConfig.getMembers(), clusterConfig.getVirtualNodes());
+        log.info("Cluster mode enabled as {} with members {}", self, clusterConfig.getMembers());
+    }
+
+    public Mono<DailyForecastColumns> fetchFromOwner(ForecastKey key) {
+        if (ring == null) {
+            return Mono.empty();
+        }
+
+        String owner = ring.owner(key);
+        if (owner.equals(self) || isBackingOff(owner)) {
+            return Mono.empty();
+        }
+
+        return webClient.get()
+                .uri(UriComponentsBuilder.fromUriString(owner)
+                        .path(PEER_FORECAST_PATH)
+                        .queryParam("latitude", BigDecimal.valueOf(key.latitude()).toPlainString())
+                        .queryParam("longitude", BigDecimal.valueOf(key.longitude()).toPlainString())
+                        .build()
+                        .toUri())
+                .header(PEER_SECRET_HEADER, sharedSecret)
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        response -> response.bodyToMono(ERROR_BODY)
+                                .map(body -> new WeatherApiException(String.valueOf(body.get("message"))))
+                                .defaultIfEmpty(new WeatherApiException("Cluster member " + owner
+                                        + " could not fetch forecast for " + key)))
+                .bodyToMono(PeerForecastResponse.class)
+                .timeout(peerTimeout)
+                .map(PeerForecastResponse::toColumns)
+                .doOnNext(forecast -> unavailableUntil.remove(owner))
+                .onErrorResume(e -> {
+                    if (e instanceof WeatherApiException) {
+                        return Mono.error(e);
+                    }
+                    if (isUnavailable(e)) {
+                        log.warn("Cluster member {} could not serve forecast for {}, skipping it for {}: {}",
+                                owner, key, Duration.ofNanos(peerBackoffNanos), e.getMessage());
+                        unavailableUntil.put(owner, nanoTime.getAsLong() + peerBackoffNanos);
+                    } else {
+                        log.debug("Cluster member {} could not serve forecast for {}: {}", owner, key, e.getMessage());
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    // Only a member that cannot be reached, does not answer in time or does not know the endpoint
+    // (a wrong secret or an outdated member list) is backed off from. Any other error is a one-off.
+    private static boolean isUnavailable(Throwable error) {
+        return error instanceof WebClientRequestException
+                || error instanceof TimeoutException
+                || error instanceof WebClientResponseException.NotFound;
+    }
+
+    private boolean isBackingOff(String member) {
+        Long until = unavailableUntil.get(member);
+        if (until == null) {
+            return false;
+        }
+        if (nanoTime.getAsLong() - until < 0) {
+            return true;
+        }
+        unavailableUntil.remove(member, until);
+        return false;
+    }
+}
@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "weather.api")
 @Data
@@ -11,6 +13,25 @@ public class ApiConfig {
     private String baseUrl = "https://api.open-meteo.com";
     private String forecastPath = "/v1/forecast";
     private String dailyParams = "temperature_2m_max,temperature_2m_min,weather_code,surface_pressure_mean,sunshine_duration";
+    private String hourlyParams = "temperature_2m,sunshine_duration,shortwave_radiation";
     private String timezone = "auto";
     private Integer forecastDays = 7;
+    private String archiveBaseUrl = "https://archive-api.open-meteo.com";
+    private String archivePath = "/v1/archive";
+    private Integer archiveChunkDays = 365;
+    private Integer batchChunkSize = 100;
+    private Integer batchConcurrency = 4;
+    private Integer streamConcurrency = 16;
+    private Duration microBatchWindow = Duration.ZERO;
+    private Integer microBatchMaxSize = 50;
+    private Integer circuitBreakerFailureThreshold = 5;
+    private Duration circuitBreakerOpenDuration = Duration.ofSeconds(30);
+    private Double rateLimitPerSecond = 10.0;
+    private Integer rateLimitBurst = 20;
+    private Integer concurrencyLimitInitial = 20;
+    private Integer concurrencyLimitMin = 2;
+    private Integer concurrencyLimitMax = 200;
+    private Double concurrencyLimitLatencyTolerance = 2.0;
+    private Integer limiterQueueSize = 1000;
+    private Duration limiterMaxWait = Duration.ofSeconds(2);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.weatherapp.weather_forecast_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "weather.cache")
+@Data
+public class CacheConfig {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private double gridResolution = 0.01;
+    private Duration modelUpdateInterval = Duration.ofHours(1);
+    private Duration modelUpdateOffset = Duration.ZERO;
+    private Duration minimumTtl = Duration.ofMinutes(1);
+    private Duration staleTtl = Duration.ofHours(24);
+    private Duration failureTtl = Duration.ofSeconds(10);
+}
@@ -0,0 +1,22 @@
+package com.weatherapp.weather_forecast_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "weather.cluster")
+@Data
+public class ClusterConfig {
+    private boolean enabled = false;
+    private String self;
+    private String sharedSecret;
+    private List<String> members = new ArrayList<>();
+    private int virtualNodes = 128;
+    private Duration peerTimeout = Duration.ofMillis(500);
+    private Duration peerBackoff = Duration.ofSeconds(10);
+}
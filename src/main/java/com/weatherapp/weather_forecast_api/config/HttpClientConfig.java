@@ -0,0 +1,26 @@
+package com.weatherapp.weather_forecast_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "weather.http")
+@Data
+public class HttpClientConfig {
+    private int maxConnections = 200;
+    private int pendingAcquireMaxCount = 1_000;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    private Duration evictionInterval = Duration.ofSeconds(30);
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    private boolean compression = true;
+    private boolean pooledBuffers = true;
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(2);
+    private boolean poolMetrics = true;
+}
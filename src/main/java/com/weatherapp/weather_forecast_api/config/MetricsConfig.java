@@ -0,0 +1,29 @@
+package com.weatherapp.weather_forecast_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.metrics.TimedJackson2HttpMessageConverter;
+import com.weatherapp.weather_forecast_api.metrics.TimedJackson2JsonEncoder;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   PipelineMetrics pipelineMetrics) {
+        return new TimedJackson2HttpMessageConverter(objectMapper, pipelineMetrics);
+    }
+
+    // Runs after Boot's Jackson codec customizer so the timed encoder replaces the default one.
+    @Bean
+    @Order(1)
+    public CodecCustomizer timedJacksonCodecCustomizer(ObjectMapper objectMapper, PipelineMetrics pipelineMetrics) {
+        return configurer -> configurer.defaultCodecs()
+                .jackson2JsonEncoder(new TimedJackson2JsonEncoder(objectMapper, pipelineMetrics));
+    }
+}
@@ -0,0 +1,16 @@
+package com.weatherapp.weather_forecast_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "weather.portfolio")
+@Data
+public class PortfolioConfig {
+    private int forkThreshold = 512;
+    private int rankingConcurrency = 4;
+    private Duration rankingDeadline = Duration.ofSeconds(5);
+}
@@ -0,0 +1,18 @@
+package com.weatherapp.weather_forecast_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "weather.refresh")
+@Data
+public class RefreshConfig {
+    private boolean enabled = true;
+    private int hotLocations = 100;
+    private int maxConcurrency = 4;
+    private Duration jitter = Duration.ofSeconds(30);
+    private Duration checkInterval = Duration.ofSeconds(10);
+}
@@ -0,0 +1,12 @@
+package com.weatherapp.weather_forecast_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "weather.solar")
+@Data
+public class SolarConfig {
+    private boolean vectorApi = true;
+}
@@ -0,0 +1,18 @@
+package com.weatherapp.weather_forecast_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+@Component
+@ConfigurationProperties(prefix = "weather.store")
+@Data
+public class StoreConfig {
+    private boolean enabled = false;
+    private Path path = Path.of("forecast-store.dat");
+    private int capacity = 10_000;
+    private int maxDays = 16;
+    private int writeQueueSize = 1_000;
+}
@@ -0,0 +1,23 @@
+package com.weatherapp.weather_forecast_api.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Reactor reads this flag once, when its schedulers are first initialised, so it has to be set
+ * before the context starts rather than from a bean.
+ */
+public class VirtualThreadEnvironmentPostProcessor implements EnvironmentPostProcessor {
+    static final String VIRTUAL_THREADS_PROPERTY = "spring.threads.virtual.enabled";
+    static final String REACTOR_BOUNDED_ELASTIC_PROPERTY = "reactor.schedulers.defaultBoundedElasticOnVirtualThreads";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        boolean virtualThreads = environment.getProperty(VIRTUAL_THREADS_PROPERTY, Boolean.class, false);
+
+        if (virtualThreads && System.getProperty(REACTOR_BOUNDED_ELASTIC_PROPERTY) == null) {
+            System.setProperty(REACTOR_BOUNDED_ELASTIC_PROPERTY, "true");
+        }
+    }
+}
@@ -1,8 +1,21 @@
 package com.weatherapp.weather_forecast_api.config;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.weatherapp.weather_forecast_api.client.OpenMeteoForecastDecoder;
+import com.weatherapp.weather_forecast_api.client.OpenMeteoHourlyForecastDecoder;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.function.Function;
 
 @Configuration
 public class WebClientConfig {
@@ -11,4 +24,51 @@ public class WebClientConfig {
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openMeteoConnectionProvider(HttpClientConfig httpClientConfig) {
+        return ConnectionProvider.builder("open-meteo")
+                .maxConnections(httpClientConfig.getMaxConnections())
+                .pendingAcquireMaxCount(httpClientConfig.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(httpClientConfig.getPendingAcquireTimeout())
+                .maxIdleTime(httpClientConfig.getMaxIdleTime())
+                .maxLifeTime(httpClientConfig.getMaxLifeTime())
+                .evictInBackground(httpClientConfig.getEvictionInterval())
+                .metrics(httpClientConfig.isPoolMetrics())
+                .build();
+    }
+
+    @Bean
+    public WebClient openMeteoWebClient(WebClient.Builder webClientBuilder,
+                                        ApiConfig apiConfig,
+                                        HttpClientConfig httpClientConfig,
+                                        ConnectionProvider openMeteoConnectionProvider,
+                                        PipelineMetrics pipelineMetrics) {
+        ByteBufAllocator allocator = httpClientConfig.isPooledBuffers()
+                ? PooledByteBufAllocator.DEFAULT
+                : UnpooledByteBufAllocator.DEFAULT;
+
+        HttpClient httpClient = HttpClient.create(openMeteoConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) httpClientConfig.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.ALLOCATOR, allocator)
+                .responseTimeout(httpClientConfig.getReadTimeout())
+                .compress(httpClientConfig.isCompression())
+                .metrics(httpClientConfig.isPoolMetrics(), Function.identity());
+
+        int maxInMemorySize = (int) httpClientConfig.getMaxInMemorySize().toBytes();
+
+        return webClientBuilder.clone()
+                .baseUrl(apiConfig.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(pipelineMetrics.upstreamStatusFilter())
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().maxInMemorySize(maxInMemorySize);
+                    codecs.customCodecs().register(new OpenMeteoForecastDecoder(
+                            new JsonFactory(), maxInMemorySize, apiConfig.getForecastDays(), pipelineMetrics));
+                    codecs.customCodecs().register(new OpenMeteoHourlyForecastDecoder(
+                            new JsonFactory(), maxInMemorySize, apiConfig.getForecastDays() * 24, pipelineMetrics));
+                })
+                .build();
+    }
 }
@@ -0,0 +1,38 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.service.ArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+/**
+ * Streams daily history as newline-delimited JSON. Both Spring MVC and WebFlux write a {@code Flux}
+ * with a streaming media type one element at a time and only request more as the client reads.
+ */
+@RestController
+@CrossOrigin(origins = "*")
+public class ArchiveController {
+
+    private final ArchiveService archiveService;
+
+    @Autowired
+    public ArchiveController(ArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @GetMapping(value = "/api/weather/archive", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DailyForecastDto> getArchive(@RequestParam Double latitude,
+                                             @RequestParam Double longitude,
+                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return archiveService.getDailyHistory(latitude, longitude, startDate, endDate);
+    }
+}
@@ -0,0 +1,82 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.cache.SerializedResponse;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Builds single-location responses from pre-serialized bodies. Every response carries a strong
+ * ETag, and clients that accept gzip get the pre-compressed bytes under their own ETag. A GET whose
+ * {@code If-None-Match} lists either tag gets an empty 304. A POST cannot be revalidated, so per
+ * RFC 9110 a matching {@code If-None-Match} fails it with 412. A report built from the last good
+ * forecast while a refresh is pending is marked with the {@value #STALE_HEADER} header.
+ */
+final class ForecastResponses {
+
+    static final String STALE_HEADER = "X-Forecast-Stale";
+
+    private ForecastResponses() {
+    }
+
+    static ResponseEntity<byte[]> ok(WeatherReport report, SerializedResponse body, HttpHeaders requestHeaders,
+                                     HttpMethod method) {
+        boolean gzip = acceptsGzip(requestHeaders.get(HttpHeaders.ACCEPT_ENCODING));
+        boolean matches = matchesIfNoneMatch(body, requestHeaders.getIfNoneMatch());
+        if (matches && !HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+
+        ResponseEntity.BodyBuilder response = matches
+                ? ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                : ResponseEntity.ok();
+        response.eTag(gzip ? body.gzipEtag() : body.etag())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (report.stale()) {
+            response.header(STALE_HEADER, "true");
+        }
+
+        if (matches) {
+            return response.build();
+        }
+
+        response.contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return response.body(body.json());
+    }
+
+    // If-None-Match uses the weak comparison, so a W/ prefix added by an intermediary still matches.
+    // Both encodings hold the same report, so a cached copy of either one is still current.
+    private static boolean matchesIfNoneMatch(SerializedResponse body, List<String> ifNoneMatch) {
+        for (String etag : ifNoneMatch) {
+            String opaque = etag.replaceFirst("^W/", "");
+            if (etag.equals("*") || opaque.equals(body.etag()) || opaque.equals(body.gzipEtag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(List<String> acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String header : acceptEncoding) {
+            for (String coding : header.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                    return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.dto.BatchForecastRequest;
+import com.weatherapp.weather_forecast_api.dto.LocationForecastEvent;
+import com.weatherapp.weather_forecast_api.service.ForecastStreamService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streams multi-location forecasts as Server-Sent Events or newline-delimited JSON, depending on
+ * the {@code Accept} header. Each location is written as soon as its forecast is ready, so events
+ * arrive in completion order and carry the index of the location they answer.
+ */
+@RestController
+@CrossOrigin(origins = "*")
+public class ForecastStreamController {
+
+    private final ForecastStreamService forecastStreamService;
+
+    @Autowired
+    public ForecastStreamController(ForecastStreamService forecastStreamService) {
+        this.forecastStreamService = forecastStreamService;
+    }
+
+    @PostMapping(value = "/api/weather/forecast/stream",
+            produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<LocationForecastEvent> streamForecasts(@Valid @RequestBody BatchForecastRequest batchRequest) {
+        return forecastStreamService.streamForecasts(batchRequest);
+    }
+}
@@ -0,0 +1,36 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.dto.HourlyForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.model.HourlyResolution;
+import com.weatherapp.weather_forecast_api.service.HourlyForecastService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hourly forecast at a resolution of 1h, 3h, 6h or daily, chosen with the {@code resolution} query
+ * parameter (default {@code 1h}).
+ */
+@RestController
+@CrossOrigin(origins = "*")
+public class HourlyForecastController {
+
+    private final HourlyForecastService hourlyForecastService;
+
+    @Autowired
+    public HourlyForecastController(HourlyForecastService hourlyForecastService) {
+        this.hourlyForecastService = hourlyForecastService;
+    }
+
+    @PostMapping("/api/weather/hourly")
+    public Mono<HourlyForecastResponse> getHourlyForecast(@Valid @RequestBody LocationRequest locationRequest,
+                                                          @RequestParam(defaultValue = "1h") String resolution) {
+        return hourlyForecastService.getHourlyForecast(locationRequest, HourlyResolution.fromParameter(resolution));
+    }
+}
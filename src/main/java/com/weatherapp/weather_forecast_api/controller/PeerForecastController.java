@@ -0,0 +1,61 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.cluster.PeerForecastClient;
+import com.weatherapp.weather_forecast_api.config.ClusterConfig;
+import com.weatherapp.weather_forecast_api.dto.PeerForecastResponse;
+import com.weatherapp.weather_forecast_api.exception.UpstreamRejectedException;
+import com.weatherapp.weather_forecast_api.service.OpenMeteoService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Internal endpoint through which cluster members fetch forecasts of the grid cells this instance
+ * owns. It always goes to Open-Meteo on a miss, so only callers presenting the cluster's shared
+ * secret are served; anyone else gets a 404 as if the endpoint did not exist.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "weather.cluster", name = "enabled", havingValue = "true")
+public class PeerForecastController {
+
+    private final OpenMeteoService openMeteoService;
+    private final byte[] sharedSecret;
+
+    @Autowired
+    public PeerForecastController(OpenMeteoService openMeteoService, ClusterConfig clusterConfig) {
+        this.openMeteoService = openMeteoService;
+        this.sharedSecret = clusterConfig.getSharedSecret() != null
+                ? clusterConfig.getSharedSecret().getBytes(StandardCharsets.UTF_8)
+                : null;
+    }
+
+    @GetMapping(PeerForecastClient.PEER_FORECAST_PATH)
+    public Mono<ResponseEntity<PeerForecastResponse>> getForecast(
+            @RequestHeader(name = PeerForecastClient.PEER_SECRET_HEADER, required = false) String secret,
+            @RequestParam double latitude, @RequestParam double longitude) {
+        if (!isMember(secret)) {
+            return Mono.just(ResponseEntity.notFound().build());
+        }
+
+        // A local rejection is load on this member, not a failure of the cell, so it must not be
+        // answered with the 503 that asks the caller to remember the failure.
+        return openMeteoService.getWeatherForecastForPeer(latitude, longitude)
+                .map(forecast -> ResponseEntity.ok(PeerForecastResponse.from(forecast)))
+                .onErrorResume(UpstreamRejectedException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build()));
+    }
+
+    private boolean isMember(String secret) {
+        return sharedSecret != null && secret != null
+                && MessageDigest.isEqual(sharedSecret, secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,33 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.dto.PortfolioForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.PortfolioRequest;
+import com.weatherapp.weather_forecast_api.service.PortfolioService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Expected solar energy of a portfolio of sites over the forecast horizon, in total, per day and
+ * per region.
+ */
+@RestController
+@CrossOrigin(origins = "*")
+public class PortfolioController {
+
+    private final PortfolioService portfolioService;
+
+    @Autowired
+    public PortfolioController(PortfolioService portfolioService) {
+        this.portfolioService = portfolioService;
+    }
+
+    @PostMapping("/api/weather/portfolio")
+    public Mono<PortfolioForecastResponse> getPortfolioForecast(@Valid @RequestBody PortfolioRequest portfolioRequest) {
+        return portfolioService.getPortfolioForecastReactive(portfolioRequest);
+    }
+}
@@ -0,0 +1,80 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.cache.SerializedResponseCache;
+import com.weatherapp.weather_forecast_api.dto.BatchForecastRequest;
+import com.weatherapp.weather_forecast_api.dto.BatchForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.model.ReportView;
+import com.weatherapp.weather_forecast_api.service.WeatherService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/weather")
+@CrossOrigin(origins = "*")
+public class ReactiveWeatherController {
+
+    private final WeatherService weatherService;
+    private final SerializedResponseCache responseCache;
+
+    @Autowired
+    public ReactiveWeatherController(WeatherService weatherService, SerializedResponseCache responseCache) {
+        this.weatherService = weatherService;
+        this.responseCache = responseCache;
+    }
+
+    @PostMapping("/forecast")
+    public Mono<ResponseEntity<byte[]>> getWeatherForecast(@Valid @RequestBody LocationRequest locationRequest,
+                                                           @RequestHeader HttpHeaders headers) {
+        return respond(locationRequest, ReportView.FORECAST, headers, HttpMethod.POST);
+    }
+
+    @GetMapping("/forecast")
+    public Mono<ResponseEntity<byte[]>> getWeatherForecastByQuery(@Valid LocationRequest locationRequest,
+                                                                  @RequestHeader HttpHeaders headers) {
+        return respond(locationRequest, ReportView.FORECAST, headers, HttpMethod.GET);
+    }
+
+    @PostMapping("/summary")
+    public Mono<ResponseEntity<byte[]>> getWeatherSummary(@Valid @RequestBody LocationRequest locationRequest,
+                                                          @RequestHeader HttpHeaders headers) {
+        return respond(locationRequest, ReportView.SUMMARY, headers, HttpMethod.POST);
+    }
+
+    @GetMapping("/summary")
+    public Mono<ResponseEntity<byte[]>> getWeatherSummaryByQuery(@Valid LocationRequest locationRequest,
+                                                                 @RequestHeader HttpHeaders headers) {
+        return respond(locationRequest, ReportView.SUMMARY, headers, HttpMethod.GET);
+    }
+
+    @PostMapping("/report")
+    public Mono<ResponseEntity<byte[]>> getForecastWithSummary(@Valid @RequestBody LocationRequest locationRequest,
+                                                               @RequestHeader HttpHeaders headers) {
+        return respond(locationRequest, ReportView.REPORT, headers, HttpMethod.POST);
+    }
+
+    @GetMapping("/report")
+    public Mono<ResponseEntity<byte[]>> getForecastWithSummaryByQuery(@Valid LocationRequest locationRequest,
+                                                                      @RequestHeader HttpHeaders headers) {
+        return respond(locationRequest, ReportView.REPORT, headers, HttpMethod.GET);
+    }
+
+    @PostMapping("/forecast/batch")
+    public Mono<ResponseEntity<BatchForecastResponse>> getBatchForecast(@Valid @RequestBody BatchForecastRequest batchRequest) {
+        return weatherService.getBatchForecastReactive(batchRequest)
+                .map(ResponseEntity::ok);
+    }
+
+    private Mono<ResponseEntity<byte[]>> respond(LocationRequest locationRequest, ReportView view, HttpHeaders headers,
+                                                 HttpMethod method) {
+        return weatherService.getWeatherReportReactive(locationRequest)
+                .map(report -> ForecastResponses.ok(report, responseCache.get(report, view), headers, method));
+    }
+}
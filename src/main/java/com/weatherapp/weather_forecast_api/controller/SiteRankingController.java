@@ -0,0 +1,33 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.dto.SiteRankingRequest;
+import com.weatherapp.weather_forecast_api.dto.SiteRankingResponse;
+import com.weatherapp.weather_forecast_api.service.SiteRankingService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Top sites of a portfolio by expected solar energy. The ranking is marked partial when some
+ * forecasts did not arrive before the ranking deadline.
+ */
+@RestController
+@CrossOrigin(origins = "*")
+public class SiteRankingController {
+
+    private final SiteRankingService siteRankingService;
+
+    @Autowired
+    public SiteRankingController(SiteRankingService siteRankingService) {
+        this.siteRankingService = siteRankingService;
+    }
+
+    @PostMapping("/api/weather/portfolio/ranking")
+    public Mono<SiteRankingResponse> rankSites(@Valid @RequestBody SiteRankingRequest rankingRequest) {
+        return siteRankingService.rankSites(rankingRequest);
+    }
+}
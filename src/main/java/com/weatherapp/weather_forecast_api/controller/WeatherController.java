@@ -1,35 +1,79 @@
 package com.weatherapp.weather_forecast_api.controller;
 
+import com.weatherapp.weather_forecast_api.cache.SerializedResponseCache;
+import com.weatherapp.weather_forecast_api.dto.BatchForecastRequest;
+import com.weatherapp.weather_forecast_api.dto.BatchForecastResponse;
 import com.weatherapp.weather_forecast_api.dto.LocationRequest;
-import com.weatherapp.weather_forecast_api.dto.WeatherForecastResponse;
-import com.weatherapp.weather_forecast_api.dto.WeatherSummaryResponse;
+import com.weatherapp.weather_forecast_api.model.ReportView;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
 import com.weatherapp.weather_forecast_api.service.WeatherService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/weather")
 @CrossOrigin(origins = "*")
 public class WeatherController {
 
     private final WeatherService weatherService;
+    private final SerializedResponseCache responseCache;
 
     @Autowired
-    public WeatherController(WeatherService weatherService) {
+    public WeatherController(WeatherService weatherService, SerializedResponseCache responseCache) {
         this.weatherService = weatherService;
+        this.responseCache = responseCache;
     }
 
     @PostMapping("/forecast")
-    public ResponseEntity<WeatherForecastResponse> getWeatherForecast(@Valid @RequestBody LocationRequest locationRequest) {
-        WeatherForecastResponse response = weatherService.getWeatherForecast(locationRequest);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getWeatherForecast(@Valid @RequestBody LocationRequest locationRequest,
+                                                     @RequestHeader HttpHeaders headers) {
+        return respond(weatherService.getWeatherReport(locationRequest), ReportView.FORECAST, headers, HttpMethod.POST);
+    }
+
+    @GetMapping("/forecast")
+    public ResponseEntity<byte[]> getWeatherForecastByQuery(@Valid LocationRequest locationRequest,
+                                                            @RequestHeader HttpHeaders headers) {
+        return respond(weatherService.getWeatherReport(locationRequest), ReportView.FORECAST, headers, HttpMethod.GET);
     }
 
     @PostMapping("/summary")
-    public ResponseEntity<WeatherSummaryResponse> getWeatherSummary(@Valid @RequestBody LocationRequest locationRequest) {
-        WeatherSummaryResponse response = weatherService.getWeatherSummary(locationRequest);
+    public ResponseEntity<byte[]> getWeatherSummary(@Valid @RequestBody LocationRequest locationRequest,
+                                                    @RequestHeader HttpHeaders headers) {
+        return respond(weatherService.getWeatherReport(locationRequest), ReportView.SUMMARY, headers, HttpMethod.POST);
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<byte[]> getWeatherSummaryByQuery(@Valid LocationRequest locationRequest,
+                                                           @RequestHeader HttpHeaders headers) {
+        return respond(weatherService.getWeatherReport(locationRequest), ReportView.SUMMARY, headers, HttpMethod.GET);
+    }
+
+    @PostMapping("/report")
+    public ResponseEntity<byte[]> getForecastWithSummary(@Valid @RequestBody LocationRequest locationRequest,
+                                                         @RequestHeader HttpHeaders headers) {
+        return respond(weatherService.getWeatherReport(locationRequest), ReportView.REPORT, headers, HttpMethod.POST);
+    }
+
+    @GetMapping("/report")
+    public ResponseEntity<byte[]> getForecastWithSummaryByQuery(@Valid LocationRequest locationRequest,
+                                                                @RequestHeader HttpHeaders headers) {
+        return respond(weatherService.getWeatherReport(locationRequest), ReportView.REPORT, headers, HttpMethod.GET);
+    }
+
+    @PostMapping("/forecast/batch")
+    public ResponseEntity<BatchForecastResponse> getBatchForecast(@Valid @RequestBody BatchForecastRequest batchRequest) {
+        BatchForecastResponse response = weatherService.getBatchForecast(batchRequest);
         return ResponseEntity.ok(response);
     }
+
+    private ResponseEntity<byte[]> respond(WeatherReport report, ReportView view, HttpHeaders headers,
+                                           HttpMethod method) {
+        return ForecastResponses.ok(report, responseCache.get(report, view), headers, method);
+    }
 }
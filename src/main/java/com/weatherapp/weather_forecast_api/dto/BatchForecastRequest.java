@@ -0,0 +1,16 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchForecastRequest(
+
+    @NotEmpty(message = "At least one location is required.")
+    @Size(max = 1000, message = "At most 1000 locations can be requested at once.")
+    List<@Valid @NotNull LocationRequest> locations
+
+) {}
@@ -0,0 +1,7 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import java.util.List;
+
+public record BatchForecastResponse(
+        List<LocationForecastResponse> forecasts
+) {}
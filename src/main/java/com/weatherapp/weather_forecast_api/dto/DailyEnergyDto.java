@@ -0,0 +1,12 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+
+public record DailyEnergyDto(
+        @JsonFormat(pattern = "dd/MM/yyyy")
+        LocalDate date,
+        Double energyGenerated
+) {
+}
@@ -0,0 +1,22 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * One interval of an hourly forecast. {@code hours} is the number of hourly values the interval
+ * aggregates: the requested resolution, or fewer at the edges of the forecast range.
+ */
+public record HourlyForecastDto(
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm")
+        LocalDateTime time,
+        int hours,
+        Double temperature,
+        Double minTemperature,
+        Double maxTemperature,
+        Double sunshineHours,
+        Double radiation,
+        Double energyGenerated
+) {
+}
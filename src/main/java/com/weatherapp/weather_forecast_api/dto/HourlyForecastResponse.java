@@ -0,0 +1,8 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import java.util.List;
+
+public record HourlyForecastResponse(
+        List<HourlyForecastDto> forecast
+) {
+}
@@ -0,0 +1,28 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * One location of a streamed forecast request. {@code index} is the position of the location in the
+ * request, since events arrive in completion order. Exactly one of {@code forecast} and {@code error}
+ * is set.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LocationForecastEvent(
+        int index,
+        Double latitude,
+        Double longitude,
+        List<DailyForecastDto> forecast,
+        String error
+) {
+
+    public static LocationForecastEvent forecast(int index, LocationRequest location, List<DailyForecastDto> forecast) {
+        return new LocationForecastEvent(index, location.latitude(), location.longitude(), forecast, null);
+    }
+
+    public static LocationForecastEvent error(int index, LocationRequest location, String error) {
+        return new LocationForecastEvent(index, location.latitude(), location.longitude(), null, error);
+    }
+}
@@ -0,0 +1,10 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import java.util.List;
+
+public record LocationForecastResponse(
+        Double latitude,
+        Double longitude,
+        List<DailyForecastDto> forecast
+) {
+}
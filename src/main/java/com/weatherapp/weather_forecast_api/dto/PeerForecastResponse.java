@@ -0,0 +1,44 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+
+/**
+ * Forecast of one grid cell as exchanged between cluster members, column by column like
+ * {@link DailyForecastColumns}.
+ */
+public record PeerForecastResponse(
+        int[] epochDays,
+        int[] weatherCodes,
+        double[] minTemperatures,
+        double[] maxTemperatures,
+        double[] sunshineHours,
+        double[] pressures
+) {
+
+    public static PeerForecastResponse from(DailyForecastColumns forecast) {
+        int size = forecast.size();
+        int[] epochDays = new int[size];
+        int[] weatherCodes = new int[size];
+        double[] minTemperatures = new double[size];
+        double[] maxTemperatures = new double[size];
+        double[] sunshineHours = new double[size];
+        double[] pressures = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = forecast.epochDay(i);
+            weatherCodes[i] = forecast.weatherCode(i);
+            minTemperatures[i] = forecast.minTemperature(i);
+            maxTemperatures[i] = forecast.maxTemperature(i);
+            sunshineHours[i] = forecast.sunshineHours(i);
+            pressures[i] = forecast.pressure(i);
+        }
+
+        return new PeerForecastResponse(epochDays, weatherCodes, minTemperatures, maxTemperatures,
+                sunshineHours, pressures);
+    }
+
+    public DailyForecastColumns toColumns() {
+        return new DailyForecastColumns(epochDays, weatherCodes, minTemperatures, maxTemperatures,
+                sunshineHours, pressures);
+    }
+}
@@ -0,0 +1,11 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import java.util.List;
+
+public record PortfolioForecastResponse(
+        Integer sites,
+        Double totalEnergy,
+        List<DailyEnergyDto> daily,
+        List<RegionEnergyResponse> regions
+) {
+}
@@ -0,0 +1,16 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record PortfolioRequest(
+
+    @NotEmpty(message = "At least one site is required.")
+    @Size(max = 10000, message = "At most 10000 sites can be requested at once.")
+    List<@Valid @NotNull PortfolioSiteRequest> sites
+
+) {}
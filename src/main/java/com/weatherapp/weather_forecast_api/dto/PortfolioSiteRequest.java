@@ -0,0 +1,37 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record PortfolioSiteRequest(
+
+    String id,
+
+    String region,
+
+    @NotNull(message = "Latitude is required.")
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90.0 and 90.0.")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90.0 and 90.0.")
+    Double latitude,
+
+    @NotNull(message = "Longitude is required.")
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180.0 and 180.0.")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180.0 and 180.0.")
+    Double longitude,
+
+    @NotNull(message = "Peak power is required.")
+    @Positive(message = "Peak power must be positive.")
+    Double peakPowerKw,
+
+    @NotNull(message = "Efficiency is required.")
+    @DecimalMin(value = "0.0", message = "Efficiency must be between 0.0 and 1.0.")
+    @DecimalMax(value = "1.0", message = "Efficiency must be between 0.0 and 1.0.")
+    Double efficiency,
+
+    @DecimalMin(value = "0.0", message = "Orientation derating must be between 0.0 and 1.0.")
+    @DecimalMax(value = "1.0", message = "Orientation derating must be between 0.0 and 1.0.")
+    Double orientationDerating
+
+) {}
@@ -0,0 +1,15 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RankedSiteDto(
+        Integer rank,
+        Integer index,
+        String id,
+        String region,
+        Double latitude,
+        Double longitude,
+        Double energyGenerated
+) {
+}
@@ -0,0 +1,22 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record SiteRankingRequest(
+
+    @NotEmpty(message = "At least one site is required.")
+    @Size(max = 10000, message = "At most 10000 sites can be requested at once.")
+    List<@Valid @NotNull PortfolioSiteRequest> sites,
+
+    @Min(value = 1, message = "Limit must be between 1 and 1000.")
+    @Max(value = 1000, message = "Limit must be between 1 and 1000.")
+    Integer limit
+
+) {}
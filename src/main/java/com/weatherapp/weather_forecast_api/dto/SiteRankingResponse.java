@@ -0,0 +1,12 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import java.util.List;
+
+public record SiteRankingResponse(
+        List<RankedSiteDto> sites,
+        Integer evaluated,
+        Integer failed,
+        Integer total,
+        Boolean partial
+) {
+}
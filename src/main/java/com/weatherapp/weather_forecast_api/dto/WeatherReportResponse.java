@@ -0,0 +1,9 @@
+package com.weatherapp.weather_forecast_api.dto;
+
+import java.util.List;
+
+public record WeatherReportResponse(
+        List<DailyForecastDto> forecast,
+        WeatherSummaryResponse summary
+) {
+}
@@ -0,0 +1,13 @@
+package com.weatherapp.weather_forecast_api.exception;
+
+/**
+ * An Open-Meteo call that was turned down locally, by the outbound limiter or an open circuit
+ * breaker, without reaching the upstream. It says nothing about the requested location, so it is
+ * not remembered as a failure of that location.
+ */
+public class UpstreamRejectedException extends WeatherApiException {
+
+    public UpstreamRejectedException(String message) {
+        super(message);
+    }
+}
@@ -5,10 +5,12 @@ import com.weatherapp.weather_forecast_api.exception.ValidationException;
 import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -31,19 +33,12 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler({MethodArgumentNotValidException.class})
     public ResponseEntity<Map<String, Object>> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
-        Map<String, String> errors = new HashMap<>();
-        Map<String, Object> response = new HashMap<>();
-
-        ex.getBindingResult().getAllErrors().forEach(error -> {
-            String field = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            errors.put(field, errorMessage);
-        });
+        return buildValidationErrorResponse(ex.getBindingResult());
+    }
 
-        response.put("error", "Validation Error");
-        response.put("status", HttpStatus.BAD_REQUEST.value());
-        response.put("errors", errors);
-        return ResponseEntity.badRequest().body(response);
+    @ExceptionHandler({WebExchangeBindException.class})
+    public ResponseEntity<Map<String, Object>> handleWebExchangeBindException(WebExchangeBindException ex) {
+        return buildValidationErrorResponse(ex.getBindingResult());
     }
 
     @ExceptionHandler({Exception.class})
@@ -63,4 +58,20 @@ public class GlobalExceptionHandler {
         response.put("message", message);
         return new ResponseEntity<>(response, status);
     }
+
+    private ResponseEntity<Map<String, Object>> buildValidationErrorResponse(BindingResult bindingResult) {
+        Map<String, String> errors = new HashMap<>();
+        Map<String, Object> response = new HashMap<>();
+
+        bindingResult.getAllErrors().forEach(error -> {
+            String field = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(field, errorMessage);
+        });
+
+        response.put("error", "Validation Error");
+        response.put("status", HttpStatus.BAD_REQUEST.value());
+        response.put("errors", errors);
+        return ResponseEntity.badRequest().body(response);
+    }
 }
@@ -0,0 +1,144 @@
+package com.weatherapp.weather_forecast_api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer instrumentation of the forecast pipeline: one latency histogram per {@link Stage},
+ * upstream status and error counters, and the generation time Open-Meteo reports for each response.
+ */
+@Component
+public class PipelineMetrics {
+
+    public enum Stage {
+        VALIDATION("validation"),
+        FETCH("fetch"),
+        DECODE("decode"),
+        MAPPING("mapping"),
+        REPORT("report"),
+        SERIALIZATION("serialization");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Timer generationTime;
+    private final Timer upstreamQueueWait;
+
+    @Autowired
+    public PipelineMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("weather.pipeline.stage")
+                    .description("Time spent in one stage of the forecast pipeline")
+                    .tag("stage", stage.tag)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        this.generationTime = Timer.builder("openmeteo.generation.time")
+                .description("Server-side generation time reported by Open-Meteo (generationtime_ms)")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.upstreamQueueWait = Timer.builder("weather.upstream.queue.wait")
+                .description("Time forecast fetches waited for the outbound rate and concurrency limits")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public <T> T time(Stage stage, Supplier<T> action) {
+        return stageTimers.get(stage).record(action);
+    }
+
+    public void time(Stage stage, Runnable action) {
+        stageTimers.get(stage).record(action);
+    }
+
+    public <T> Mono<T> time(Stage stage, Mono<T> action) {
+        return Mono.defer(() -> {
+            Timer timer = stageTimers.get(stage);
+            Timer.Sample sample = Timer.start(registry);
+            return action
+                    .doOnSuccess(value -> sample.stop(timer))
+                    .doOnError(error -> sample.stop(timer))
+                    .doOnCancel(() -> sample.stop(timer));
+        });
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void stop(Stage stage, Timer.Sample sample) {
+        sample.stop(stageTimers.get(stage));
+    }
+
+    public void recordGenerationTime(Double generationtimeMs) {
+        if (generationtimeMs != null && generationtimeMs >= 0) {
+            generationTime.record((long) (generationtimeMs * 1_000_000), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordUpstreamStatus(int statusCode) {
+        Counter.builder("weather.upstream.responses")
+                .description("Open-Meteo responses by HTTP status")
+                .tag("status", Integer.toString(statusCode))
+                .register(registry)
+                .increment();
+    }
+
+    public void recordUpstreamError(Throwable error) {
+        Counter.builder("weather.upstream.errors")
+                .description("Failed forecast fetches by exception type")
+                .tag("exception", error.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+    }
+
+    public void registerUpstreamLimits(Supplier<Number> concurrencyLimit, Supplier<Number> inFlight,
+                                       Supplier<Number> queued) {
+        Gauge.builder("weather.upstream.concurrency.limit", concurrencyLimit)
+                .description("Current adaptive limit of concurrent Open-Meteo calls")
+                .register(registry);
+        Gauge.builder("weather.upstream.inflight", inFlight)
+                .description("Open-Meteo calls in flight")
+                .register(registry);
+        Gauge.builder("weather.upstream.queued", queued)
+                .description("Forecast fetches waiting for the outbound limits")
+                .register(registry);
+    }
+
+    public void recordUpstreamQueueWait(long waitNanos) {
+        upstreamQueueWait.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUpstreamRejection(String reason) {
+        Counter.builder("weather.upstream.rejections")
+                .description("Forecast fetches rejected by the outbound limits before reaching Open-Meteo")
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    public ExchangeFilterFunction upstreamStatusFilter() {
+        return ExchangeFilterFunction.ofResponseProcessor(response -> {
+            recordUpstreamStatus(response.statusCode().value());
+            return Mono.just(response);
+        });
+    }
+}
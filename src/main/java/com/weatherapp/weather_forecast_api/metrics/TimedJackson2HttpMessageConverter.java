@@ -0,0 +1,33 @@
+package com.weatherapp.weather_forecast_api.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Spring MVC JSON converter that records response serialization under
+ * {@link PipelineMetrics.Stage#SERIALIZATION}.
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final PipelineMetrics pipelineMetrics;
+
+    public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper, PipelineMetrics pipelineMetrics) {
+        super(objectMapper);
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        Timer.Sample sample = pipelineMetrics.start();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            pipelineMetrics.stop(PipelineMetrics.Stage.SERIALIZATION, sample);
+        }
+    }
+}
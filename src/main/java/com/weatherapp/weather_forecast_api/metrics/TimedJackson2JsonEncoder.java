@@ -0,0 +1,36 @@
+package com.weatherapp.weather_forecast_api.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.MimeType;
+
+import java.util.Map;
+
+/**
+ * WebFlux JSON encoder that records response serialization under
+ * {@link PipelineMetrics.Stage#SERIALIZATION}.
+ */
+public class TimedJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+    private final PipelineMetrics pipelineMetrics;
+
+    public TimedJackson2JsonEncoder(ObjectMapper objectMapper, PipelineMetrics pipelineMetrics) {
+        super(objectMapper);
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  MimeType mimeType, Map<String, Object> hints) {
+        Timer.Sample sample = pipelineMetrics.start();
+        try {
+            return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        } finally {
+            pipelineMetrics.stop(PipelineMetrics.Stage.SERIALIZATION, sample);
+        }
+    }
+}
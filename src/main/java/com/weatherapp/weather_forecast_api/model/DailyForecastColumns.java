@@ -0,0 +1,169 @@
+package com.weatherapp.weather_forecast_api.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Daily forecast for one location stored column by column in primitive arrays. Dates are kept as
+ * epoch days and sunshine duration in hours. Instances are immutable and safe to share between
+ * requests. A stale view shares the arrays of the forecast it was taken from and marks data that
+ * has passed its model update boundary.
+ */
+public final class DailyForecastColumns {
+    private final int[] epochDays;
+    private final int[] weatherCodes;
+    private final double[] minTemperatures;
+    private final double[] maxTemperatures;
+    private final double[] sunshineHours;
+    private final double[] pressures;
+    private final boolean stale;
+
+    public DailyForecastColumns(int[] epochDays, int[] weatherCodes, double[] minTemperatures,
+                                double[] maxTemperatures, double[] sunshineHours, double[] pressures) {
+        this(epochDays, weatherCodes, minTemperatures, maxTemperatures, sunshineHours, pressures, false);
+    }
+
+    private DailyForecastColumns(int[] epochDays, int[] weatherCodes, double[] minTemperatures,
+                                 double[] maxTemperatures, double[] sunshineHours, double[] pressures,
+                                 boolean stale) {
+        int size = epochDays.length;
+        if (weatherCodes.length != size || minTemperatures.length != size || maxTemperatures.length != size
+                || sunshineHours.length != size || pressures.length != size) {
+            throw new IllegalArgumentException("All forecast columns must have the same length");
+        }
+
+        this.epochDays = epochDays;
+        this.weatherCodes = weatherCodes;
+        this.minTemperatures = minTemperatures;
+        this.maxTemperatures = maxTemperatures;
+        this.sunshineHours = sunshineHours;
+        this.pressures = pressures;
+        this.stale = stale;
+    }
+
+    /**
+     * Packs complete days into columns. The columns have no representation for a missing value, so a
+     * day with a null field is rejected; map such data from {@link DailyWeatherData} directly.
+     */
+    public static DailyForecastColumns fromDailyWeatherData(List<DailyWeatherData> weatherData) {
+        int size = weatherData.size();
+        int[] epochDays = new int[size];
+        int[] weatherCodes = new int[size];
+        double[] minTemperatures = new double[size];
+        double[] maxTemperatures = new double[size];
+        double[] sunshineHours = new double[size];
+        double[] pressures = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            DailyWeatherData day = weatherData.get(i);
+            if (day.getDate() == null || day.getWeatherCode() == null || day.getMinTemperature() == null
+                    || day.getMaxTemperature() == null || day.getSunshineDuration() == null || day.getPressure() == null) {
+                throw new IllegalArgumentException("Day " + i + " has missing fields and cannot be stored in columns: " + day);
+            }
+            epochDays[i] = (int) day.getDate().toEpochDay();
+            weatherCodes[i] = day.getWeatherCode();
+            minTemperatures[i] = day.getMinTemperature();
+            maxTemperatures[i] = day.getMaxTemperature();
+            sunshineHours[i] = day.getSunshineDuration();
+            pressures[i] = day.getPressure();
+        }
+
+        return new DailyForecastColumns(epochDays, weatherCodes, minTemperatures, maxTemperatures,
+                sunshineHours, pressures);
+    }
+
+    public List<DailyWeatherData> toDailyWeatherData() {
+        List<DailyWeatherData> weatherData = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            weatherData.add(new DailyWeatherData(date(i), weatherCodes[i], minTemperatures[i],
+                    maxTemperatures[i], sunshineHours[i], pressures[i]));
+        }
+        return weatherData;
+    }
+
+    public DailyForecastColumns asStale() {
+        return stale ? this : new DailyForecastColumns(epochDays, weatherCodes, minTemperatures, maxTemperatures,
+                sunshineHours, pressures, true);
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    public int epochDay(int day) {
+        return epochDays[day];
+    }
+
+    public LocalDate date(int day) {
+        return LocalDate.ofEpochDay(epochDays[day]);
+    }
+
+    public int weatherCode(int day) {
+        return weatherCodes[day];
+    }
+
+    public double minTemperature(int day) {
+        return minTemperatures[day];
+    }
+
+    public double maxTemperature(int day) {
+        return maxTemperatures[day];
+    }
+
+    public double sunshineHours(int day) {
+        return sunshineHours[day];
+    }
+
+    public double pressure(int day) {
+        return pressures[day];
+    }
+
+    public void copySunshineHours(int fromDay, double[] target, int offset, int days) {
+        System.arraycopy(sunshineHours, fromDay, target, offset, days);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DailyForecastColumns other)) {
+            return false;
+        }
+        return stale == other.stale
+                && Arrays.equals(epochDays, other.epochDays)
+                && Arrays.equals(weatherCodes, other.weatherCodes)
+                && Arrays.equals(minTemperatures, other.minTemperatures)
+                && Arrays.equals(maxTemperatures, other.maxTemperatures)
+                && Arrays.equals(sunshineHours, other.sunshineHours)
+                && Arrays.equals(pressures, other.pressures);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(epochDays);
+        result = 31 * result + Arrays.hashCode(weatherCodes);
+        result = 31 * result + Arrays.hashCode(minTemperatures);
+        result = 31 * result + Arrays.hashCode(maxTemperatures);
+        result = 31 * result + Arrays.hashCode(sunshineHours);
+        result = 31 * result + Arrays.hashCode(pressures);
+        result = 31 * result + Boolean.hashCode(stale);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "DailyForecastColumns{days=" + size() + ", epochDays=" + Arrays.toString(epochDays)
+                + (stale ? ", stale" : "") + "}";
+    }
+}
@@ -0,0 +1,38 @@
+package com.weatherapp.weather_forecast_api.model;
+
+/**
+ * Energy in kWh of several installations over their forecast days, stored in one flat array with
+ * the days of each installation next to each other.
+ */
+public final class EnergyBatch {
+    private final double[] energy;
+    private final int[] offsets;
+
+    public EnergyBatch(double[] energy, int[] offsets) {
+        if (offsets.length == 0 || offsets[0] != 0 || offsets[offsets.length - 1] != energy.length) {
+            throw new IllegalArgumentException("Offsets must start at 0 and end at the energy length");
+        }
+        this.energy = energy;
+        this.offsets = offsets;
+    }
+
+    public int installations() {
+        return offsets.length - 1;
+    }
+
+    public int days(int installation) {
+        return offsets[installation + 1] - offsets[installation];
+    }
+
+    public double energy(int installation, int day) {
+        return energy[offsets[installation] + day];
+    }
+
+    public double totalEnergy(int installation) {
+        double total = 0.0;
+        for (int i = offsets[installation]; i < offsets[installation + 1]; i++) {
+            total += energy[i];
+        }
+        return total;
+    }
+}
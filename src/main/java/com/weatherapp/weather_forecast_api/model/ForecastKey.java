@@ -0,0 +1,13 @@
+package com.weatherapp.weather_forecast_api.model;
+
+/**
+ * Cache key of one grid cell's forecast. {@code params} is the Open-Meteo variable list the forecast
+ * was requested with (daily or hourly), so the daily and hourly forecasts of a cell never collide.
+ */
+public record ForecastKey(
+        double latitude,
+        double longitude,
+        int forecastDays,
+        String params
+) {
+}
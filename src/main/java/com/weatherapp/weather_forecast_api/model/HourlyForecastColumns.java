@@ -0,0 +1,87 @@
+package com.weatherapp.weather_forecast_api.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Hourly forecast for one location stored column by column. Times are kept as whole hours since
+ * 1970-01-01T00:00 in the location's local time, and the measured values as {@code float}, which
+ * holds the one or two decimals Open-Meteo reports at half the size of a {@code double}. Sunshine
+ * duration is in seconds per hour and shortwave radiation in W/m² averaged over the preceding hour.
+ */
+public final class HourlyForecastColumns {
+    private final int[] epochHours;
+    private final float[] temperatures;
+    private final float[] sunshineSeconds;
+    private final float[] radiation;
+
+    public HourlyForecastColumns(int[] epochHours, float[] temperatures, float[] sunshineSeconds, float[] radiation) {
+        int size = epochHours.length;
+        if (temperatures.length != size || sunshineSeconds.length != size || radiation.length != size) {
+            throw new IllegalArgumentException("All forecast columns must have the same length");
+        }
+
+        this.epochHours = epochHours;
+        this.temperatures = temperatures;
+        this.sunshineSeconds = sunshineSeconds;
+        this.radiation = radiation;
+    }
+
+    public int size() {
+        return epochHours.length;
+    }
+
+    public boolean isEmpty() {
+        return epochHours.length == 0;
+    }
+
+    public int epochHour(int hour) {
+        return epochHours[hour];
+    }
+
+    public LocalDateTime time(int hour) {
+        return LocalDateTime.ofEpochSecond(epochHours[hour] * 3600L, 0, ZoneOffset.UTC);
+    }
+
+    public float temperature(int hour) {
+        return temperatures[hour];
+    }
+
+    public float sunshineSeconds(int hour) {
+        return sunshineSeconds[hour];
+    }
+
+    public float radiation(int hour) {
+        return radiation[hour];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HourlyForecastColumns other)) {
+            return false;
+        }
+        return Arrays.equals(epochHours, other.epochHours)
+                && Arrays.equals(temperatures, other.temperatures)
+                && Arrays.equals(sunshineSeconds, other.sunshineSeconds)
+                && Arrays.equals(radiation, other.radiation);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(epochHours);
+        result = 31 * result + Arrays.hashCode(temperatures);
+        result = 31 * result + Arrays.hashCode(sunshineSeconds);
+        result = 31 * result + Arrays.hashCode(radiation);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "HourlyForecastColumns{hours=" + size()
+                + (isEmpty() ? "" : ", from=" + time(0) + ", to=" + time(size() - 1)) + "}";
+    }
+}
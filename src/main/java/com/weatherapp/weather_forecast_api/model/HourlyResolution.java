@@ -0,0 +1,35 @@
+package com.weatherapp.weather_forecast_api.model;
+
+import com.weatherapp.weather_forecast_api.exception.ValidationException;
+
+/**
+ * Interval length an hourly forecast is returned in. Intervals start at local midnight and at every
+ * multiple of their length after it.
+ */
+public enum HourlyResolution {
+    HOURLY("1h", 1),
+    THREE_HOURLY("3h", 3),
+    SIX_HOURLY("6h", 6),
+    DAILY("daily", 24);
+
+    private final String parameter;
+    private final int hours;
+
+    HourlyResolution(String parameter, int hours) {
+        this.parameter = parameter;
+        this.hours = hours;
+    }
+
+    public int hours() {
+        return hours;
+    }
+
+    public static HourlyResolution fromParameter(String parameter) {
+        for (HourlyResolution resolution : values()) {
+            if (resolution.parameter.equalsIgnoreCase(parameter)) {
+                return resolution;
+            }
+        }
+        throw new ValidationException("Resolution must be one of 1h, 3h, 6h or daily");
+    }
+}
@@ -0,0 +1,15 @@
+package com.weatherapp.weather_forecast_api.model;
+
+/**
+ * One location of an Open-Meteo forecast response as produced by the streaming decoder.
+ * {@code reportedDays} is the length of the upstream {@code daily.time} array and {@code daily}
+ * holds only the days with a valid date; it is {@code null} when the response had no daily block.
+ */
+public record OpenMeteoForecast(
+        Double latitude,
+        Double longitude,
+        Double generationtimeMs,
+        int reportedDays,
+        DailyForecastColumns daily
+) {
+}
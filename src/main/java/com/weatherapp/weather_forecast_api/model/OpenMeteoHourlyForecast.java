@@ -0,0 +1,15 @@
+package com.weatherapp.weather_forecast_api.model;
+
+/**
+ * One location of an Open-Meteo hourly forecast response. {@code reportedHours} is the length of
+ * the upstream {@code hourly.time} array and {@code hourly} holds only the hours with a valid time;
+ * it is {@code null} when the response had no hourly block.
+ */
+public record OpenMeteoHourlyForecast(
+        Double latitude,
+        Double longitude,
+        Double generationtimeMs,
+        int reportedHours,
+        HourlyForecastColumns hourly
+) {
+}
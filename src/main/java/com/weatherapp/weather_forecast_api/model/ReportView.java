@@ -0,0 +1,25 @@
+package com.weatherapp.weather_forecast_api.model;
+
+import com.weatherapp.weather_forecast_api.dto.WeatherForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.WeatherReportResponse;
+
+import java.util.function.Function;
+
+/**
+ * The response bodies that single-location endpoints build from a {@link WeatherReport}.
+ */
+public enum ReportView {
+    FORECAST(report -> new WeatherForecastResponse(report.forecast())),
+    SUMMARY(WeatherReport::summary),
+    REPORT(report -> new WeatherReportResponse(report.forecast(), report.summary()));
+
+    private final Function<WeatherReport, Object> body;
+
+    ReportView(Function<WeatherReport, Object> body) {
+        this.body = body;
+    }
+
+    public Object body(WeatherReport report) {
+        return body.apply(report);
+    }
+}
@@ -0,0 +1,14 @@
+package com.weatherapp.weather_forecast_api.model;
+
+/**
+ * Parameters of one solar installation. {@code orientationDerating} scales the output of panels
+ * that do not face the sun optimally: 1.0 for an ideal orientation, lower for east/west or shaded
+ * roofs. Daily energy in kWh is {@code peakPowerKw × sunshine hours × efficiency × orientationDerating}.
+ */
+public record SolarInstallation(
+        double peakPowerKw,
+        double efficiency,
+        double orientationDerating
+) {
+    public static final SolarInstallation REFERENCE = new SolarInstallation(2.5, 0.2, 1.0);
+}
@@ -0,0 +1,17 @@
+package com.weatherapp.weather_forecast_api.model;
+
+import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.dto.WeatherSummaryResponse;
+
+import java.util.List;
+
+public record WeatherReport(
+        List<DailyForecastDto> forecast,
+        WeatherSummaryResponse summary,
+        boolean stale
+) {
+
+    public WeatherReport(List<DailyForecastDto> forecast, WeatherSummaryResponse summary) {
+        this(forecast, summary, false);
+    }
+}
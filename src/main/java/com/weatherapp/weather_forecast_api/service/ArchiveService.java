@@ -0,0 +1,67 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.client.OpenMeteoClient;
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Daily history for arbitrary date ranges. The range is fetched from the archive API in chunks of
+ * {@code archiveChunkDays}, one chunk at a time and only once the previous one has been consumed,
+ * so memory use does not depend on the length of the range.
+ */
+@Service
+public class ArchiveService {
+
+    private final OpenMeteoClient openMeteoClient;
+    private final WeatherValidationService validationService;
+    private final WeatherMappingService mappingService;
+    private final int chunkDays;
+
+    @Autowired
+    public ArchiveService(OpenMeteoClient openMeteoClient, ApiConfig apiConfig,
+                          WeatherValidationService validationService, WeatherMappingService mappingService) {
+        this.openMeteoClient = openMeteoClient;
+        this.validationService = validationService;
+        this.mappingService = mappingService;
+        this.chunkDays = Math.max(apiConfig.getArchiveChunkDays(), 1);
+    }
+
+    // Validates eagerly so a bad request fails with 400 before the streamed response is committed.
+    public Flux<DailyForecastDto> getDailyHistory(Double latitude, Double longitude,
+                                                  LocalDate startDate, LocalDate endDate) {
+        validationService.validateCoordinates(latitude, longitude);
+        validationService.validateDateRange(startDate, endDate);
+
+        return chunks(startDate, endDate)
+                .concatMap(chunk -> openMeteoClient.fetchArchiveReactive(latitude, longitude, chunk.start(), chunk.end()), 0)
+                .concatMapIterable(this::mapChunk, 1);
+    }
+
+    private List<DailyForecastDto> mapChunk(OpenMeteoForecast response) {
+        validationService.validateResponse(response);
+        return mappingService.mapToForecastDtos(response.daily());
+    }
+
+    private Flux<DateRange> chunks(LocalDate startDate, LocalDate endDate) {
+        return Flux.generate(() -> startDate, (chunkStart, sink) -> {
+            LocalDate chunkEnd = chunkStart.plusDays(chunkDays - 1L);
+            if (!chunkEnd.isBefore(endDate)) {
+                sink.next(new DateRange(chunkStart, endDate));
+                sink.complete();
+                return endDate;
+            }
+            sink.next(new DateRange(chunkStart, chunkEnd));
+            return chunkEnd.plusDays(1);
+        });
+    }
+
+    private record DateRange(LocalDate start, LocalDate end) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.weatherapp.weather_forecast_api.service;
+
+/**
+ * Element-wise energy computation over flat installation-day arrays:
+ * {@code energy[i] = peakPowerKw[i] × max(sunshineHours[i], 0) × efficiency[i] × orientationDerating[i]},
+ * multiplied left to right in the same order as {@link SolarEnergyService}. Implementations must
+ * produce bit-identical results, so the vectorized one can be swapped for the scalar one.
+ */
+interface EnergyKernel {
+
+    void calculate(double[] sunshineHours, double[] peakPowerKw, double[] efficiency, double[] orientationDerating,
+                   double[] energy, int length);
+}
@@ -0,0 +1,57 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.dto.BatchForecastRequest;
+import com.weatherapp.weather_forecast_api.dto.LocationForecastEvent;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.exception.DataProcessingException;
+import com.weatherapp.weather_forecast_api.exception.ValidationException;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Forecasts for many locations, emitted one by one as each location completes. At most
+ * {@code streamConcurrency} locations are resolved at a time, and a failing location becomes an
+ * error event instead of ending the stream.
+ */
+@Service
+@Slf4j
+public class ForecastStreamService {
+
+    private final WeatherService weatherService;
+    private final int concurrency;
+
+    @Autowired
+    public ForecastStreamService(WeatherService weatherService, ApiConfig apiConfig) {
+        this.weatherService = weatherService;
+        this.concurrency = Math.max(apiConfig.getStreamConcurrency(), 1);
+    }
+
+    public Flux<LocationForecastEvent> streamForecasts(BatchForecastRequest batchRequest) {
+        List<LocationRequest> locations = batchRequest.locations();
+
+        return Flux.range(0, locations.size())
+                .flatMap(index -> forecastEvent(index, locations.get(index)), concurrency);
+    }
+
+    private Mono<LocationForecastEvent> forecastEvent(int index, LocationRequest location) {
+        return weatherService.getWeatherReportReactive(location)
+                .map(report -> LocationForecastEvent.forecast(index, location, report.forecast()))
+                .onErrorResume(e -> Mono.just(LocationForecastEvent.error(index, location, errorMessage(e))));
+    }
+
+    private String errorMessage(Throwable e) {
+        if (e instanceof WeatherApiException || e instanceof ValidationException || e instanceof DataProcessingException) {
+            return e.getMessage();
+        }
+
+        log.error("Unexpected error while streaming forecasts: {}", e.getMessage(), e);
+        return "An unexpected error occurred. Please try again later.";
+    }
+}
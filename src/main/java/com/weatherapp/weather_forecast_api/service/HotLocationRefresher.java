@@ -0,0 +1,92 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.cache.HotLocationTracker;
+import com.weatherapp.weather_forecast_api.cache.ModelUpdateExpiry;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.config.RefreshConfig;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Re-fetches the most requested grid cells as soon as a new Open-Meteo model run is due, so their
+ * forecasts are replaced before most users ask for them. Refreshes are spread over a random
+ * jitter window and limited to {@code maxConcurrency} upstream calls at a time.
+ */
+@Component
+@Slf4j
+public class HotLocationRefresher {
+    private final RefreshConfig refreshConfig;
+    private final HotLocationTracker hotLocationTracker;
+    private final OpenMeteoService openMeteoService;
+    private final ModelUpdateExpiry<ForecastKey, Object> modelUpdates;
+    private Instant lastRefreshedUpdate;
+
+    @Autowired
+    public HotLocationRefresher(RefreshConfig refreshConfig,
+                                CacheConfig cacheConfig,
+                                HotLocationTracker hotLocationTracker,
+                                OpenMeteoService openMeteoService) {
+        this(refreshConfig, cacheConfig, hotLocationTracker, openMeteoService, Clock.systemUTC());
+    }
+
+    HotLocationRefresher(RefreshConfig refreshConfig,
+                         CacheConfig cacheConfig,
+                         HotLocationTracker hotLocationTracker,
+                         OpenMeteoService openMeteoService,
+                         Clock clock) {
+        this.refreshConfig = refreshConfig;
+        this.hotLocationTracker = hotLocationTracker;
+        this.openMeteoService = openMeteoService;
+        this.modelUpdates = new ModelUpdateExpiry<>(cacheConfig, clock);
+    }
+
+    @Scheduled(fixedDelayString = "${weather.refresh.check-interval:PT10S}")
+    public void refreshAfterModelUpdate() {
+        if (!refreshConfig.isEnabled()) {
+            return;
+        }
+
+        Instant lastUpdate = modelUpdates.lastUpdate();
+        if (lastRefreshedUpdate == null) {
+            lastRefreshedUpdate = lastUpdate;
+            return;
+        }
+        if (!lastUpdate.isAfter(lastRefreshedUpdate)) {
+            return;
+        }
+
+        lastRefreshedUpdate = lastUpdate;
+        refreshHotLocations().subscribe();
+    }
+
+    Mono<Void> refreshHotLocations() {
+        List<ForecastKey> hotLocations = hotLocationTracker.hottest(refreshConfig.getHotLocations());
+        hotLocationTracker.decay();
+        log.info("Refreshing {} hot locations after model update", hotLocations.size());
+
+        return Flux.fromIterable(hotLocations)
+                .flatMap(key -> Mono.delay(jitter()).thenReturn(key))
+                .flatMap(key -> openMeteoService.refresh(key)
+                        .doOnError(e -> log.warn("Failed to refresh forecast for {}: {}", key, e.getMessage()))
+                        .onErrorResume(e -> Mono.empty()), refreshConfig.getMaxConcurrency())
+                .then();
+    }
+
+    private Duration jitter() {
+        long jitterMillis = refreshConfig.getJitter().toMillis();
+        return jitterMillis > 0
+                ? Duration.ofMillis(ThreadLocalRandom.current().nextLong(jitterMillis))
+                : Duration.ZERO;
+    }
+}
@@ -0,0 +1,84 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.cache.ForecastKeyFactory;
+import com.weatherapp.weather_forecast_api.cache.HourlyForecastCache;
+import com.weatherapp.weather_forecast_api.cache.RequestCoalescer;
+import com.weatherapp.weather_forecast_api.client.OpenMeteoClient;
+import com.weatherapp.weather_forecast_api.dto.HourlyForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.exception.DataProcessingException;
+import com.weatherapp.weather_forecast_api.exception.ValidationException;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics.Stage;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import com.weatherapp.weather_forecast_api.model.HourlyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.HourlyResolution;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoHourlyForecast;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hourly forecasts at the requested resolution. The hourly columns are fetched once per grid cell
+ * and model update; coarser resolutions are aggregated from the cached columns on each request.
+ */
+@Service
+public class HourlyForecastService {
+    private final OpenMeteoClient openMeteoClient;
+    private final WeatherValidationService validationService;
+    private final WeatherMappingService mappingService;
+    private final ForecastKeyFactory forecastKeyFactory;
+    private final HourlyForecastCache hourlyForecastCache;
+    private final PipelineMetrics pipelineMetrics;
+    private final RequestCoalescer<ForecastKey, HourlyForecastColumns> fetchCoalescer = new RequestCoalescer<>();
+
+    @Autowired
+    public HourlyForecastService(OpenMeteoClient openMeteoClient,
+                                 WeatherValidationService validationService,
+                                 WeatherMappingService mappingService,
+                                 ForecastKeyFactory forecastKeyFactory,
+                                 HourlyForecastCache hourlyForecastCache,
+                                 PipelineMetrics pipelineMetrics) {
+        this.openMeteoClient = openMeteoClient;
+        this.validationService = validationService;
+        this.mappingService = mappingService;
+        this.forecastKeyFactory = forecastKeyFactory;
+        this.hourlyForecastCache = hourlyForecastCache;
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    public Mono<HourlyForecastResponse> getHourlyForecast(LocationRequest location, HourlyResolution resolution) {
+        return getHourlyColumns(location.latitude(), location.longitude())
+                .map(weatherData -> new HourlyForecastResponse(pipelineMetrics.time(Stage.MAPPING,
+                        () -> mappingService.mapToHourlyForecastDtos(weatherData, resolution))));
+    }
+
+    private Mono<HourlyForecastColumns> getHourlyColumns(Double latitude, Double longitude) {
+        return Mono.defer(() -> {
+            pipelineMetrics.time(Stage.VALIDATION, () -> validationService.validateCoordinates(latitude, longitude));
+
+            ForecastKey key = forecastKeyFactory.createHourly(latitude, longitude);
+            HourlyForecastColumns cached = hourlyForecastCache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            return Mono.fromFuture(fetchCoalescer.executeAsync(key, () -> fetch(key).toFuture()), true);
+        });
+    }
+
+    private Mono<HourlyForecastColumns> fetch(ForecastKey key) {
+        return openMeteoClient.fetchHourlyForecastReactive(key.latitude(), key.longitude())
+                .switchIfEmpty(Mono.error(() -> new WeatherApiException("No response received from Open-Meteo API")))
+                .map(response -> hourlyForecastCache.put(key, validate(response)))
+                .onErrorMap(e -> !(e instanceof WeatherApiException || e instanceof ValidationException),
+                        e -> new DataProcessingException("Failed to process weather data: " + e.getMessage(), e));
+    }
+
+    private HourlyForecastColumns validate(OpenMeteoHourlyForecast response) {
+        pipelineMetrics.time(Stage.VALIDATION, () -> validationService.validateResponse(response));
+        pipelineMetrics.recordGenerationTime(response.generationtimeMs());
+        return response.hourly();
+    }
+}
@@ -1,44 +1,263 @@
 package com.weatherapp.weather_forecast_api.service;
 
+import com.weatherapp.weather_forecast_api.cache.ForecastCache;
+import com.weatherapp.weather_forecast_api.cache.ForecastKeyFactory;
+import com.weatherapp.weather_forecast_api.cache.HotLocationTracker;
+import com.weatherapp.weather_forecast_api.cache.RequestCoalescer;
 import com.weatherapp.weather_forecast_api.client.OpenMeteoClient;
+import com.weatherapp.weather_forecast_api.cluster.PeerForecastClient;
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
 import com.weatherapp.weather_forecast_api.exception.DataProcessingException;
+import com.weatherapp.weather_forecast_api.exception.UpstreamRejectedException;
 import com.weatherapp.weather_forecast_api.exception.ValidationException;
 import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
-import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
-import com.weatherapp.weather_forecast_api.model.OpenMeteo;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics.Stage;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class OpenMeteoService {
     private final OpenMeteoClient openMeteoClient;
+    private final ApiConfig apiConfig;
     private final WeatherValidationService validationService;
     private final WeatherDataMappingService dataMappingService;
+    private final ForecastKeyFactory forecastKeyFactory;
+    private final ForecastCache forecastCache;
+    private final HotLocationTracker hotLocationTracker;
+    private final PeerForecastClient peerForecastClient;
+    private final PipelineMetrics pipelineMetrics;
+    private final RequestCoalescer<ForecastKey, DailyForecastColumns> fetchCoalescer = new RequestCoalescer<>();
 
     @Autowired
     public OpenMeteoService(OpenMeteoClient openMeteoClient,
+                            ApiConfig apiConfig,
                             WeatherValidationService validationService,
-                            WeatherDataMappingService dataMappingService) {
+                            WeatherDataMappingService dataMappingService,
+                            ForecastKeyFactory forecastKeyFactory,
+                            ForecastCache forecastCache,
+                            HotLocationTracker hotLocationTracker,
+                            PeerForecastClient peerForecastClient,
+                            PipelineMetrics pipelineMetrics) {
         this.openMeteoClient = openMeteoClient;
+        this.apiConfig = apiConfig;
         this.validationService = validationService;
         this.dataMappingService = dataMappingService;
+        this.forecastKeyFactory = forecastKeyFactory;
+        this.forecastCache = forecastCache;
+        this.hotLocationTracker = hotLocationTracker;
+        this.peerForecastClient = peerForecastClient;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
-    public List<DailyWeatherData> getWeatherForecast(Double latitude, Double longitude) {
-        validationService.validateCoordinates(latitude, longitude);
+    public DailyForecastColumns getWeatherForecast(Double latitude, Double longitude) {
+        pipelineMetrics.time(Stage.VALIDATION, () -> validationService.validateCoordinates(latitude, longitude));
+
+        ForecastKey key = forecastKeyFactory.create(latitude, longitude);
+        hotLocationTracker.record(key);
+        DailyForecastColumns cached = forecastCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        DailyForecastColumns stale = forecastCache.getStale(key);
+        if (stale != null) {
+            refreshInBackground(key);
+            return stale;
+        }
+
+        return fetchCoalescer.execute(key, () -> forecastCache.get(key, this::fetchWeatherData));
+    }
+
+    public Mono<DailyForecastColumns> getWeatherForecastReactive(Double latitude, Double longitude) {
+        return Mono.defer(() -> {
+            pipelineMetrics.time(Stage.VALIDATION, () -> validationService.validateCoordinates(latitude, longitude));
+
+            ForecastKey key = forecastKeyFactory.create(latitude, longitude);
+            hotLocationTracker.record(key);
+            return forecastCache.getIfPresentReactive(key).switchIfEmpty(Mono.defer(() -> {
+                DailyForecastColumns stale = forecastCache.getStale(key);
+                if (stale != null) {
+                    refreshInBackground(key);
+                    return Mono.just(stale);
+                }
+
+                return Mono.fromFuture(fetchCoalescer.executeAsync(key,
+                        () -> fetchWeatherDataReactive(key).toFuture()), true);
+            }));
+        });
+    }
+
+    // Serves a cluster member asking for a grid cell this instance owns. Stale copies are not
+    // handed out, and the forecast is always fetched from Open-Meteo so requests cannot bounce
+    // between members that disagree about ownership.
+    public Mono<DailyForecastColumns> getWeatherForecastForPeer(Double latitude, Double longitude) {
+        return Mono.defer(() -> {
+            pipelineMetrics.time(Stage.VALIDATION, () -> validationService.validateCoordinates(latitude, longitude));
+
+            ForecastKey key = forecastKeyFactory.create(latitude, longitude);
+            hotLocationTracker.record(key);
+            return forecastCache.getIfPresentReactive(key).switchIfEmpty(Mono.defer(() ->
+                    Mono.fromFuture(fetchCoalescer.executeAsync(key, () -> fetchFromUpstream(key).toFuture()), true)));
+        });
+    }
+
+    public List<DailyForecastColumns> getWeatherForecasts(List<LocationRequest> locations) {
+        return getWeatherForecastsReactive(locations).block();
+    }
+
+    public Mono<List<DailyForecastColumns>> getWeatherForecastsReactive(List<LocationRequest> locations) {
+        return Mono.defer(() -> {
+            pipelineMetrics.time(Stage.VALIDATION, () -> locations.forEach(location ->
+                    validationService.validateCoordinates(location.latitude(), location.longitude())));
+
+            List<ForecastKey> keys = new ArrayList<>(locations.size());
+            for (LocationRequest location : locations) {
+                ForecastKey key = forecastKeyFactory.create(location.latitude(), location.longitude());
+                hotLocationTracker.record(key);
+                keys.add(key);
+            }
+
+            Set<ForecastKey> distinct = new LinkedHashSet<>(keys);
+            return forecastCache.getAllPresentReactive(distinct).flatMap(cached -> {
+                Map<ForecastKey, DailyForecastColumns> resolved = new ConcurrentHashMap<>(cached);
+                List<ForecastKey> missing = distinct.stream().filter(key -> !cached.containsKey(key)).toList();
+
+                return Flux.fromIterable(partition(missing, apiConfig.getBatchChunkSize()))
+                        .flatMap(this::fetchWeatherDataBatch, apiConfig.getBatchConcurrency())
+                        .doOnNext(resolved::putAll)
+                        .then(Mono.fromSupplier(() -> keys.stream().map(resolved::get).toList()));
+            });
+        });
+    }
+
+    public Mono<DailyForecastColumns> refresh(ForecastKey key) {
+        return Mono.defer(() -> Mono.fromFuture(fetchCoalescer.executeAsync(key,
+                () -> fetchWeatherDataReactive(key).toFuture()), true));
+    }
+
+    // Serves the stale forecast to the caller while one coalesced fetch replaces it.
+    private void refreshInBackground(ForecastKey key) {
+        fetchCoalescer.executeAsync(key, () -> fetchWeatherDataReactive(key).toFuture());
+    }
+
+    // A remembered failure is checked before the peer hop, so a failing cell does not also wait for
+    // the owner while it is down. An upstream failure reported by the owner is remembered the same
+    // way, so the cell is not fetched a second time from here.
+    private DailyForecastColumns fetchWeatherData(ForecastKey key) {
+        WeatherApiException recentFailure = forecastCache.getFailure(key);
+        if (recentFailure != null) {
+            throw new WeatherApiException(recentFailure.getMessage());
+        }
+
+        DailyForecastColumns fromOwner;
+        try {
+            fromOwner = peerForecastClient.fetchFromOwner(key).block();
+        } catch (WeatherApiException e) {
+            throw rememberFailure(key, e);
+        }
+        if (fromOwner != null) {
+            return fromOwner;
+        }
 
         try {
-            OpenMeteo response = openMeteoClient.fetchWeatherForecast(latitude, longitude);
-            validationService.validateResponse(response);
+            OpenMeteoForecast response = openMeteoClient.fetchWeatherForecast(key.latitude(), key.longitude());
+            return mapResponse(response);
+        } catch (RuntimeException e) {
+            throw rememberFailure(key, asForecastException(e));
+        }
+    }
+
+    private Mono<DailyForecastColumns> fetchWeatherDataReactive(ForecastKey key) {
+        return Mono.defer(() -> {
+            WeatherApiException recentFailure = forecastCache.getFailure(key);
+            if (recentFailure != null) {
+                return Mono.error(new WeatherApiException(recentFailure.getMessage()));
+            }
+
+            return peerForecastClient.fetchFromOwner(key)
+                    .map(forecast -> forecastCache.put(key, forecast))
+                    .onErrorMap(WeatherApiException.class, e -> rememberFailure(key, e))
+                    .switchIfEmpty(fetchFromUpstream(key));
+        });
+    }
+
+    private Mono<DailyForecastColumns> fetchFromUpstream(ForecastKey key) {
+        return Mono.defer(() -> {
+            WeatherApiException recentFailure = forecastCache.getFailure(key);
+            if (recentFailure != null) {
+                return Mono.error(new WeatherApiException(recentFailure.getMessage()));
+            }
+
+            return openMeteoClient.fetchWeatherForecastReactive(key.latitude(), key.longitude())
+                    .switchIfEmpty(Mono.error(() -> new WeatherApiException("No response received from Open-Meteo API")))
+                    .map(response -> forecastCache.put(key, mapResponse(response)))
+                    .onErrorMap(e -> rememberFailure(key, asForecastException(e)));
+        });
+    }
+
+    private Mono<Map<ForecastKey, DailyForecastColumns>> fetchWeatherDataBatch(List<ForecastKey> chunk) {
+        return openMeteoClient.fetchWeatherForecastsReactive(chunk)
+                .map(responses -> {
+                    pipelineMetrics.time(Stage.VALIDATION,
+                            () -> validationService.validateResponses(responses, chunk.size()));
+                    responses.forEach(response -> pipelineMetrics.recordGenerationTime(response.generationtimeMs()));
+                    List<DailyForecastColumns> weatherData = pipelineMetrics.time(Stage.MAPPING,
+                            () -> dataMappingService.mapAllToColumns(responses));
+
+                    Map<ForecastKey, DailyForecastColumns> fetched = new HashMap<>();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        fetched.put(chunk.get(i), forecastCache.put(chunk.get(i), weatherData.get(i)));
+                    }
+                    return fetched;
+                })
+                .onErrorMap(this::asForecastException);
+    }
+
+    private List<List<ForecastKey>> partition(List<ForecastKey> keys, int chunkSize) {
+        List<List<ForecastKey>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += chunkSize) {
+            chunks.add(keys.subList(from, Math.min(from + chunkSize, keys.size())));
+        }
+        return chunks;
+    }
+
+    private DailyForecastColumns mapResponse(OpenMeteoForecast response) {
+        pipelineMetrics.time(Stage.VALIDATION, () -> validationService.validateResponse(response));
+        pipelineMetrics.recordGenerationTime(response.generationtimeMs());
 
-            return dataMappingService.mapToWeatherData(response);
+        return pipelineMetrics.time(Stage.MAPPING, () -> dataMappingService.mapToColumns(response));
+    }
 
-        } catch (WeatherApiException | ValidationException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new DataProcessingException("Failed to process weather data: " + e.getMessage(), e);
+    // Local rejections by the limiter or the circuit breaker are not remembered: they reflect load on
+    // this instance, not a problem with the grid cell.
+    private RuntimeException rememberFailure(ForecastKey key, RuntimeException e) {
+        if (e instanceof WeatherApiException weatherApiException && !(e instanceof UpstreamRejectedException)) {
+            forecastCache.putFailure(key, weatherApiException);
         }
+        return e;
+    }
+
+    private RuntimeException asForecastException(Throwable e) {
+        RuntimeException forecastException = e instanceof WeatherApiException || e instanceof ValidationException
+                ? (RuntimeException) e
+                : new DataProcessingException("Failed to process weather data: " + e.getMessage(), e);
+
+        pipelineMetrics.recordUpstreamError(forecastException);
+        return forecastException;
     }
 }
@@ -0,0 +1,93 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.EnergyBatch;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Sums the energy of a range of sites into a {@code regions × days} grid, splitting the range in
+ * half until it is at most {@code threshold} sites. Each half fills its own grid and the halves are
+ * added together, so no two workers write to the same array.
+ */
+final class PortfolioReduction extends RecursiveTask<PortfolioReduction.Totals> {
+
+    /**
+     * Energy and number of contributing site-days per region and day, stored row by region.
+     */
+    record Totals(double[] energy, int[] siteDays) {
+
+        Totals(int cells) {
+            this(new double[cells], new int[cells]);
+        }
+
+        Totals merge(Totals other) {
+            for (int i = 0; i < energy.length; i++) {
+                energy[i] += other.energy[i];
+                siteDays[i] += other.siteDays[i];
+            }
+            return this;
+        }
+    }
+
+    private final EnergyBatch batch;
+    private final List<DailyForecastColumns> forecasts;
+    private final int[] siteRegions;
+    private final int firstEpochDay;
+    private final int days;
+    private final int regions;
+    private final int threshold;
+    private final int from;
+    private final int to;
+
+    PortfolioReduction(EnergyBatch batch, List<DailyForecastColumns> forecasts, int[] siteRegions,
+                       int firstEpochDay, int days, int regions, int threshold) {
+        this(batch, forecasts, siteRegions, firstEpochDay, days, regions, Math.max(threshold, 1), 0, siteRegions.length);
+    }
+
+    private PortfolioReduction(EnergyBatch batch, List<DailyForecastColumns> forecasts, int[] siteRegions,
+                               int firstEpochDay, int days, int regions, int threshold, int from, int to) {
+        this.batch = batch;
+        this.forecasts = forecasts;
+        this.siteRegions = siteRegions;
+        this.firstEpochDay = firstEpochDay;
+        this.days = days;
+        this.regions = regions;
+        this.threshold = threshold;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected Totals compute() {
+        if (to - from <= threshold) {
+            return sum();
+        }
+
+        int middle = (from + to) >>> 1;
+        PortfolioReduction left = new PortfolioReduction(batch, forecasts, siteRegions, firstEpochDay, days, regions,
+                threshold, from, middle);
+        PortfolioReduction right = new PortfolioReduction(batch, forecasts, siteRegions, firstEpochDay, days, regions,
+                threshold, middle, to);
+        left.fork();
+        Totals rightTotals = right.compute();
+        return left.join().merge(rightTotals);
+    }
+
+    // Days are placed by date rather than position: sites in other time zones, or forecasts with
+    // dropped days, do not start on the same date.
+    private Totals sum() {
+        Totals totals = new Totals(regions * days);
+        for (int site = from; site < to; site++) {
+            DailyForecastColumns forecast = forecasts.get(site);
+            int row = siteRegions[site] * days - firstEpochDay;
+            for (int day = 0; day < batch.days(site); day++) {
+                int cell = row + forecast.epochDay(day);
+                totals.energy[cell] += batch.energy(site, day);
+                totals.siteDays[cell]++;
+            }
+        }
+        return totals;
+    }
+}
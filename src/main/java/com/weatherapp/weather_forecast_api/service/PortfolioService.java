@@ -0,0 +1,137 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.config.PortfolioConfig;
+import com.weatherapp.weather_forecast_api.dto.DailyEnergyDto;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.dto.PortfolioForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.PortfolioRequest;
+import com.weatherapp.weather_forecast_api.dto.PortfolioSiteRequest;
+import com.weatherapp.weather_forecast_api.dto.RegionEnergyResponse;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.EnergyBatch;
+import com.weatherapp.weather_forecast_api.model.SolarInstallation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Expected energy of a fleet of solar sites per day and per region. Forecasts are resolved like a
+ * batch request, so sites sharing a grid cell share one forecast and missing cells are fetched as
+ * concurrent multi-location chunks. Site energy is computed by {@link SolarEnergyBatchService} and
+ * summed by a {@link PortfolioReduction} on the common fork-join pool, off the request thread.
+ */
+@Service
+public class PortfolioService {
+    static final String UNASSIGNED_REGION = "unassigned";
+
+    private final OpenMeteoService openMeteoService;
+    private final SolarEnergyBatchService solarEnergyBatchService;
+    private final PortfolioConfig portfolioConfig;
+    private final ForkJoinPool pool;
+
+    @Autowired
+    public PortfolioService(OpenMeteoService openMeteoService,
+                            SolarEnergyBatchService solarEnergyBatchService,
+                            PortfolioConfig portfolioConfig) {
+        this(openMeteoService, solarEnergyBatchService, portfolioConfig, ForkJoinPool.commonPool());
+    }
+
+    PortfolioService(OpenMeteoService openMeteoService, SolarEnergyBatchService solarEnergyBatchService,
+                     PortfolioConfig portfolioConfig, ForkJoinPool pool) {
+        this.openMeteoService = openMeteoService;
+        this.solarEnergyBatchService = solarEnergyBatchService;
+        this.portfolioConfig = portfolioConfig;
+        this.pool = pool;
+    }
+
+    public Mono<PortfolioForecastResponse> getPortfolioForecastReactive(PortfolioRequest portfolioRequest) {
+        List<PortfolioSiteRequest> sites = portfolioRequest.sites();
+        List<LocationRequest> locations = sites.stream()
+                .map(site -> new LocationRequest(site.latitude(), site.longitude()))
+                .toList();
+
+        return openMeteoService.getWeatherForecastsReactive(locations)
+                .flatMap(forecasts -> Mono.fromFuture(
+                        () -> CompletableFuture.supplyAsync(() -> aggregate(sites, forecasts), pool)));
+    }
+
+    PortfolioForecastResponse aggregate(List<PortfolioSiteRequest> sites, List<DailyForecastColumns> forecasts) {
+        Map<String, Integer> regionIndexes = new LinkedHashMap<>();
+        int[] siteRegions = new int[sites.size()];
+        List<SolarInstallation> installations = new ArrayList<>(sites.size());
+        for (int i = 0; i < sites.size(); i++) {
+            PortfolioSiteRequest site = sites.get(i);
+            siteRegions[i] = regionIndexes.computeIfAbsent(regionOf(site), region -> regionIndexes.size());
+            installations.add(new SolarInstallation(site.peakPowerKw(), site.efficiency(),
+                    site.orientationDerating() != null ? site.orientationDerating() : 1.0));
+        }
+
+        int firstEpochDay = Integer.MAX_VALUE;
+        int lastEpochDay = Integer.MIN_VALUE;
+        for (DailyForecastColumns forecast : forecasts) {
+            for (int day = 0; day < forecast.size(); day++) {
+                firstEpochDay = Math.min(firstEpochDay, forecast.epochDay(day));
+                lastEpochDay = Math.max(lastEpochDay, forecast.epochDay(day));
+            }
+        }
+        int days = firstEpochDay <= lastEpochDay ? lastEpochDay - firstEpochDay + 1 : 0;
+        int regions = regionIndexes.size();
+
+        EnergyBatch batch = solarEnergyBatchService.calculate(installations, forecasts);
+        PortfolioReduction.Totals totals = pool.invoke(new PortfolioReduction(batch, forecasts, siteRegions,
+                firstEpochDay, days, regions, portfolioConfig.getForkThreshold()));
+
+        int[] regionSites = new int[regions];
+        for (int region : siteRegions) {
+            regionSites[region]++;
+        }
+
+        double[] dailyEnergy = new double[days];
+        int[] dailySiteDays = new int[days];
+        List<RegionEnergyResponse> regionResponses = new ArrayList<>(regions);
+        for (Map.Entry<String, Integer> region : regionIndexes.entrySet()) {
+            int row = region.getValue() * days;
+            List<DailyEnergyDto> regionDaily = new ArrayList<>(days);
+            double regionTotal = 0.0;
+            for (int day = 0; day < days; day++) {
+                if (totals.siteDays()[row + day] == 0) {
+                    continue;
+                }
+                double energy = totals.energy()[row + day];
+                dailyEnergy[day] += energy;
+                dailySiteDays[day] += totals.siteDays()[row + day];
+                regionTotal += energy;
+                regionDaily.add(new DailyEnergyDto(LocalDate.ofEpochDay(firstEpochDay + day), round(energy)));
+            }
+            regionResponses.add(new RegionEnergyResponse(region.getKey(), regionSites[region.getValue()],
+                    round(regionTotal), regionDaily));
+        }
+
+        List<DailyEnergyDto> daily = new ArrayList<>(days);
+        double total = 0.0;
+        for (int day = 0; day < days; day++) {
+            if (dailySiteDays[day] > 0) {
+                total += dailyEnergy[day];
+                daily.add(new DailyEnergyDto(LocalDate.ofEpochDay(firstEpochDay + day), round(dailyEnergy[day])));
+            }
+        }
+
+        return new PortfolioForecastResponse(sites.size(), round(total), daily, regionResponses);
+    }
+
+    private static String regionOf(PortfolioSiteRequest site) {
+        return site.region() == null || site.region().isBlank() ? UNASSIGNED_REGION : site.region();
+    }
+
+    private static double round(double energy) {
+        return Math.round(energy * 100.0) / 100.0;
+    }
+}
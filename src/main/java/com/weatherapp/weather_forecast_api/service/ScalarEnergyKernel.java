@@ -0,0 +1,12 @@
+package com.weatherapp.weather_forecast_api.service;
+
+final class ScalarEnergyKernel implements EnergyKernel {
+
+    @Override
+    public void calculate(double[] sunshineHours, double[] peakPowerKw, double[] efficiency,
+                          double[] orientationDerating, double[] energy, int length) {
+        for (int i = 0; i < length; i++) {
+            energy[i] = peakPowerKw[i] * Math.max(sunshineHours[i], 0.0) * efficiency[i] * orientationDerating[i];
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.cache.ForecastKeyFactory;
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.config.PortfolioConfig;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.dto.PortfolioSiteRequest;
+import com.weatherapp.weather_forecast_api.dto.RankedSiteDto;
+import com.weatherapp.weather_forecast_api.dto.SiteRankingRequest;
+import com.weatherapp.weather_forecast_api.dto.SiteRankingResponse;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import com.weatherapp.weather_forecast_api.model.SolarInstallation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranks sites by the energy they are expected to produce over the forecast horizon. Sites sharing a
+ * grid cell share one forecast. The distinct cells are resolved {@code batchChunkSize} at a time
+ * through the multi-location batch path, at most {@code rankingConcurrency} chunks at a time, and
+ * each chunk's sites are scored as soon as it arrives. Only the best {@code limit} are kept in a
+ * {@link TopKSelector}. Sites still pending at {@code rankingDeadline} are dropped and the ranking
+ * of the sites scored so far is returned as partial. Sites whose chunk fails are counted and left
+ * out of the ranking.
+ */
+@Service
+@Slf4j
+public class SiteRankingService {
+    static final int DEFAULT_LIMIT = 10;
+
+    private static final Comparator<SiteScore> BY_ENERGY = Comparator.comparingDouble(SiteScore::energy)
+            .thenComparing(Comparator.comparingInt(SiteScore::index).reversed());
+
+    private final OpenMeteoService openMeteoService;
+    private final SolarEnergyService solarEnergyService;
+    private final ForecastKeyFactory forecastKeyFactory;
+    private final int chunkSize;
+    private final int concurrency;
+    private final Duration deadline;
+
+    @Autowired
+    public SiteRankingService(OpenMeteoService openMeteoService,
+                              SolarEnergyService solarEnergyService,
+                              ForecastKeyFactory forecastKeyFactory,
+                              ApiConfig apiConfig,
+                              PortfolioConfig portfolioConfig) {
+        this.openMeteoService = openMeteoService;
+        this.solarEnergyService = solarEnergyService;
+        this.forecastKeyFactory = forecastKeyFactory;
+        this.chunkSize = Math.max(apiConfig.getBatchChunkSize(), 1);
+        this.concurrency = Math.max(portfolioConfig.getRankingConcurrency(), 1);
+        this.deadline = portfolioConfig.getRankingDeadline();
+    }
+
+    public Mono<SiteRankingResponse> rankSites(SiteRankingRequest rankingRequest) {
+        List<PortfolioSiteRequest> sites = rankingRequest.sites();
+        int limit = rankingRequest.limit() != null ? rankingRequest.limit() : DEFAULT_LIMIT;
+
+        return Flux.fromIterable(partition(sitesByCell(sites)))
+                .flatMap(chunk -> score(chunk, sites), concurrency)
+                .take(deadline)
+                .collect(() -> new Ranking(limit), Ranking::addAll)
+                .map(ranking -> ranking.toResponse(sites));
+    }
+
+    // Indexes of the sites in each distinct grid cell, in order of first appearance.
+    private Map<ForecastKey, List<Integer>> sitesByCell(List<PortfolioSiteRequest> sites) {
+        Map<ForecastKey, List<Integer>> cells = new LinkedHashMap<>();
+        for (int i = 0; i < sites.size(); i++) {
+            PortfolioSiteRequest site = sites.get(i);
+            cells.computeIfAbsent(forecastKeyFactory.create(site.latitude(), site.longitude()),
+                    key -> new ArrayList<>()).add(i);
+        }
+        return cells;
+    }
+
+    private List<List<List<Integer>>> partition(Map<ForecastKey, List<Integer>> cells) {
+        List<List<Integer>> sitesPerCell = new ArrayList<>(cells.values());
+        List<List<List<Integer>>> chunks = new ArrayList<>();
+        for (int from = 0; from < sitesPerCell.size(); from += chunkSize) {
+            chunks.add(sitesPerCell.subList(from, Math.min(from + chunkSize, sitesPerCell.size())));
+        }
+        return chunks;
+    }
+
+    // Every cell is requested through its first site; the others in the cell reuse its forecast.
+    private Mono<List<SiteScore>> score(List<List<Integer>> cells, List<PortfolioSiteRequest> sites) {
+        List<LocationRequest> locations = cells.stream()
+                .map(cell -> sites.get(cell.get(0)))
+                .map(site -> new LocationRequest(site.latitude(), site.longitude()))
+                .toList();
+
+        return openMeteoService.getWeatherForecastsReactive(locations)
+                .map(forecasts -> {
+                    List<SiteScore> scores = new ArrayList<>();
+                    for (int cell = 0; cell < cells.size(); cell++) {
+                        DailyForecastColumns forecast = forecasts.get(cell);
+                        for (int index : cells.get(cell)) {
+                            scores.add(new SiteScore(index, totalEnergy(forecast, installation(sites.get(index)))));
+                        }
+                    }
+                    return scores;
+                })
+                .onErrorResume(e -> {
+                    List<SiteScore> failed = cells.stream().flatMap(List::stream).map(SiteScore::failed).toList();
+                    log.warn("Leaving {} sites out of the ranking: {}", failed.size(), e.getMessage());
+                    return Mono.just(failed);
+                });
+    }
+
+    private static SolarInstallation installation(PortfolioSiteRequest site) {
+        return new SolarInstallation(site.peakPowerKw(), site.efficiency(),
+                site.orientationDerating() != null ? site.orientationDerating() : 1.0);
+    }
+
+    private double totalEnergy(DailyForecastColumns forecast, SolarInstallation installation) {
+        double total = 0.0;
+        for (int day = 0; day < forecast.size(); day++) {
+            total += solarEnergyService.calculateEnergyProduction(forecast.sunshineHours(day), installation);
+        }
+        return Math.round(total * 100.0) / 100.0;
+    }
+
+    private record SiteScore(int index, double energy, boolean failed) {
+
+        SiteScore(int index, double energy) {
+            this(index, energy, false);
+        }
+
+        static SiteScore failed(int index) {
+            return new SiteScore(index, Double.NaN, true);
+        }
+    }
+
+    private static final class Ranking {
+        private final TopKSelector<SiteScore> best;
+        private int evaluated;
+        private int failed;
+
+        Ranking(int limit) {
+            this.best = new TopKSelector<>(limit, BY_ENERGY);
+        }
+
+        void addAll(List<SiteScore> scores) {
+            for (SiteScore score : scores) {
+                if (score.failed()) {
+                    failed++;
+                } else {
+                    evaluated++;
+                    best.offer(score);
+                }
+            }
+        }
+
+        SiteRankingResponse toResponse(List<PortfolioSiteRequest> sites) {
+            List<SiteScore> selected = best.toSortedList();
+            List<RankedSiteDto> ranked = new ArrayList<>(selected.size());
+            for (int i = 0; i < selected.size(); i++) {
+                SiteScore score = selected.get(i);
+                PortfolioSiteRequest site = sites.get(score.index());
+                ranked.add(new RankedSiteDto(i + 1, score.index(), site.id(), site.region(),
+                        site.latitude(), site.longitude(), score.energy()));
+            }
+            return new SiteRankingResponse(ranked, evaluated, failed, sites.size(),
+                    evaluated + failed < sites.size());
+        }
+    }
+}
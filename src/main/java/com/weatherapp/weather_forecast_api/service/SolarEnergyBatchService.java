@@ -0,0 +1,114 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.config.SolarConfig;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.EnergyBatch;
+import com.weatherapp.weather_forecast_api.model.SolarInstallation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Energy of many installations over many days in one pass. Installation-days are packed into flat
+ * arrays and computed by an {@link EnergyKernel}: the Vector API one when {@code weather.solar.vector-api}
+ * is on and the JVM was started with {@code --add-modules jdk.incubator.vector}, the scalar one
+ * otherwise. Both give identical results. Values are in kWh and not rounded, so totals over a fleet
+ * keep full precision; round them for display like {@link SolarEnergyService} does.
+ */
+@Service
+@Slf4j
+public class SolarEnergyBatchService {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    // Installation-days packed per kernel call. The five columns of a chunk (160 KiB) stay in the
+    // L2 cache; packing a whole fleet at once made the kernel wait on memory.
+    private static final int CHUNK_SIZE = 4_096;
+
+    private final EnergyKernel kernel;
+    private final boolean vectorized;
+
+    @Autowired
+    public SolarEnergyBatchService(SolarConfig solarConfig) {
+        this.vectorized = solarConfig.isVectorApi() && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+        this.kernel = vectorized ? new VectorEnergyKernel() : new ScalarEnergyKernel();
+        if (vectorized) {
+            log.info("Solar energy batches use the Vector API with {} lanes", VectorEnergyKernel.lanes());
+        } else if (solarConfig.isVectorApi()) {
+            log.info("Module {} is not available, solar energy batches use the scalar kernel", VECTOR_MODULE);
+        }
+    }
+
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * Returns the energy of every day of every installation, where installation {@code i} produces
+     * under {@code forecasts.get(i)}. Installations in the same grid cell can share one forecast.
+     */
+    public EnergyBatch calculate(List<SolarInstallation> installations, List<DailyForecastColumns> forecasts) {
+        if (installations.size() != forecasts.size()) {
+            throw new IllegalArgumentException("Expected one forecast per installation but got "
+                    + forecasts.size() + " for " + installations.size());
+        }
+
+        int[] offsets = new int[installations.size() + 1];
+        for (int i = 0; i < forecasts.size(); i++) {
+            offsets[i + 1] = offsets[i] + forecasts.get(i).size();
+        }
+
+        int length = offsets[installations.size()];
+        double[] energy = new double[length];
+        int chunkSize = Math.min(length, CHUNK_SIZE);
+        double[] sunshineHours = new double[chunkSize];
+        double[] peakPowerKw = new double[chunkSize];
+        double[] efficiency = new double[chunkSize];
+        double[] orientationDerating = new double[chunkSize];
+        double[] chunkEnergy = new double[chunkSize];
+        for (int chunkStart = 0; chunkStart < length; chunkStart += chunkSize) {
+            int chunkEnd = Math.min(chunkStart + chunkSize, length);
+            int i = installationAt(offsets, chunkStart);
+            for (int from = chunkStart; from < chunkEnd; i++) {
+                int to = Math.min(offsets[i + 1], chunkEnd);
+                SolarInstallation installation = installations.get(i);
+                forecasts.get(i).copySunshineHours(from - offsets[i], sunshineHours, from - chunkStart, to - from);
+                Arrays.fill(peakPowerKw, from - chunkStart, to - chunkStart, installation.peakPowerKw());
+                Arrays.fill(efficiency, from - chunkStart, to - chunkStart, installation.efficiency());
+                Arrays.fill(orientationDerating, from - chunkStart, to - chunkStart, installation.orientationDerating());
+                from = to;
+            }
+            kernel.calculate(sunshineHours, peakPowerKw, efficiency, orientationDerating, chunkEnergy,
+                    chunkEnd - chunkStart);
+            System.arraycopy(chunkEnergy, 0, energy, chunkStart, chunkEnd - chunkStart);
+        }
+        return new EnergyBatch(energy, offsets);
+    }
+
+    // Index of the installation whose days include installation-day {@code index}.
+    private static int installationAt(int[] offsets, int index) {
+        int i = Arrays.binarySearch(offsets, index);
+        if (i < 0) {
+            return -i - 2;
+        }
+        while (offsets[i + 1] == index) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Computes {@code energy[i] = peakPowerKw[i] × max(sunshineHours[i], 0) × efficiency[i] × orientationDerating[i]}
+     * over already packed installation-days.
+     */
+    public void calculate(double[] sunshineHours, double[] peakPowerKw, double[] efficiency,
+                          double[] orientationDerating, double[] energy) {
+        int length = sunshineHours.length;
+        if (peakPowerKw.length != length || efficiency.length != length
+                || orientationDerating.length != length || energy.length != length) {
+            throw new IllegalArgumentException("All energy columns must have the same length");
+        }
+        kernel.calculate(sunshineHours, peakPowerKw, efficiency, orientationDerating, energy, length);
+    }
+}
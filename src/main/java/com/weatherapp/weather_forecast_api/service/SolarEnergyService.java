@@ -1,18 +1,24 @@
 package com.weatherapp.weather_forecast_api.service;
 
+import com.weatherapp.weather_forecast_api.model.SolarInstallation;
 import org.springframework.stereotype.Service;
 
 @Service
 public class SolarEnergyService {
-    private static final double INSTALLATION_POWER_KW = 2.5;
-    private static final double PANEL_EFFICIENCY = 0.2;
 
     public double calculateEnergyProduction(double sunshineHours) {
-        if (sunshineHours < 0) {
-            sunshineHours = 0;
-        }
+        return calculateEnergyProduction(sunshineHours, SolarInstallation.REFERENCE);
+    }
 
-        double energyProduced = INSTALLATION_POWER_KW * sunshineHours * PANEL_EFFICIENCY;
+    public double calculateEnergyProduction(double sunshineHours, SolarInstallation installation) {
+        double energyProduced = unroundedEnergyProduction(sunshineHours, installation);
         return Math.round(energyProduced * 100.0) / 100.0;
     }
+
+    // The batch kernels clamp and multiply in this exact order so their results match bit for bit.
+    // Math.max also turns -0.0 into 0.0, like the vector max does.
+    static double unroundedEnergyProduction(double sunshineHours, SolarInstallation installation) {
+        return installation.peakPowerKw() * Math.max(sunshineHours, 0.0) * installation.efficiency()
+                * installation.orientationDerating();
+    }
 }
@@ -0,0 +1,48 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the {@code k} greatest elements offered to it in a min-heap of at most {@code k} entries,
+ * so selecting from {@code n} elements takes {@code O(n log k)} time and {@code O(k)} memory.
+ * Not thread-safe.
+ */
+final class TopKSelector<T> {
+    private final int k;
+    private final Comparator<? super T> comparator;
+    private final PriorityQueue<T> heap;
+
+    TopKSelector(int k, Comparator<? super T> comparator) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive but was " + k);
+        }
+        this.k = k;
+        this.comparator = comparator;
+        this.heap = new PriorityQueue<>(Math.min(k, 1024) + 1, comparator);
+    }
+
+    void offer(T element) {
+        if (heap.size() < k) {
+            heap.add(element);
+        } else if (comparator.compare(element, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns the selected elements, greatest first.
+     */
+    List<T> toSortedList() {
+        List<T> selected = new ArrayList<>(heap);
+        selected.sort(comparator.reversed());
+        return selected;
+    }
+}
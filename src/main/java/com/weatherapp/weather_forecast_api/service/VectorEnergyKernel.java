@@ -0,0 +1,33 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link EnergyKernel} on the incubating Vector API, processing as many installation-days per
+ * instruction as the CPU's preferred vector width holds. Only loaded when the
+ * {@code jdk.incubator.vector} module is present.
+ */
+final class VectorEnergyKernel implements EnergyKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void calculate(double[] sunshineHours, double[] peakPowerKw, double[] efficiency,
+                          double[] orientationDerating, double[] energy, int length) {
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(length); i < upperBound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, peakPowerKw, i)
+                    .mul(DoubleVector.fromArray(SPECIES, sunshineHours, i).max(0.0))
+                    .mul(DoubleVector.fromArray(SPECIES, efficiency, i))
+                    .mul(DoubleVector.fromArray(SPECIES, orientationDerating, i))
+                    .intoArray(energy, i);
+        }
+        for (; i < length; i++) {
+            energy[i] = peakPowerKw[i] * Math.max(sunshineHours[i], 0.0) * efficiency[i] * orientationDerating[i];
+        }
+    }
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+}
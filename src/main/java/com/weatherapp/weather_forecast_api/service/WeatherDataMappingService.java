@@ -1,50 +1,82 @@
 package com.weatherapp.weather_forecast_api.service;
 
 import com.weatherapp.weather_forecast_api.exception.DataProcessingException;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
 import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
 import com.weatherapp.weather_forecast_api.model.OpenMeteo;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Service
 public class WeatherDataMappingService {
 
     public List<DailyWeatherData> mapToWeatherData(OpenMeteo response) {
-        List<DailyWeatherData> weatherDataList = new ArrayList<>();
+        return mapToColumns(response).toDailyWeatherData();
+    }
+
+    public DailyForecastColumns mapToColumns(OpenMeteo response) {
         OpenMeteo.Daily daily = response.getDaily();
         int dataSize = daily.getTime().size();
 
+        int[] epochDays = new int[dataSize];
+        int[] weatherCodes = new int[dataSize];
+        double[] minTemperatures = new double[dataSize];
+        double[] maxTemperatures = new double[dataSize];
+        double[] sunshineHours = new double[dataSize];
+        double[] pressures = new double[dataSize];
+        int days = 0;
+
         for (int i = 0; i < dataSize; i++) {
             try {
-                DailyWeatherData data = createDailyWeatherData(daily, i);
-                weatherDataList.add(data);
+                epochDays[days] = (int) LocalDate.parse(daily.getTime().get(i), DateTimeFormatter.ISO_LOCAL_DATE)
+                        .toEpochDay();
             } catch (Exception e) {
-
+                continue;
             }
+
+            weatherCodes[days] = getValueOrDefault(daily.getWeatherCode(), i, 0);
+            minTemperatures[days] = getValueOrDefault(daily.getTemperatureMin(), i, 0.0);
+            maxTemperatures[days] = getValueOrDefault(daily.getTemperatureMax(), i, 0.0);
+            sunshineHours[days] = getValueOrDefault(daily.getSunshineDuration(), i, 0.0) / 3600.0;
+            pressures[days] = getValueOrDefault(daily.getSurfacePressureMean(), i, 1013.25);
+            days++;
+        }
+
+        if (days == 0) {
+            throw new DataProcessingException("No valid weather data could be processed");
+        }
+
+        if (days < dataSize) {
+            return new DailyForecastColumns(Arrays.copyOf(epochDays, days), Arrays.copyOf(weatherCodes, days),
+                    Arrays.copyOf(minTemperatures, days), Arrays.copyOf(maxTemperatures, days),
+                    Arrays.copyOf(sunshineHours, days), Arrays.copyOf(pressures, days));
         }
+        return new DailyForecastColumns(epochDays, weatherCodes, minTemperatures, maxTemperatures,
+                sunshineHours, pressures);
+    }
 
-        if (weatherDataList.isEmpty()) {
+    public DailyForecastColumns mapToColumns(OpenMeteoForecast response) {
+        if (response.daily().isEmpty()) {
             throw new DataProcessingException("No valid weather data could be processed");
         }
 
-        return weatherDataList;
+        return response.daily();
     }
 
-    private DailyWeatherData createDailyWeatherData(OpenMeteo.Daily daily, int index) {
-        DailyWeatherData data = new DailyWeatherData();
+    public List<DailyForecastColumns> mapAllToColumns(List<OpenMeteoForecast> responses) {
+        List<DailyForecastColumns> columnsPerLocation = new ArrayList<>(responses.size());
 
-        data.setDate(LocalDate.parse(daily.getTime().get(index), DateTimeFormatter.ISO_LOCAL_DATE));
-        data.setWeatherCode(getValueOrDefault(daily.getWeatherCode(), index, 0));
-        data.setMinTemperature(getValueOrDefault(daily.getTemperatureMin(), index, 0.0));
-        data.setMaxTemperature(getValueOrDefault(daily.getTemperatureMax(), index, 0.0));
-        data.setSunshineDuration(getValueOrDefault(daily.getSunshineDuration(), index, 0.0) / 3600.0);
-        data.setPressure(getValueOrDefault(daily.getSurfacePressureMean(), index, 1013.25));
+        for (OpenMeteoForecast response : responses) {
+            columnsPerLocation.add(mapToColumns(response));
+        }
 
-        return data;
+        return columnsPerLocation;
     }
 
     private <T> T getValueOrDefault(List<T> list, int index, T defaultValue) {
@@ -1,11 +1,19 @@
 package com.weatherapp.weather_forecast_api.service;
 
 import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.dto.HourlyForecastDto;
 import com.weatherapp.weather_forecast_api.dto.WeatherSummaryResponse;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
 import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
+import com.weatherapp.weather_forecast_api.model.HourlyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.HourlyResolution;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -17,26 +25,103 @@ public class WeatherMappingService {
         this.solarEnergyService = solarEnergyService;
     }
 
+    // Boxed input may have missing fields, which the primitive columns cannot hold: they are passed
+    // through as null, and a day without sunshine duration gets no energy figure.
     public List<DailyForecastDto> mapToForecastDtos(List<DailyWeatherData> weatherData) {
         return weatherData.stream()
                 .map(this::mapToDailyForecastDto)
                 .toList();
     }
 
+    public List<DailyForecastDto> mapToForecastDtos(DailyForecastColumns weatherData) {
+        List<DailyForecastDto> forecastDtos = new ArrayList<>(weatherData.size());
+        for (int day = 0; day < weatherData.size(); day++) {
+            forecastDtos.add(mapToDailyForecastDto(weatherData, day));
+        }
+        return List.copyOf(forecastDtos);
+    }
+
     public WeatherSummaryResponse mapToSummaryResponse(List<DailyWeatherData> weatherData,
                                                        WeatherSummaryService summaryService) {
-        return new WeatherSummaryResponse(
-                summaryService.calculateAveragePressure(weatherData),
-                summaryService.calculateAverageSunshineHours(weatherData),
-                summaryService.findMinTemperature(weatherData),
-                summaryService.findMaxTemperature(weatherData),
-                summaryService.generateWeekSummary(weatherData)
+        return summaryService.summarize(weatherData);
+    }
+
+    public WeatherReport mapToReport(List<DailyWeatherData> weatherData, WeatherSummaryService summaryService) {
+        return new WeatherReport(mapToForecastDtos(weatherData), summaryService.summarize(weatherData), false);
+    }
+
+    public WeatherReport mapToReport(DailyForecastColumns weatherData, WeatherSummaryService summaryService) {
+        List<DailyForecastDto> forecastDtos = new ArrayList<>(weatherData.size());
+        WeatherSummaryAccumulator summary = new WeatherSummaryAccumulator();
+
+        for (int day = 0; day < weatherData.size(); day++) {
+            forecastDtos.add(mapToDailyForecastDto(weatherData, day));
+            summary.add(weatherData, day);
+        }
+
+        return new WeatherReport(List.copyOf(forecastDtos), summaryService.summarize(summary), weatherData.isStale());
+    }
+
+    // Intervals are aligned to multiples of the resolution in local time, so 3h, 6h and daily
+    // intervals start at midnight. An interval covers the hourly values that fall into it.
+    public List<HourlyForecastDto> mapToHourlyForecastDtos(HourlyForecastColumns weatherData,
+                                                           HourlyResolution resolution) {
+        int intervalHours = resolution.hours();
+        List<HourlyForecastDto> forecastDtos = new ArrayList<>(weatherData.size() / intervalHours + 1);
+
+        int from = 0;
+        while (from < weatherData.size()) {
+            int interval = Math.floorDiv(weatherData.epochHour(from), intervalHours);
+            int to = from + 1;
+            while (to < weatherData.size() && Math.floorDiv(weatherData.epochHour(to), intervalHours) == interval) {
+                to++;
+            }
+            forecastDtos.add(mapToHourlyForecastDto(weatherData, from, to, interval * intervalHours));
+            from = to;
+        }
+        return List.copyOf(forecastDtos);
+    }
+
+    private HourlyForecastDto mapToHourlyForecastDto(HourlyForecastColumns weatherData, int from, int to,
+                                                     int intervalStart) {
+        double temperatureSum = 0.0;
+        double minTemperature = Double.POSITIVE_INFINITY;
+        double maxTemperature = Double.NEGATIVE_INFINITY;
+        double sunshineSeconds = 0.0;
+        double radiationSum = 0.0;
+
+        for (int hour = from; hour < to; hour++) {
+            double temperature = weatherData.temperature(hour);
+            temperatureSum += temperature;
+            minTemperature = Math.min(minTemperature, temperature);
+            maxTemperature = Math.max(maxTemperature, temperature);
+            sunshineSeconds += weatherData.sunshineSeconds(hour);
+            radiationSum += weatherData.radiation(hour);
+        }
+
+        int hours = to - from;
+        double sunshineHours = sunshineSeconds / 3600.0;
+        return new HourlyForecastDto(
+                LocalDateTime.ofEpochSecond(intervalStart * 3600L, 0, ZoneOffset.UTC),
+                hours,
+                round(temperatureSum / hours, 10.0),
+                round(minTemperature, 10.0),
+                round(maxTemperature, 10.0),
+                round(sunshineHours, 100.0),
+                round(radiationSum / hours, 10.0),
+                solarEnergyService.calculateEnergyProduction(sunshineHours)
         );
     }
 
+    // Values are stored as float; rounding to the upstream precision drops the widening noise.
+    private static double round(double value, double scale) {
+        return Math.round(value * scale) / scale;
+    }
+
     private DailyForecastDto mapToDailyForecastDto(DailyWeatherData weatherData) {
-        double energyGenerated = solarEnergyService.calculateEnergyProduction(
-                weatherData.getSunshineDuration());
+        Double energyGenerated = weatherData.getSunshineDuration() != null
+                ? solarEnergyService.calculateEnergyProduction(weatherData.getSunshineDuration())
+                : null;
 
         return new DailyForecastDto(
                 weatherData.getDate(),
@@ -47,4 +132,17 @@ public class WeatherMappingService {
                 weatherData.getPressure()
         );
     }
+
+    private DailyForecastDto mapToDailyForecastDto(DailyForecastColumns weatherData, int day) {
+        double energyGenerated = solarEnergyService.calculateEnergyProduction(weatherData.sunshineHours(day));
+
+        return new DailyForecastDto(
+                weatherData.date(day),
+                weatherData.weatherCode(day),
+                weatherData.minTemperature(day),
+                weatherData.maxTemperature(day),
+                energyGenerated,
+                weatherData.pressure(day)
+        );
+    }
 }
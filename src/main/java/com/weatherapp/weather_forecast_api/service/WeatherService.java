@@ -1,49 +1,134 @@
 package com.weatherapp.weather_forecast_api.service;
 
+import com.weatherapp.weather_forecast_api.cache.WeatherReportCache;
+import com.weatherapp.weather_forecast_api.dto.BatchForecastRequest;
+import com.weatherapp.weather_forecast_api.dto.BatchForecastResponse;
 import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.dto.LocationForecastResponse;
 import com.weatherapp.weather_forecast_api.dto.LocationRequest;
 import com.weatherapp.weather_forecast_api.dto.WeatherForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.WeatherReportResponse;
 import com.weatherapp.weather_forecast_api.dto.WeatherSummaryResponse;
 import com.weatherapp.weather_forecast_api.exception.ValidationException;
-import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class WeatherService {
     private final OpenMeteoService openMeteoService;
     private final WeatherSummaryService weatherSummaryService;
     private final WeatherMappingService weatherMappingService;
+    private final WeatherReportCache weatherReportCache;
+    private final PipelineMetrics pipelineMetrics;
 
     @Autowired
     public WeatherService(OpenMeteoService openMeteoService,
                           WeatherSummaryService weatherSummaryService,
-                          WeatherMappingService weatherMappingService) {
+                          WeatherMappingService weatherMappingService,
+                          WeatherReportCache weatherReportCache,
+                          PipelineMetrics pipelineMetrics) {
         this.openMeteoService = openMeteoService;
         this.weatherSummaryService = weatherSummaryService;
         this.weatherMappingService = weatherMappingService;
+        this.weatherReportCache = weatherReportCache;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     public WeatherForecastResponse getWeatherForecast(LocationRequest locationRequest) {
+        return new WeatherForecastResponse(getWeatherReport(locationRequest).forecast());
+    }
+
+    public WeatherSummaryResponse getWeatherSummary(LocationRequest locationRequest) {
+        return getWeatherReport(locationRequest).summary();
+    }
+
+    public WeatherReportResponse getForecastWithSummary(LocationRequest locationRequest) {
+        return toReportResponse(getWeatherReport(locationRequest));
+    }
+
+    public WeatherReport getWeatherReport(LocationRequest locationRequest) {
         validateLocationRequest(locationRequest);
 
-        List<DailyWeatherData> weatherData = openMeteoService.getWeatherForecast(
+        DailyForecastColumns weatherData = openMeteoService.getWeatherForecast(
                 locationRequest.latitude(), locationRequest.longitude());
 
-        List<DailyForecastDto> forecastDtos = weatherMappingService.mapToForecastDtos(weatherData);
+        return toReport(weatherData);
+    }
 
-        return new WeatherForecastResponse(forecastDtos);
+    public Mono<WeatherForecastResponse> getWeatherForecastReactive(LocationRequest locationRequest) {
+        return getWeatherReportReactive(locationRequest)
+                .map(report -> new WeatherForecastResponse(report.forecast()));
     }
 
-    public WeatherSummaryResponse getWeatherSummary(LocationRequest locationRequest) {
-        validateLocationRequest(locationRequest);
+    public Mono<WeatherSummaryResponse> getWeatherSummaryReactive(LocationRequest locationRequest) {
+        return getWeatherReportReactive(locationRequest)
+                .map(WeatherReport::summary);
+    }
 
-        List<DailyWeatherData> weatherData = openMeteoService.getWeatherForecast(
-                locationRequest.latitude(), locationRequest.longitude());
+    public Mono<WeatherReportResponse> getForecastWithSummaryReactive(LocationRequest locationRequest) {
+        return getWeatherReportReactive(locationRequest)
+                .map(this::toReportResponse);
+    }
+
+    public Mono<WeatherReport> getWeatherReportReactive(LocationRequest locationRequest) {
+        return Mono.defer(() -> {
+            validateLocationRequest(locationRequest);
+
+            return openMeteoService.getWeatherForecastReactive(
+                            locationRequest.latitude(), locationRequest.longitude())
+                    .map(this::toReport);
+        });
+    }
+
+    public BatchForecastResponse getBatchForecast(BatchForecastRequest batchRequest) {
+        List<LocationRequest> locations = batchRequest.locations();
+        locations.forEach(this::validateLocationRequest);
+
+        return toBatchForecastResponse(locations, openMeteoService.getWeatherForecasts(locations));
+    }
+
+    public Mono<BatchForecastResponse> getBatchForecastReactive(BatchForecastRequest batchRequest) {
+        return Mono.defer(() -> {
+            List<LocationRequest> locations = batchRequest.locations();
+            locations.forEach(this::validateLocationRequest);
+
+            return openMeteoService.getWeatherForecastsReactive(locations)
+                    .map(weatherData -> toBatchForecastResponse(locations, weatherData));
+        });
+    }
+
+    private BatchForecastResponse toBatchForecastResponse(List<LocationRequest> locations,
+                                                          List<DailyForecastColumns> weatherDataPerLocation) {
+        Map<DailyForecastColumns, List<DailyForecastDto>> mappedPerGridCell = new IdentityHashMap<>();
+        List<LocationForecastResponse> forecasts = new ArrayList<>(locations.size());
+
+        for (int i = 0; i < locations.size(); i++) {
+            LocationRequest location = locations.get(i);
+            List<DailyForecastDto> forecastDtos = mappedPerGridCell.computeIfAbsent(
+                    weatherDataPerLocation.get(i), weatherData -> toReport(weatherData).forecast());
+            forecasts.add(new LocationForecastResponse(location.latitude(), location.longitude(), forecastDtos));
+        }
+
+        return new BatchForecastResponse(forecasts);
+    }
+
+    private WeatherReport toReport(DailyForecastColumns weatherData) {
+        return weatherReportCache.get(weatherData,
+                data -> pipelineMetrics.time(PipelineMetrics.Stage.REPORT,
+                        () -> weatherMappingService.mapToReport(data, weatherSummaryService)));
+    }
 
-        return weatherMappingService.mapToSummaryResponse(weatherData, weatherSummaryService);
+    private WeatherReportResponse toReportResponse(WeatherReport report) {
+        return new WeatherReportResponse(report.forecast(), report.summary());
     }
 
     private void validateLocationRequest(LocationRequest locationRequest) {
@@ -0,0 +1,120 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
+
+import java.util.stream.Collector;
+
+/**
+ * Collects every figure of the weekly summary in one pass without allocating. Partial
+ * accumulators built over separate day ranges, parallel chunks or locations can be merged.
+ * Null fields of {@link DailyWeatherData} are left out of the statistic they belong to.
+ */
+public final class WeatherSummaryAccumulator {
+    private long days;
+    private long pressureDays;
+    private double pressureTotal;
+    private long sunshineDays;
+    private double sunshineTotal;
+    private double minTemperature = Double.POSITIVE_INFINITY;
+    private double maxTemperature = Double.NEGATIVE_INFINITY;
+    private long rainyDays;
+
+    public static Collector<DailyWeatherData, ?, WeatherSummaryAccumulator> collector() {
+        return Collector.of(WeatherSummaryAccumulator::new, WeatherSummaryAccumulator::add,
+                WeatherSummaryAccumulator::merge);
+    }
+
+    public static boolean isRainyWeatherCode(int weatherCode) {
+        return (weatherCode >= 51 && weatherCode <= 67) ||
+                (weatherCode >= 71 && weatherCode <= 77) ||
+                (weatherCode >= 80 && weatherCode <= 99);
+    }
+
+    public void add(DailyWeatherData day) {
+        days++;
+        if (day.getPressure() != null) {
+            addPressure(day.getPressure());
+        }
+        if (day.getSunshineDuration() != null) {
+            addSunshine(day.getSunshineDuration());
+        }
+        if (day.getMinTemperature() != null) {
+            minTemperature = Math.min(minTemperature, day.getMinTemperature());
+        }
+        if (day.getMaxTemperature() != null) {
+            maxTemperature = Math.max(maxTemperature, day.getMaxTemperature());
+        }
+        if (day.getWeatherCode() != null && isRainyWeatherCode(day.getWeatherCode())) {
+            rainyDays++;
+        }
+    }
+
+    public void add(DailyForecastColumns weatherData, int day) {
+        days++;
+        addPressure(weatherData.pressure(day));
+        addSunshine(weatherData.sunshineHours(day));
+        minTemperature = Math.min(minTemperature, weatherData.minTemperature(day));
+        maxTemperature = Math.max(maxTemperature, weatherData.maxTemperature(day));
+        if (isRainyWeatherCode(weatherData.weatherCode(day))) {
+            rainyDays++;
+        }
+    }
+
+    public WeatherSummaryAccumulator addRange(DailyForecastColumns weatherData, int fromDay, int toDay) {
+        for (int day = fromDay; day < toDay; day++) {
+            add(weatherData, day);
+        }
+        return this;
+    }
+
+    public WeatherSummaryAccumulator addAll(DailyForecastColumns weatherData) {
+        return addRange(weatherData, 0, weatherData.size());
+    }
+
+    public WeatherSummaryAccumulator merge(WeatherSummaryAccumulator other) {
+        days += other.days;
+        pressureDays += other.pressureDays;
+        pressureTotal += other.pressureTotal;
+        sunshineDays += other.sunshineDays;
+        sunshineTotal += other.sunshineTotal;
+        minTemperature = Math.min(minTemperature, other.minTemperature);
+        maxTemperature = Math.max(maxTemperature, other.maxTemperature);
+        rainyDays += other.rainyDays;
+        return this;
+    }
+
+    public long days() {
+        return days;
+    }
+
+    public long rainyDays() {
+        return rainyDays;
+    }
+
+    public double averagePressure() {
+        return pressureDays == 0 ? 0.0 : pressureTotal / pressureDays;
+    }
+
+    public double averageSunshineHours() {
+        return sunshineDays == 0 ? 0.0 : sunshineTotal / sunshineDays;
+    }
+
+    public double minTemperature() {
+        return minTemperature == Double.POSITIVE_INFINITY ? 0.0 : minTemperature;
+    }
+
+    public double maxTemperature() {
+        return maxTemperature == Double.NEGATIVE_INFINITY ? 0.0 : maxTemperature;
+    }
+
+    private void addPressure(double pressure) {
+        pressureDays++;
+        pressureTotal += pressure;
+    }
+
+    private void addSunshine(double sunshineHours) {
+        sunshineDays++;
+        sunshineTotal += sunshineHours;
+    }
+}
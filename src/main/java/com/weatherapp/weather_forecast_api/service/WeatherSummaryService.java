@@ -1,60 +1,66 @@
 package com.weatherapp.weather_forecast_api.service;
 
+import com.weatherapp.weather_forecast_api.dto.WeatherSummaryResponse;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
 import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.OptionalDouble;
 
 @Service
 public class WeatherSummaryService {
 
     public double calculateAveragePressure(List<DailyWeatherData> weatherData) {
-        OptionalDouble average = weatherData.stream()
-                .mapToDouble(DailyWeatherData::getPressure)
-                .average();
-
-        double result = average.orElse(0.0);
-        return Math.round(result * 100.0) / 100.0;
+        return round(accumulate(weatherData).averagePressure());
     }
 
     public double calculateAverageSunshineHours(List<DailyWeatherData> weatherData) {
-        OptionalDouble average = weatherData.stream()
-                .mapToDouble(DailyWeatherData::getSunshineDuration)
-                .average();
-
-        double result = average.orElse(0.0);
-        return Math.round(result * 100.0) / 100.0;
+        return round(accumulate(weatherData).averageSunshineHours());
     }
 
     public double findMinTemperature(List<DailyWeatherData> weatherData) {
-        OptionalDouble min = weatherData.stream()
-                .mapToDouble(DailyWeatherData::getMinTemperature)
-                .min();
-
-        return min.orElse(0.0);
+        return accumulate(weatherData).minTemperature();
     }
 
     public double findMaxTemperature(List<DailyWeatherData> weatherData) {
-        OptionalDouble max = weatherData.stream()
-                .mapToDouble(DailyWeatherData::getMaxTemperature)
-                .max();
-
-        return max.orElse(0.0);
+        return accumulate(weatherData).maxTemperature();
     }
 
     public String generateWeekSummary(List<DailyWeatherData> weatherData) {
-        long rainyDays = weatherData.stream()
-                .mapToInt(DailyWeatherData::getWeatherCode)
-                .filter(this::isRainyWeatherCode)
-                .count();
+        return describeWeek(accumulate(weatherData).rainyDays());
+    }
 
-        return rainyDays >= 4 ? "z opadami" : "bez opadów";
+    public WeatherSummaryResponse summarize(List<DailyWeatherData> weatherData) {
+        return summarize(accumulate(weatherData));
+    }
+
+    public WeatherSummaryResponse summarize(DailyForecastColumns weatherData) {
+        return summarize(new WeatherSummaryAccumulator().addAll(weatherData));
     }
 
-    private boolean isRainyWeatherCode(int weatherCode) {
-        return (weatherCode >= 51 && weatherCode <= 67) ||
-                (weatherCode >= 71 && weatherCode <= 77) ||
-                (weatherCode >= 80 && weatherCode <= 99);
+    public WeatherSummaryResponse summarize(WeatherSummaryAccumulator accumulator) {
+        return new WeatherSummaryResponse(
+                round(accumulator.averagePressure()),
+                round(accumulator.averageSunshineHours()),
+                accumulator.minTemperature(),
+                accumulator.maxTemperature(),
+                describeWeek(accumulator.rainyDays())
+        );
+    }
+
+    private WeatherSummaryAccumulator accumulate(List<DailyWeatherData> weatherData) {
+        WeatherSummaryAccumulator accumulator = new WeatherSummaryAccumulator();
+        for (DailyWeatherData day : weatherData) {
+            accumulator.add(day);
+        }
+        return accumulator;
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    private String describeWeek(long rainyDays) {
+        return rainyDays >= 4 ? "z opadami" : "bez opadów";
     }
 }
@@ -3,8 +3,13 @@ package com.weatherapp.weather_forecast_api.service;
 import com.weatherapp.weather_forecast_api.exception.ValidationException;
 import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
 import com.weatherapp.weather_forecast_api.model.OpenMeteo;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoHourlyForecast;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Service
 public class WeatherValidationService {
 
@@ -22,6 +27,16 @@ public class WeatherValidationService {
         }
     }
 
+    public void validateDateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new ValidationException("Start date and end date cannot be null");
+        }
+
+        if (startDate.isAfter(endDate)) {
+            throw new ValidationException("Start date must not be after end date");
+        }
+    }
+
     public void validateResponse(OpenMeteo response) {
         if (response == null) {
             throw new WeatherApiException("No response received from Open-Meteo API");
@@ -35,4 +50,41 @@ public class WeatherValidationService {
             throw new WeatherApiException("No time data received from API");
         }
     }
+
+    public void validateResponse(OpenMeteoForecast response) {
+        if (response == null) {
+            throw new WeatherApiException("No response received from Open-Meteo API");
+        }
+
+        if (response.daily() == null) {
+            throw new WeatherApiException("No daily weather data received from Open-Meteo API");
+        }
+
+        if (response.reportedDays() == 0) {
+            throw new WeatherApiException("No time data received from API");
+        }
+    }
+
+    public void validateResponse(OpenMeteoHourlyForecast response) {
+        if (response == null) {
+            throw new WeatherApiException("No response received from Open-Meteo API");
+        }
+
+        if (response.hourly() == null) {
+            throw new WeatherApiException("No hourly weather data received from Open-Meteo API");
+        }
+
+        if (response.reportedHours() == 0) {
+            throw new WeatherApiException("No time data received from API");
+        }
+    }
+
+    public void validateResponses(List<OpenMeteoForecast> responses, int expectedLocations) {
+        if (responses == null || responses.size() != expectedLocations) {
+            throw new WeatherApiException("Expected " + expectedLocations + " locations from Open-Meteo API but received "
+                    + (responses == null ? 0 : responses.size()));
+        }
+
+        responses.forEach(this::validateResponse);
+    }
 }
@@ -0,0 +1,123 @@
+package com.weatherapp.weather_forecast_api;
+
+import com.weatherapp.weather_forecast_api.client.OpenMeteoStubServer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+/**
+ * Runs two instances on localhost that share their caches, and checks that every grid cell is
+ * fetched from Open-Meteo only once no matter which instance is asked.
+ */
+class ClusterModeIntegrationTest {
+
+    private static final List<double[]> LOCATIONS = List.of(
+            new double[]{52.2297, 21.0122},
+            new double[]{50.0647, 19.9450},
+            new double[]{54.3520, 18.6466},
+            new double[]{51.1079, 17.0385},
+            new double[]{53.4285, 14.5528},
+            new double[]{50.2649, 19.0238});
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private OpenMeteoStubServer upstream;
+    private ConfigurableApplicationContext first;
+    private ConfigurableApplicationContext second;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = new OpenMeteoStubServer();
+        int firstPort = freePort();
+        int secondPort = freePort();
+        String members = "http://127.0.0.1:" + firstPort + ",http://127.0.0.1:" + secondPort;
+        first = startInstance(firstPort, members);
+        second = startInstance(secondPort, members);
+    }
+
+    @AfterEach
+    void tearDown() {
+        first.close();
+        second.close();
+        upstream.close();
+    }
+
+    @Test
+    void shouldFetchEachGridCellOnceAcrossInstances() throws Exception {
+        for (double[] location : LOCATIONS) {
+            Assertions.assertThat(postForecast(first, location).statusCode()).isEqualTo(200);
+            Assertions.assertThat(postForecast(second, location).statusCode()).isEqualTo(200);
+        }
+
+        Assertions.assertThat(upstream.requests()).hasSize(LOCATIONS.size());
+    }
+
+    @Test
+    void shouldFallBackToUpstreamWhenOwnerIsDown() throws Exception {
+        second.close();
+
+        for (double[] location : LOCATIONS) {
+            Assertions.assertThat(postForecast(first, location).statusCode()).isEqualTo(200);
+        }
+
+        Assertions.assertThat(upstream.requests()).hasSize(LOCATIONS.size());
+    }
+
+    @Test
+    void shouldHidePeerEndpointFromCallersWithoutSharedSecret() throws Exception {
+        String peerUri = "http://127.0.0.1:" + first.getEnvironment().getProperty("local.server.port")
+                + "/internal/forecast?latitude=52.23&longitude=21.01";
+
+        HttpResponse<String> anonymous = httpClient.send(HttpRequest.newBuilder(URI.create(peerUri)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> wrongSecret = httpClient.send(HttpRequest.newBuilder(URI.create(peerUri))
+                .header("X-Cluster-Secret", "guess").build(), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> member = httpClient.send(HttpRequest.newBuilder(URI.create(peerUri))
+                .header("X-Cluster-Secret", "test-secret").build(), HttpResponse.BodyHandlers.ofString());
+
+        Assertions.assertThat(anonymous.statusCode()).isEqualTo(404);
+        Assertions.assertThat(wrongSecret.statusCode()).isEqualTo(404);
+        Assertions.assertThat(member.statusCode()).isEqualTo(200);
+        Assertions.assertThat(upstream.requests()).hasSize(1);
+    }
+
+    private ConfigurableApplicationContext startInstance(int port, String members) {
+        return new SpringApplicationBuilder(WeatherForecastApiApplication.class).run(
+                "--server.port=" + port,
+                "--weather.api.base-url=" + upstream.baseUrl(),
+                "--weather.cluster.enabled=true",
+                "--weather.cluster.self=http://127.0.0.1:" + port,
+                "--weather.cluster.shared-secret=test-secret",
+                "--weather.cluster.members=" + members,
+                "--weather.refresh.enabled=false",
+                "--logging.level.com.weatherapp=WARN");
+    }
+
+    private HttpResponse<String> postForecast(ConfigurableApplicationContext instance, double[] location)
+            throws IOException, InterruptedException {
+        URI uri = URI.create("http://127.0.0.1:" + instance.getEnvironment().getProperty("local.server.port")
+                + "/api/weather/forecast");
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"latitude\":" + location[0] + ",\"longitude\":" + location[1] + "}"))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
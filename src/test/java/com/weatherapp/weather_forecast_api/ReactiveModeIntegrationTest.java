@@ -0,0 +1,89 @@
+package com.weatherapp.weather_forecast_api;
+
+import com.weatherapp.weather_forecast_api.client.OpenMeteoStubServer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@AutoConfigureObservability(tracing = false)
+class ReactiveModeIntegrationTest {
+
+    private static final OpenMeteoStubServer STUB_SERVER = new OpenMeteoStubServer();
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("weather.api.base-url", STUB_SERVER::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        STUB_SERVER.close();
+    }
+
+    @Test
+    void shouldServeForecastOnNettyWithoutBlocking() {
+        Assertions.assertThat(applicationContext).isInstanceOf(ReactiveWebServerApplicationContext.class);
+
+        webTestClient.post().uri("/api/weather/forecast")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"latitude\":52.2297,\"longitude\":21.0122}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.forecast.length()").isEqualTo(2)
+                .jsonPath("$.forecast[0].date").isEqualTo("17/06/2025")
+                .jsonPath("$.forecast[0].energyGenerated").isEqualTo(4.38);
+
+        webTestClient.post().uri("/api/weather/summary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"latitude\":52.2297,\"longitude\":21.0122}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.minTemperature").isEqualTo(14.3)
+                .jsonPath("$.maxTemperature").isEqualTo(25.8);
+
+        Assertions.assertThat(STUB_SERVER.requests()).hasSize(1);
+    }
+
+    @Test
+    void shouldExposePipelineMetricsForPrometheus() {
+        webTestClient.post().uri("/api/weather/report")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"latitude\":50.0647,\"longitude\":19.9450}")
+                .exchange()
+                .expectStatus().isOk();
+
+        String scrape = webTestClient.get().uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        Assertions.assertThat(scrape)
+                .contains("weather_pipeline_stage_seconds_bucket")
+                .contains("stage=\"serialization\"")
+                .contains("openmeteo_generation_time_seconds_count")
+                .contains("weather_upstream_responses_total")
+                .contains("reactor_netty_connection_provider_total_connections");
+    }
+}
@@ -0,0 +1,230 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.weatherapp.weather_forecast_api.MutableClock;
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.config.StoreConfig;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ForecastCacheTest {
+
+    private CacheConfig cacheConfig;
+    private ForecastKeyFactory forecastKeyFactory;
+
+    @BeforeEach
+    void setUp() {
+        cacheConfig = new CacheConfig();
+        forecastKeyFactory = new ForecastKeyFactory(new ApiConfig(), cacheConfig);
+    }
+
+    @Test
+    void shouldSnapCoordinatesToGridResolution() {
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+
+        Assertions.assertThat(key.latitude()).isEqualTo(52.23);
+        Assertions.assertThat(key.longitude()).isEqualTo(21.01);
+        Assertions.assertThat(key.forecastDays()).isEqualTo(7);
+        Assertions.assertThat(key).isEqualTo(forecastKeyFactory.create(52.2251, 21.0149));
+    }
+
+    @Test
+    void shouldIncludeRequestParametersInKey() {
+        ApiConfig longerForecast = new ApiConfig();
+        longerForecast.setForecastDays(16);
+
+        ForecastKey key = new ForecastKeyFactory(longerForecast, cacheConfig).create(52.2297, 21.0122);
+
+        Assertions.assertThat(key).isNotEqualTo(forecastKeyFactory.create(52.2297, 21.0122));
+    }
+
+    @Test
+    void shouldLoadOnlyOncePerKey() {
+        ForecastCache forecastCache = new ForecastCache(cacheConfig);
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+        AtomicInteger loads = new AtomicInteger();
+
+        forecastCache.get(key, k -> {
+            loads.incrementAndGet();
+            return sampleData();
+        });
+        DailyForecastColumns result = forecastCache.get(key, k -> {
+            loads.incrementAndGet();
+            return sampleData();
+        });
+
+        Assertions.assertThat(result.size()).isEqualTo(1);
+        Assertions.assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldBypassCacheWhenDisabled() {
+        cacheConfig.setEnabled(false);
+        ForecastCache forecastCache = new ForecastCache(cacheConfig);
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+        AtomicInteger loads = new AtomicInteger();
+
+        forecastCache.get(key, k -> {
+            loads.incrementAndGet();
+            return sampleData();
+        });
+        forecastCache.get(key, k -> {
+            loads.incrementAndGet();
+            return sampleData();
+        });
+
+        Assertions.assertThat(loads).hasValue(2);
+        Assertions.assertThat(forecastCache.size()).isZero();
+    }
+
+    @Test
+    void shouldExpireAtNextModelUpdate() {
+        cacheConfig.setModelUpdateInterval(Duration.ofHours(3));
+        Clock clock = Clock.fixed(Instant.parse("2025-06-17T10:15:00Z"), ZoneOffset.UTC);
+
+        ModelUpdateExpiry<ForecastKey, DailyForecastColumns> expiry = new ModelUpdateExpiry<>(cacheConfig, clock);
+
+        Assertions.assertThat(expiry.timeToNextUpdate()).isEqualTo(Duration.ofMinutes(105));
+    }
+
+    @Test
+    void shouldApplyModelUpdateOffsetAndMinimumTtl() {
+        cacheConfig.setModelUpdateOffset(Duration.ofMinutes(20));
+        cacheConfig.setMinimumTtl(Duration.ofMinutes(10));
+        Clock justBeforeUpdate = Clock.fixed(Instant.parse("2025-06-17T10:18:00Z"), ZoneOffset.UTC);
+        Clock justAfterUpdate = Clock.fixed(Instant.parse("2025-06-17T10:25:00Z"), ZoneOffset.UTC);
+
+        Assertions.assertThat(new ModelUpdateExpiry<>(cacheConfig, justBeforeUpdate).timeToNextUpdate())
+                .isEqualTo(Duration.ofMinutes(10));
+        Assertions.assertThat(new ModelUpdateExpiry<>(cacheConfig, justAfterUpdate).timeToNextUpdate())
+                .isEqualTo(Duration.ofMinutes(55));
+    }
+
+    @Test
+    void shouldServeStaleViewAfterModelUpdateUntilStaleTtl() {
+        cacheConfig.setStaleTtl(Duration.ofHours(6));
+        MutableClock clock = new MutableClock(Instant.parse("2025-06-17T10:30:00Z"));
+        ForecastCache forecastCache = new ForecastCache(cacheConfig, clock);
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+
+        DailyForecastColumns fresh = forecastCache.put(key, sampleData());
+        Assertions.assertThat(forecastCache.getIfPresent(key)).isSameAs(fresh);
+
+        clock.advance(Duration.ofMinutes(31));
+        DailyForecastColumns stale = forecastCache.getStale(key);
+
+        Assertions.assertThat(forecastCache.getIfPresent(key)).isNull();
+        Assertions.assertThat(stale.isStale()).isTrue();
+        Assertions.assertThat(stale.maxTemperature(0)).isEqualTo(fresh.maxTemperature(0));
+        Assertions.assertThat(forecastCache.getStale(key)).isSameAs(stale);
+
+        clock.advance(Duration.ofHours(6));
+        Assertions.assertThat(forecastCache.getStale(key)).isNull();
+    }
+
+    @Test
+    void shouldRememberUpstreamFailureForFailureTtl() {
+        cacheConfig.setFailureTtl(Duration.ofSeconds(10));
+        MutableClock clock = new MutableClock(Instant.parse("2025-06-17T10:30:00Z"));
+        ForecastCache forecastCache = new ForecastCache(cacheConfig, clock);
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+
+        forecastCache.putFailure(key, new WeatherApiException("API service unavailable"));
+        Assertions.assertThat(forecastCache.getFailure(key)).hasMessage("API service unavailable");
+
+        clock.advance(Duration.ofSeconds(11));
+        Assertions.assertThat(forecastCache.getFailure(key)).isNull();
+
+        forecastCache.putFailure(key, new WeatherApiException("API service unavailable"));
+        forecastCache.put(key, sampleData());
+        Assertions.assertThat(forecastCache.getFailure(key)).isNull();
+    }
+
+    @Test
+    void shouldServeForecastFromStoreAfterRestart(@TempDir Path directory) throws IOException {
+        MutableClock clock = new MutableClock(Instant.parse("2025-06-17T10:30:00Z"));
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+        StoreConfig storeConfig = new StoreConfig();
+        storeConfig.setPath(directory.resolve("forecasts.dat"));
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            new ForecastCache(cacheConfig, forecastStore, clock).put(key, sampleData());
+        }
+
+        clock.advance(Duration.ofMinutes(10));
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            ForecastCache restarted = new ForecastCache(cacheConfig, forecastStore, clock);
+
+            Assertions.assertThat(restarted.getIfPresent(key)).isEqualTo(sampleData());
+            Assertions.assertThat(restarted.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldOnlyServeStoredForecastAsStaleAfterModelUpdate(@TempDir Path directory) throws IOException {
+        MutableClock clock = new MutableClock(Instant.parse("2025-06-17T10:30:00Z"));
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+        StoreConfig storeConfig = new StoreConfig();
+        storeConfig.setPath(directory.resolve("forecasts.dat"));
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            new ForecastCache(cacheConfig, forecastStore, clock).put(key, sampleData());
+        }
+
+        clock.advance(Duration.ofMinutes(45));
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            ForecastCache restarted = new ForecastCache(cacheConfig, forecastStore, clock);
+
+            Assertions.assertThat(restarted.getIfPresent(key)).isNull();
+            Assertions.assertThat(restarted.getStale(key)).isEqualTo(sampleData().asStale());
+        }
+    }
+
+    @Test
+    void shouldReadStoreOffTheCallingThreadForReactiveCallers(@TempDir Path directory) throws IOException {
+        MutableClock clock = new MutableClock(Instant.parse("2025-06-17T10:30:00Z"));
+        ForecastKey stored = forecastKeyFactory.create(52.2297, 21.0122);
+        ForecastKey missing = forecastKeyFactory.create(50.0614, 19.9366);
+        StoreConfig storeConfig = new StoreConfig();
+        storeConfig.setPath(directory.resolve("forecasts.dat"));
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            new ForecastCache(cacheConfig, forecastStore, clock).put(stored, sampleData());
+        }
+
+        clock.advance(Duration.ofMinutes(10));
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            ForecastCache restarted = new ForecastCache(cacheConfig, forecastStore, clock);
+            String caller = Thread.currentThread().getName();
+
+            Assertions.assertThat(restarted.getIfPresentReactive(stored)
+                            .map(forecast -> Thread.currentThread().getName())
+                            .block(Duration.ofSeconds(5)))
+                    .startsWith("boundedElastic");
+            Assertions.assertThat(restarted.getIfPresentReactive(stored)
+                            .map(forecast -> Thread.currentThread().getName())
+                            .block(Duration.ofSeconds(5)))
+                    .isEqualTo(caller);
+            Assertions.assertThat(restarted.getAllPresentReactive(List.of(stored, missing)).block(Duration.ofSeconds(5)))
+                    .containsOnlyKeys(stored);
+        }
+    }
+
+    private DailyForecastColumns sampleData() {
+        return DailyForecastColumns.fromDailyWeatherData(
+                List.of(new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)));
+    }
+}
@@ -0,0 +1,159 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.config.StoreConfig;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+class ForecastStoreTest {
+
+    private static final Instant FETCHED_AT = Instant.parse("2025-06-17T10:30:00Z");
+
+    @TempDir
+    Path directory;
+
+    private StoreConfig storeConfig;
+    private ForecastKeyFactory forecastKeyFactory;
+
+    @BeforeEach
+    void setUp() {
+        storeConfig = new StoreConfig();
+        storeConfig.setPath(directory.resolve("forecasts.dat"));
+        storeConfig.setCapacity(64);
+        forecastKeyFactory = new ForecastKeyFactory(new ApiConfig(), new CacheConfig());
+    }
+
+    @Test
+    void shouldReadBackStoredForecast() throws IOException {
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            forecastStore.put(key, sampleData(22.8), FETCHED_AT);
+
+            ForecastStore.StoredForecast stored = forecastStore.get(key);
+            Assertions.assertThat(stored.forecast()).isEqualTo(sampleData(22.8));
+            Assertions.assertThat(stored.fetchedAt()).isEqualTo(FETCHED_AT);
+            Assertions.assertThat(forecastStore.get(forecastKeyFactory.create(50.0647, 19.9450))).isNull();
+        }
+    }
+
+    @Test
+    void shouldKeepForecastsAcrossRestarts() throws IOException {
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            forecastStore.put(key, sampleData(22.8), FETCHED_AT);
+        }
+
+        try (ForecastStore reopened = new ForecastStore(storeConfig)) {
+            Assertions.assertThat(reopened.get(key).forecast()).isEqualTo(sampleData(22.8));
+        }
+    }
+
+    @Test
+    void shouldFinishQueuedWritesOnClose() throws IOException {
+        List<ForecastKey> keys = List.of(
+                forecastKeyFactory.create(52.2297, 21.0122),
+                forecastKeyFactory.create(50.0647, 19.9450),
+                forecastKeyFactory.create(54.3520, 18.6466));
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            keys.forEach(key -> forecastStore.putAsync(key, sampleData(22.8), FETCHED_AT));
+        }
+
+        try (ForecastStore reopened = new ForecastStore(storeConfig)) {
+            Assertions.assertThat(keys).allSatisfy(key ->
+                    Assertions.assertThat(reopened.get(key).forecast()).isEqualTo(sampleData(22.8)));
+        }
+    }
+
+    @Test
+    void shouldReplaceForecastOfSameLocation() throws IOException {
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            forecastStore.put(key, sampleData(22.8), FETCHED_AT);
+            forecastStore.put(key, sampleData(25.1), FETCHED_AT.plusSeconds(3600));
+
+            Assertions.assertThat(forecastStore.get(key).forecast().maxTemperature(0)).isEqualTo(25.1);
+        }
+    }
+
+    @Test
+    void shouldEvictOldestForecastWhenFull() throws IOException {
+        storeConfig.setCapacity(1);
+
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            ForecastKey warsaw = forecastKeyFactory.create(52.2297, 21.0122);
+            ForecastKey krakow = forecastKeyFactory.create(50.0647, 19.9450);
+            forecastStore.put(warsaw, sampleData(22.8), FETCHED_AT);
+            forecastStore.put(krakow, sampleData(25.1), FETCHED_AT.plusSeconds(60));
+
+            Assertions.assertThat(forecastStore.get(warsaw)).isNull();
+            Assertions.assertThat(forecastStore.get(krakow).forecast().maxTemperature(0)).isEqualTo(25.1);
+        }
+    }
+
+    @Test
+    void shouldIgnoreCorruptedRecord() throws IOException {
+        storeConfig.setCapacity(1);
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            forecastStore.put(key, sampleData(22.8), FETCHED_AT);
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(storeConfig.getPath().toFile(), "rw")) {
+            file.seek(file.length() - 1);
+            file.write(0x7F);
+        }
+
+        try (ForecastStore reopened = new ForecastStore(storeConfig)) {
+            Assertions.assertThat(reopened.get(key)).isNull();
+        }
+    }
+
+    @Test
+    void shouldStartEmptyWhenLayoutChanges() throws IOException {
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            forecastStore.put(key, sampleData(22.8), FETCHED_AT);
+        }
+
+        storeConfig.setMaxDays(7);
+        try (ForecastStore reopened = new ForecastStore(storeConfig)) {
+            Assertions.assertThat(reopened.get(key)).isNull();
+        }
+    }
+
+    @Test
+    void shouldSkipForecastsLongerThanMaxDays() throws IOException {
+        storeConfig.setMaxDays(1);
+        ForecastKey key = forecastKeyFactory.create(52.2297, 21.0122);
+        DailyForecastColumns twoDays = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0),
+                new DailyWeatherData(LocalDate.of(2025, 6, 18), 51, 16.7, 25.8, 11.83, 1005.6)));
+
+        try (ForecastStore forecastStore = new ForecastStore(storeConfig)) {
+            forecastStore.put(key, twoDays, FETCHED_AT);
+
+            Assertions.assertThat(forecastStore.get(key)).isNull();
+        }
+    }
+
+    private DailyForecastColumns sampleData(double maxTemperature) {
+        return DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, maxTemperature, 8.76, 1008.0),
+                new DailyWeatherData(LocalDate.of(2025, 6, 18), 51, 16.7, 25.8, 11.83, 1005.6)));
+    }
+}
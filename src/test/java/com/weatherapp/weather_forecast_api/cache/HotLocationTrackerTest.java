@@ -0,0 +1,64 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HotLocationTrackerTest {
+
+    private ForecastKeyFactory forecastKeyFactory;
+    private HotLocationTracker hotLocationTracker;
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig cacheConfig = new CacheConfig();
+        forecastKeyFactory = new ForecastKeyFactory(new ApiConfig(), cacheConfig);
+        hotLocationTracker = new HotLocationTracker(cacheConfig);
+    }
+
+    @Test
+    void shouldReturnMostRequestedLocationsFirst() {
+        ForecastKey warsaw = forecastKeyFactory.create(52.2297, 21.0122);
+        ForecastKey krakow = forecastKeyFactory.create(50.0647, 19.9450);
+        ForecastKey gdansk = forecastKeyFactory.create(54.3520, 18.6466);
+
+        record(warsaw, 5);
+        record(krakow, 9);
+        record(gdansk, 1);
+
+        Assertions.assertThat(hotLocationTracker.hottest(2)).containsExactly(krakow, warsaw);
+        Assertions.assertThat(hotLocationTracker.hottest(10)).containsExactly(krakow, warsaw, gdansk);
+        Assertions.assertThat(hotLocationTracker.hottest(0)).isEmpty();
+    }
+
+    @Test
+    void shouldCountNearbyRequestsAsOneGridCell() {
+        record(forecastKeyFactory.create(52.2297, 21.0122), 1);
+        record(forecastKeyFactory.create(52.2251, 21.0149), 1);
+
+        Assertions.assertThat(hotLocationTracker.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldHalveCountsAndForgetColdLocationsOnDecay() {
+        ForecastKey warsaw = forecastKeyFactory.create(52.2297, 21.0122);
+        ForecastKey krakow = forecastKeyFactory.create(50.0647, 19.9450);
+        ForecastKey gdansk = forecastKeyFactory.create(54.3520, 18.6466);
+
+        record(warsaw, 8);
+        record(krakow, 1);
+        hotLocationTracker.decay();
+        record(gdansk, 5);
+
+        Assertions.assertThat(hotLocationTracker.hottest(10)).containsExactly(gdansk, warsaw);
+    }
+
+    private void record(ForecastKey key, int times) {
+        for (int i = 0; i < times; i++) {
+            hotLocationTracker.record(key);
+        }
+    }
+}
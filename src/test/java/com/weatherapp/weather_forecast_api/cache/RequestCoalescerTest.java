@@ -0,0 +1,126 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 16;
+
+    private RequestCoalescer<String, String> requestCoalescer;
+    private ExecutorService executor;
+    private AtomicInteger arrivals;
+
+    @BeforeEach
+    void setUp() {
+        requestCoalescer = new RequestCoalescer<>();
+        executor = Executors.newFixedThreadPool(CALLERS);
+        arrivals = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldShareInFlightResultAcrossConcurrentCallers() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitConcurrently(() -> requestCoalescer.execute("52.23,21.01", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "forecast";
+        }));
+
+        waitUntilInFlight();
+        release.countDown();
+
+        for (Future<String> result : results) {
+            Assertions.assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("forecast");
+        }
+        Assertions.assertThat(loads).hasValue(1);
+        Assertions.assertThat(requestCoalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldShareInFlightErrorAcrossConcurrentCallers() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        WeatherApiException failure = new WeatherApiException("API service unavailable");
+
+        List<Future<String>> results = submitConcurrently(() -> requestCoalescer.execute("52.23,21.01", () -> {
+            loads.incrementAndGet();
+            await(release);
+            throw failure;
+        }));
+
+        waitUntilInFlight();
+        release.countDown();
+
+        for (Future<String> result : results) {
+            Assertions.assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCause(failure);
+        }
+        Assertions.assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldLoadDifferentKeysIndependently() {
+        String first = requestCoalescer.execute("52.23,21.01", () -> "warsaw");
+        String second = requestCoalescer.execute("50.06,19.94", () -> "krakow");
+
+        Assertions.assertThat(first).isEqualTo("warsaw");
+        Assertions.assertThat(second).isEqualTo("krakow");
+    }
+
+    @Test
+    void shouldLoadAgainOncePreviousCallCompleted() {
+        AtomicInteger loads = new AtomicInteger();
+
+        requestCoalescer.execute("52.23,21.01", () -> "forecast-" + loads.incrementAndGet());
+        String result = requestCoalescer.execute("52.23,21.01", () -> "forecast-" + loads.incrementAndGet());
+
+        Assertions.assertThat(result).isEqualTo("forecast-2");
+    }
+
+    private List<Future<String>> submitConcurrently(Callable<String> call) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                arrivals.incrementAndGet();
+                return call.call();
+            }));
+        }
+        return results;
+    }
+
+    private void waitUntilInFlight() throws InterruptedException {
+        while (arrivals.get() < CALLERS || requestCoalescer.inFlightCount() == 0) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(100);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
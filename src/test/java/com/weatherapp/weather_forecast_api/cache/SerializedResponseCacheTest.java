@@ -0,0 +1,93 @@
+package com.weatherapp.weather_forecast_api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.dto.WeatherSummaryResponse;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.ReportView;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+class SerializedResponseCacheTest {
+
+    private CacheConfig cacheConfig;
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        cacheConfig = new CacheConfig();
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldSerializeEachReportViewOnce() {
+        SerializedResponseCache responseCache = createCache();
+        WeatherReport report = sampleReport(22.8);
+
+        SerializedResponse first = responseCache.get(report, ReportView.FORECAST);
+        SerializedResponse second = responseCache.get(report, ReportView.FORECAST);
+        SerializedResponse summary = responseCache.get(report, ReportView.SUMMARY);
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(summary.etag()).isNotEqualTo(first.etag());
+        Assertions.assertThat(meterRegistry.get("weather.pipeline.stage").tag("stage", "serialization")
+                .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDeriveStrongETagFromContent() {
+        SerializedResponseCache responseCache = createCache();
+
+        SerializedResponse first = responseCache.get(sampleReport(22.8), ReportView.REPORT);
+        SerializedResponse sameContent = responseCache.get(sampleReport(22.8), ReportView.REPORT);
+        SerializedResponse changed = responseCache.get(sampleReport(23.1), ReportView.REPORT);
+
+        Assertions.assertThat(first.etag()).matches("\"[0-9a-f]{32}\"");
+        Assertions.assertThat(sameContent.etag()).isEqualTo(first.etag());
+        Assertions.assertThat(changed.etag()).isNotEqualTo(first.etag());
+    }
+
+    @Test
+    void shouldCompressToSameJson() throws IOException {
+        SerializedResponse response = createCache().get(sampleReport(22.8), ReportView.REPORT);
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.gzip()))) {
+            Assertions.assertThat(gzip.readAllBytes()).isEqualTo(response.json());
+        }
+    }
+
+    @Test
+    void shouldSerializeEveryTimeWhenCacheDisabled() {
+        cacheConfig.setEnabled(false);
+        SerializedResponseCache responseCache = createCache();
+        WeatherReport report = sampleReport(22.8);
+
+        SerializedResponse first = responseCache.get(report, ReportView.FORECAST);
+        SerializedResponse second = responseCache.get(report, ReportView.FORECAST);
+
+        Assertions.assertThat(second).isNotSameAs(first);
+        Assertions.assertThat(second.json()).isEqualTo(first.json());
+    }
+
+    private SerializedResponseCache createCache() {
+        return new SerializedResponseCache(cacheConfig, objectMapper, new PipelineMetrics(meterRegistry));
+    }
+
+    private WeatherReport sampleReport(double maxTemperature) {
+        return new WeatherReport(
+                List.of(new DailyForecastDto(LocalDate.of(2025, 6, 17), 3, 14.3, maxTemperature, 2.19, 1008.0)),
+                new WeatherSummaryResponse(1008.0, 8.76, 14.3, maxTemperature, "bez opadów"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = 100_000_000L;
+    private static final long SLOW = 500_000_000L;
+
+    @Test
+    void shouldGrowWhileLatencyStaysLowAndLimitIsUsed() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 2.0);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSuccess(FAST, limit.limit());
+        }
+
+        Assertions.assertThat(limit.limit()).isGreaterThan(10);
+    }
+
+    @Test
+    void shouldNotGrowWhileLimitIsMostlyUnused() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 2.0);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSuccess(FAST, 1);
+        }
+
+        Assertions.assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldBackOffWhenLatencyRises() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 1, 100, 2.0);
+        limit.onSuccess(FAST, 20);
+
+        limit.onSuccess(SLOW, 20);
+
+        Assertions.assertThat(limit.limit()).isEqualTo(18);
+    }
+
+    @Test
+    void shouldHalveOnFailureButKeepMinimum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 100, 2.0);
+
+        limit.onFailure();
+        Assertions.assertThat(limit.limit()).isEqualTo(10);
+
+        limit.onFailure();
+        limit.onFailure();
+        Assertions.assertThat(limit.limit()).isEqualTo(4);
+    }
+}
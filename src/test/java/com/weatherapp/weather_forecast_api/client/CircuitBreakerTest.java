@@ -0,0 +1,146 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import com.weatherapp.weather_forecast_api.MutableClock;
+import com.weatherapp.weather_forecast_api.exception.UpstreamRejectedException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CircuitBreakerTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-17T10:30:00Z");
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void shouldOpenAfterConsecutiveFailuresAndRejectWithoutCallingUpstream() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        callAndIgnoreError(circuitBreaker, failingCall());
+        callAndIgnoreError(circuitBreaker, failingCall());
+
+        Assertions.assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        Assertions.assertThatThrownBy(() -> circuitBreaker.protect(successfulCall()).block())
+                .isInstanceOf(UpstreamRejectedException.class)
+                .hasMessageContaining("circuit breaker is open");
+        Assertions.assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void shouldResetFailureCountAfterSuccess() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        callAndIgnoreError(circuitBreaker, failingCall());
+        circuitBreaker.protect(successfulCall()).block();
+        callAndIgnoreError(circuitBreaker, failingCall());
+
+        Assertions.assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldLetOneTrialCallThroughAfterOpenDuration() {
+        MutableClock clock = new MutableClock(NOW);
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofSeconds(30), clock);
+        callAndIgnoreError(circuitBreaker, failingCall());
+
+        clock.advance(Duration.ofSeconds(31));
+        circuitBreaker.protect(successfulCall()).block();
+
+        Assertions.assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        Assertions.assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void shouldReopenWhenTrialCallFails() {
+        MutableClock clock = new MutableClock(NOW);
+        CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofSeconds(30), clock);
+        callAndIgnoreError(circuitBreaker, failingCall());
+        callAndIgnoreError(circuitBreaker, failingCall());
+        callAndIgnoreError(circuitBreaker, failingCall());
+
+        clock.advance(Duration.ofSeconds(31));
+        callAndIgnoreError(circuitBreaker, failingCall());
+
+        Assertions.assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        Assertions.assertThatThrownBy(() -> circuitBreaker.protect(successfulCall()).block())
+                .hasMessageContaining("circuit breaker is open");
+        Assertions.assertThat(upstreamCalls).hasValue(4);
+    }
+
+    @Test
+    void shouldNotCountLocalRejectionsAsFailures() {
+        MutableClock clock = new MutableClock(NOW);
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(30), clock);
+
+        for (int i = 0; i < 5; i++) {
+            callAndIgnoreError(circuitBreaker,
+                    Mono.error(new UpstreamRejectedException("Too many pending Open-Meteo API requests")));
+        }
+        Assertions.assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        callAndIgnoreError(circuitBreaker, failingCall());
+        callAndIgnoreError(circuitBreaker, failingCall());
+        clock.advance(Duration.ofSeconds(31));
+        callAndIgnoreError(circuitBreaker,
+                Mono.error(new UpstreamRejectedException("Timed out waiting for an Open-Meteo API request slot")));
+        circuitBreaker.protect(successfulCall()).block();
+
+        Assertions.assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldNotOpenOnClientErrors() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        for (int i = 0; i < 5; i++) {
+            callAndIgnoreError(circuitBreaker,
+                    Mono.error(WebClientResponseException.create(400, "Bad Request", null, null, null)));
+            callAndIgnoreError(circuitBreaker, Mono.error(new IllegalStateException("Failed to decode response")));
+        }
+
+        Assertions.assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldOpenOnTimeoutsAndConnectErrors() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        callAndIgnoreError(circuitBreaker, Mono.error(new TimeoutException("Response timed out")));
+        callAndIgnoreError(circuitBreaker, Mono.error(new WebClientRequestException(
+                new ConnectException("Connection refused"), HttpMethod.GET, URI.create("http://localhost"),
+                new HttpHeaders())));
+
+        Assertions.assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void callAndIgnoreError(CircuitBreaker circuitBreaker, Mono<String> call) {
+        circuitBreaker.protect(call).onErrorResume(error -> Mono.empty()).block();
+    }
+
+    private Mono<String> successfulCall() {
+        return Mono.fromSupplier(() -> {
+            upstreamCalls.incrementAndGet();
+            return "ok";
+        });
+    }
+
+    private Mono<String> failingCall() {
+        return Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.error(WebClientResponseException.create(503, "Service Unavailable", null, null, null));
+        });
+    }
+}
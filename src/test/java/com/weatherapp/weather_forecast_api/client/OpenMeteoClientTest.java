@@ -0,0 +1,256 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.config.HttpClientConfig;
+import com.weatherapp.weather_forecast_api.config.WebClientConfig;
+import com.weatherapp.weather_forecast_api.exception.UpstreamRejectedException;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class OpenMeteoClientTest {
+
+    private OpenMeteoStubServer stubServer;
+    private ConnectionProvider connectionProvider;
+    private ApiConfig apiConfig;
+    private HttpClientConfig httpClientConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private OpenMeteoClient openMeteoClient;
+
+    @BeforeEach
+    void setUp() {
+        stubServer = new OpenMeteoStubServer();
+        apiConfig = new ApiConfig();
+        apiConfig.setBaseUrl(stubServer.baseUrl());
+        httpClientConfig = new HttpClientConfig();
+        httpClientConfig.setPoolMetrics(false);
+        httpClientConfig.setReadTimeout(Duration.ofMillis(500));
+        meterRegistry = new SimpleMeterRegistry();
+        openMeteoClient = createClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        stubServer.close();
+    }
+
+    @Test
+    void shouldFetchWeatherForecast() {
+        OpenMeteoForecast response = openMeteoClient.fetchWeatherForecast(52.23, 21.01);
+
+        Assertions.assertThat(response.daily().date(0)).isEqualTo(LocalDate.of(2025, 6, 17));
+        Assertions.assertThat(response.daily().maxTemperature(1)).isEqualTo(25.8);
+
+        OpenMeteoStubServer.RecordedRequest request = stubServer.requests().get(0);
+        Assertions.assertThat(request.path()).isEqualTo("/v1/forecast");
+        Assertions.assertThat(request.queryParam("latitude")).isEqualTo("52.23");
+        Assertions.assertThat(request.queryParam("longitude")).isEqualTo("21.01");
+        Assertions.assertThat(request.queryParam("forecast_days")).isEqualTo("7");
+    }
+
+    @Test
+    void shouldRequestAndDecodeGzipResponses() {
+        OpenMeteoForecast response = openMeteoClient.fetchWeatherForecast(52.23, 21.01);
+
+        Assertions.assertThat(stubServer.requests().get(0).acceptEncoding()).contains("gzip");
+        Assertions.assertThat(response.generationtimeMs()).isEqualTo(0.42);
+    }
+
+    @Test
+    void shouldNotAskForCompressionWhenDisabled() {
+        httpClientConfig.setCompression(false);
+        recreateClient();
+
+        openMeteoClient.fetchWeatherForecast(52.23, 21.01);
+
+        Assertions.assertThat(stubServer.requests().get(0).acceptEncoding()).isNull();
+    }
+
+    @Test
+    void shouldThrowWeatherApiExceptionOnErrorStatus() {
+        stubServer.respondWithStatus(HttpResponseStatus.TOO_MANY_REQUESTS);
+
+        Assertions.assertThatThrownBy(() -> openMeteoClient.fetchWeatherForecast(52.23, 21.01))
+                .isInstanceOf(WeatherApiException.class)
+                .hasMessageContaining("Failed to fetch weather data");
+        Assertions.assertThat(meterRegistry.get("weather.upstream.responses").tag("status", "429").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldStopCallingUpstreamWhileCircuitBreakerIsOpen() {
+        apiConfig.setCircuitBreakerFailureThreshold(2);
+        recreateClient();
+        stubServer.respondWithStatus(HttpResponseStatus.SERVICE_UNAVAILABLE);
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertThatThrownBy(() -> openMeteoClient.fetchWeatherForecast(52.23, 21.01))
+                    .isInstanceOf(WeatherApiException.class);
+        }
+
+        Assertions.assertThat(stubServer.requests()).hasSize(2);
+        Assertions.assertThatThrownBy(() -> openMeteoClient.fetchWeatherForecast(52.23, 21.01))
+                .hasMessageContaining("circuit breaker is open");
+    }
+
+    @Test
+    void shouldRejectWhileBreakerIsOpenWithoutShrinkingConcurrencyLimit() {
+        apiConfig.setCircuitBreakerFailureThreshold(2);
+        recreateClient();
+        stubServer.respondWithStatus(HttpResponseStatus.SERVICE_UNAVAILABLE);
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThatThrownBy(() -> openMeteoClient.fetchWeatherForecast(52.23, 21.01))
+                    .isInstanceOf(WeatherApiException.class);
+        }
+        double limitWhenOpened = meterRegistry.get("weather.upstream.concurrency.limit").gauge().value();
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertThatThrownBy(() -> openMeteoClient.fetchWeatherForecast(52.23, 21.01))
+                    .isInstanceOf(UpstreamRejectedException.class);
+        }
+
+        Assertions.assertThat(meterRegistry.get("weather.upstream.concurrency.limit").gauge().value())
+                .isEqualTo(limitWhenOpened);
+        Assertions.assertThat(meterRegistry.get("weather.upstream.inflight").gauge().value()).isZero();
+        Assertions.assertThat(stubServer.requests()).hasSize(2);
+    }
+
+    @Test
+    void shouldRecordFetchAndDecodeTimings() {
+        openMeteoClient.fetchWeatherForecast(52.23, 21.01);
+
+        Assertions.assertThat(meterRegistry.get("weather.upstream.responses").tag("status", "200").counter().count())
+                .isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.get("weather.pipeline.stage").tag("stage", "fetch").timer().count())
+                .isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("weather.pipeline.stage").tag("stage", "decode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldThrowWeatherApiExceptionOnReadTimeout() {
+        stubServer.delayResponses(Duration.ofSeconds(2));
+
+        Assertions.assertThatThrownBy(() -> openMeteoClient.fetchWeatherForecast(52.23, 21.01))
+                .isInstanceOf(WeatherApiException.class);
+    }
+
+    @Test
+    void shouldFetchMultipleLocationsInOneRequest() {
+        stubServer.respondWith(request -> "[" + OpenMeteoStubServer.sampleForecastJson(52.23, 21.01) + ","
+                + OpenMeteoStubServer.sampleForecastJson(50.06, 19.94) + "]");
+
+        List<OpenMeteoForecast> responses = openMeteoClient.fetchWeatherForecastsReactive(List.of(
+                new ForecastKey(52.23, 21.01, 7, apiConfig.getDailyParams()),
+                new ForecastKey(50.06, 19.94, 7, apiConfig.getDailyParams())
+        )).block();
+
+        Assertions.assertThat(responses).extracting(OpenMeteoForecast::latitude).containsExactly(52.23, 50.06);
+        Assertions.assertThat(stubServer.requests()).hasSize(1);
+        Assertions.assertThat(stubServer.requests().get(0).queryParam("latitude")).isEqualTo("52.23,50.06");
+        Assertions.assertThat(stubServer.requests().get(0).queryParam("longitude")).isEqualTo("21.01,19.94");
+    }
+
+    @Test
+    void shouldAcceptSingleObjectResponseForOneLocationBatch() {
+        List<OpenMeteoForecast> responses = openMeteoClient.fetchWeatherForecastsReactive(List.of(
+                new ForecastKey(52.23, 21.01, 7, apiConfig.getDailyParams())
+        )).block();
+
+        Assertions.assertThat(responses).hasSize(1);
+    }
+
+    @Test
+    void shouldMicroBatchConcurrentSingleLocationFetches() {
+        apiConfig.setMicroBatchWindow(Duration.ofMillis(50));
+        recreateClient();
+        stubServer.respondWith(OpenMeteoClientTest::echoLocations);
+
+        List<OpenMeteoForecast> responses = Flux.merge(
+                openMeteoClient.fetchWeatherForecastReactive(52.23, 21.01),
+                openMeteoClient.fetchWeatherForecastReactive(50.06, 19.95),
+                openMeteoClient.fetchWeatherForecastReactive(52.23, 21.01)
+        ).collectList().block();
+
+        Assertions.assertThat(responses).extracting(OpenMeteoForecast::latitude)
+                .containsExactlyInAnyOrder(52.23, 50.06, 52.23);
+        Assertions.assertThat(stubServer.requests()).hasSize(1);
+        Assertions.assertThat(stubServer.requests().get(0).queryParam("latitude")).isEqualTo("52.23,50.06");
+    }
+
+    @Test
+    void shouldSendBatchEarlyWhenMaxBatchSizeIsReached() {
+        apiConfig.setMicroBatchWindow(Duration.ofSeconds(30));
+        apiConfig.setMicroBatchMaxSize(2);
+        recreateClient();
+        stubServer.respondWith(OpenMeteoClientTest::echoLocations);
+
+        List<OpenMeteoForecast> responses = Flux.merge(
+                openMeteoClient.fetchWeatherForecastReactive(52.23, 21.01),
+                openMeteoClient.fetchWeatherForecastReactive(50.06, 19.95)
+        ).collectList().block(Duration.ofSeconds(5));
+
+        Assertions.assertThat(responses).hasSize(2);
+        Assertions.assertThat(stubServer.requests()).hasSize(1);
+    }
+
+    @Test
+    void shouldFailEveryCallerInBatchOnUpstreamError() {
+        apiConfig.setMicroBatchWindow(Duration.ofMillis(50));
+        recreateClient();
+        stubServer.respondWithStatus(HttpResponseStatus.SERVICE_UNAVAILABLE);
+
+        Mono<OpenMeteoForecast> first = openMeteoClient.fetchWeatherForecastReactive(52.23, 21.01);
+        Mono<OpenMeteoForecast> second = openMeteoClient.fetchWeatherForecastReactive(50.06, 19.95);
+
+        StepVerifier.create(Flux.mergeDelayError(2, first, second))
+                .expectErrorSatisfies(error -> Assertions.assertThat(Exceptions.unwrapMultiple(error))
+                        .hasSize(2)
+                        .allMatch(WeatherApiException.class::isInstance))
+                .verify(Duration.ofSeconds(5));
+        Assertions.assertThat(stubServer.requests()).hasSize(1);
+    }
+
+    private void recreateClient() {
+        connectionProvider.dispose();
+        openMeteoClient = createClient();
+    }
+
+    private static String echoLocations(OpenMeteoStubServer.RecordedRequest request) {
+        String[] latitudes = request.queryParam("latitude").split(",");
+        String[] longitudes = request.queryParam("longitude").split(",");
+        return IntStream.range(0, latitudes.length)
+                .mapToObj(i -> OpenMeteoStubServer.sampleForecastJson(
+                        Double.parseDouble(latitudes[i]), Double.parseDouble(longitudes[i])))
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private OpenMeteoClient createClient() {
+        WebClientConfig webClientConfig = new WebClientConfig();
+        connectionProvider = webClientConfig.openMeteoConnectionProvider(httpClientConfig);
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(meterRegistry);
+        WebClient webClient = webClientConfig.openMeteoWebClient(
+                webClientConfig.webClientBuilder(), apiConfig, httpClientConfig, connectionProvider, pipelineMetrics);
+        return new OpenMeteoClient(apiConfig, webClient, pipelineMetrics);
+    }
+}
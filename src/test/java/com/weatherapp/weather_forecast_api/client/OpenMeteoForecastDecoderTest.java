@@ -0,0 +1,156 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.OpenMeteo;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
+import com.weatherapp.weather_forecast_api.service.WeatherDataMappingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+class OpenMeteoForecastDecoderTest {
+
+    private static final ResolvableType FORECAST_TYPE = ResolvableType.forClass(OpenMeteoForecast.class);
+
+    private final OpenMeteoForecastDecoder decoder = new OpenMeteoForecastDecoder(new JsonFactory(), 256 * 1024, 7,
+            new PipelineMetrics(new SimpleMeterRegistry()));
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WeatherDataMappingService mappingService = new WeatherDataMappingService();
+
+    @Test
+    void shouldDecodeSameColumnsAsPojoMappingPath() throws Exception {
+        String json = OpenMeteoStubServer.sampleForecastJson(52.23, 21.01);
+
+        OpenMeteoForecast decoded = decodeSingle(json);
+
+        Assertions.assertThat(decoded.daily()).isEqualTo(mapThroughPojo(json));
+        Assertions.assertThat(decoded.latitude()).isEqualTo(52.23);
+        Assertions.assertThat(decoded.longitude()).isEqualTo(21.01);
+        Assertions.assertThat(decoded.generationtimeMs()).isEqualTo(0.42);
+        Assertions.assertThat(decoded.reportedDays()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldApplySameDefaultsAndSkipSameDaysAsPojoMappingPath() throws Exception {
+        String json = """
+                {
+                  "latitude": 52.23,
+                  "longitude": 21.01,
+                  "daily": {
+                    "time": ["2025-06-17", null, "2025-02-30", "not-a-date", "2025-06-21", "2024-02-29"],
+                    "temperature_2m_max": [22.8, 23.1, null, 24.0, null, 5.5],
+                    "temperature_2m_min": [14.3, null],
+                    "weather_code": [3, 61, 80, null, 95, 71],
+                    "surface_pressure_mean": [null, 1001.0, 1002.0, 1003.0, 1004.0, 1005.0]
+                  }
+                }
+                """;
+
+        OpenMeteoForecast decoded = decodeSingle(json);
+
+        Assertions.assertThat(decoded.daily()).isEqualTo(mapThroughPojo(json));
+        Assertions.assertThat(decoded.reportedDays()).isEqualTo(6);
+        Assertions.assertThat(decoded.daily().size()).isEqualTo(3);
+        Assertions.assertThat(decoded.daily().date(2)).isEqualTo(LocalDate.of(2024, 2, 29));
+        Assertions.assertThat(decoded.daily().pressure(0)).isEqualTo(1013.25);
+    }
+
+    @Test
+    void shouldSkipUnknownFieldsAndNestedStructures() throws Exception {
+        String json = """
+                {
+                  "elevation": 113.0,
+                  "hourly": {"time": ["2025-06-17T00:00"], "temperature_2m": [[1.0, 2.0], {"x": 1}]},
+                  "daily_units": {"time": "iso8601"},
+                  "latitude": 52.23,
+                  "daily": {
+                    "uv_index_max": [5.0, 6.0],
+                    "time": ["2025-06-17"],
+                    "sunrise": ["2025-06-17T04:14"],
+                    "sunshine_duration": [3600.0]
+                  },
+                  "longitude": 21.01
+                }
+                """;
+
+        OpenMeteoForecast decoded = decodeSingle(json);
+
+        Assertions.assertThat(decoded.daily()).isEqualTo(mapThroughPojo(json));
+        Assertions.assertThat(decoded.daily().sunshineHours(0)).isEqualTo(1.0);
+        Assertions.assertThat(decoded.longitude()).isEqualTo(21.01);
+    }
+
+    @Test
+    void shouldReportMissingDailyBlock() {
+        OpenMeteoForecast decoded = decodeSingle("{\"latitude\": 52.23, \"longitude\": 21.01}");
+
+        Assertions.assertThat(decoded.daily()).isNull();
+        Assertions.assertThat(decoded.reportedDays()).isZero();
+    }
+
+    @Test
+    void shouldDecodeEveryLocationOfMultiLocationResponse() {
+        String json = "[" + OpenMeteoStubServer.sampleForecastJson(52.23, 21.01) + ","
+                + OpenMeteoStubServer.sampleForecastJson(50.06, 19.95) + "]";
+
+        StepVerifier.create(decoder.decode(Flux.just(buffer(json)), FORECAST_TYPE, MediaType.APPLICATION_JSON, Map.of()))
+                .assertNext(forecast -> Assertions.assertThat(forecast.latitude()).isEqualTo(52.23))
+                .assertNext(forecast -> Assertions.assertThat(forecast.latitude()).isEqualTo(50.06))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldGrowBuffersBeyondExpectedDays() throws Exception {
+        String json = OpenMeteoStubServer.sampleForecastJson(52.23, 21.01);
+        OpenMeteoForecastDecoder singleDayDecoder = new OpenMeteoForecastDecoder(new JsonFactory(), 256 * 1024, 1,
+                new PipelineMetrics(new SimpleMeterRegistry()));
+
+        List<OpenMeteoForecast> decoded = singleDayDecoder.decodeAll(buffer(json));
+
+        Assertions.assertThat(decoded.get(0).daily()).isEqualTo(mapThroughPojo(json));
+    }
+
+    @Test
+    void shouldParseEpochDaysLikeLocalDate() {
+        for (LocalDate date = LocalDate.of(1899, 12, 25); date.isBefore(LocalDate.of(2101, 1, 5)); date = date.plusDays(1)) {
+            char[] chars = date.toString().toCharArray();
+
+            Assertions.assertThat(OpenMeteoForecastDecoder.parseEpochDay(chars, 0, chars.length))
+                    .isEqualTo((int) date.toEpochDay());
+        }
+    }
+
+    @Test
+    void shouldOnlyDecodeForecastType() {
+        Assertions.assertThat(decoder.canDecode(FORECAST_TYPE, MediaType.APPLICATION_JSON)).isTrue();
+        Assertions.assertThat(decoder.canDecode(ResolvableType.forClass(OpenMeteo.class), MediaType.APPLICATION_JSON))
+                .isFalse();
+    }
+
+    private OpenMeteoForecast decodeSingle(String json) {
+        return decoder.decodeToMono(Flux.just(buffer(json)), FORECAST_TYPE, MediaType.APPLICATION_JSON, Map.of())
+                .block();
+    }
+
+    private DailyForecastColumns mapThroughPojo(String json) throws Exception {
+        return mappingService.mapToColumns(objectMapper.readValue(json, OpenMeteo.class));
+    }
+
+    private DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
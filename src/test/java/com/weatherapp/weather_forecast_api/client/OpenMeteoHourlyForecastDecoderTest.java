@@ -0,0 +1,90 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.HourlyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoHourlyForecast;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+class OpenMeteoHourlyForecastDecoderTest {
+
+    private static final ResolvableType FORECAST_TYPE = ResolvableType.forClass(OpenMeteoHourlyForecast.class);
+
+    private final OpenMeteoHourlyForecastDecoder decoder = new OpenMeteoHourlyForecastDecoder(new JsonFactory(),
+            256 * 1024, 2, new PipelineMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void shouldDecodeHourlyColumns() {
+        OpenMeteoHourlyForecast decoded = decode(OpenMeteoStubServer.sampleHourlyForecastJson());
+
+        HourlyForecastColumns hourly = decoded.hourly();
+        Assertions.assertThat(decoded.latitude()).isEqualTo(52.23);
+        Assertions.assertThat(decoded.generationtimeMs()).isEqualTo(0.42);
+        Assertions.assertThat(decoded.reportedHours()).isEqualTo(3);
+        Assertions.assertThat(hourly.size()).isEqualTo(3);
+        Assertions.assertThat(hourly.time(0)).isEqualTo(LocalDateTime.of(2025, 6, 17, 0, 0));
+        Assertions.assertThat(hourly.time(2)).isEqualTo(LocalDateTime.of(2025, 6, 17, 2, 0));
+        Assertions.assertThat(hourly.temperature(1)).isEqualTo(14.9f);
+        Assertions.assertThat(hourly.sunshineSeconds(2)).isEqualTo(1200.0f);
+        Assertions.assertThat(hourly.radiation(2)).isEqualTo(35.5f);
+    }
+
+    @Test
+    void shouldSkipInvalidTimesAndDefaultMissingValues() {
+        OpenMeteoHourlyForecast decoded = decode("""
+                {
+                  "latitude": 52.23,
+                  "hourly": {
+                    "time": ["2025-06-17T00:00", null, "2025-06-17T24:00", "2025-02-30T01:00", "2025-06-17T04:00"],
+                    "temperature_2m": [14.3, 15.0, 16.0, 17.0, null],
+                    "sunshine_duration": [0.0],
+                    "shortwave_radiation": [1.0, 2.0, 3.0, 4.0, 5.0],
+                    "relative_humidity_2m": [80, 81, 82, 83, 84]
+                  }
+                }
+                """);
+
+        HourlyForecastColumns hourly = decoded.hourly();
+        Assertions.assertThat(decoded.reportedHours()).isEqualTo(5);
+        Assertions.assertThat(hourly.size()).isEqualTo(2);
+        Assertions.assertThat(hourly.time(1)).isEqualTo(LocalDateTime.of(2025, 6, 17, 4, 0));
+        Assertions.assertThat(hourly.temperature(1)).isZero();
+        Assertions.assertThat(hourly.sunshineSeconds(1)).isZero();
+        Assertions.assertThat(hourly.radiation(1)).isEqualTo(5.0f);
+    }
+
+    @Test
+    void shouldReturnNullColumnsWithoutHourlyBlock() {
+        OpenMeteoHourlyForecast decoded = decode("{\"latitude\": 52.23, \"daily\": {\"time\": [\"2025-06-17\"]}}");
+
+        Assertions.assertThat(decoded.hourly()).isNull();
+        Assertions.assertThat(decoded.reportedHours()).isZero();
+    }
+
+    @Test
+    void shouldParseEpochHourWithoutAllocating() {
+        char[] chars = "x2025-06-17T13:00".toCharArray();
+
+        int epochHour = OpenMeteoHourlyForecastDecoder.parseEpochHour(chars, 1, 16);
+
+        Assertions.assertThat(epochHour).isEqualTo(LocalDateTime.of(2025, 6, 17, 13, 0)
+                .toEpochSecond(ZoneOffset.UTC) / 3600);
+    }
+
+    private OpenMeteoHourlyForecast decode(String json) {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+        return decoder.decodeToMono(Flux.just(buffer), FORECAST_TYPE, MediaType.APPLICATION_JSON, Map.of()).block();
+    }
+}
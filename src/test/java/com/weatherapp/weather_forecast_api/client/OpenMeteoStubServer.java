@@ -0,0 +1,142 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+public class OpenMeteoStubServer implements AutoCloseable {
+
+    public record RecordedRequest(String path, Map<String, List<String>> queryParams, String acceptEncoding) {
+
+        public String queryParam(String name) {
+            List<String> values = queryParams.get(name);
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+    }
+
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private final LoopResources loopResources = LoopResources.create("open-meteo-stub");
+    private final DisposableServer server;
+    private volatile Function<RecordedRequest, String> responder = request -> sampleForecastJson();
+    private volatile HttpResponseStatus status = HttpResponseStatus.OK;
+    private volatile Duration delay = Duration.ZERO;
+
+    public OpenMeteoStubServer() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .runOn(loopResources)
+                .compress(true)
+                .handle((request, response) -> {
+                    QueryStringDecoder decoder = new QueryStringDecoder(request.uri());
+                    RecordedRequest recorded = new RecordedRequest(
+                            decoder.path(),
+                            decoder.parameters(),
+                            request.requestHeaders().get("Accept-Encoding"));
+                    requests.add(recorded);
+
+                    return Mono.delay(delay)
+                            .then(response.status(status)
+                                    .header("Content-Type", "application/json")
+                                    .sendString(Mono.fromSupplier(() -> responder.apply(recorded)))
+                                    .then());
+                })
+                .bindNow();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    public List<RecordedRequest> requests() {
+        return requests;
+    }
+
+    public OpenMeteoStubServer respondWith(Function<RecordedRequest, String> responder) {
+        this.responder = responder;
+        return this;
+    }
+
+    public OpenMeteoStubServer respondWithStatus(HttpResponseStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    public OpenMeteoStubServer delayResponses(Duration delay) {
+        this.delay = delay;
+        return this;
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+        loopResources.dispose();
+    }
+
+    public static String sampleForecastJson() {
+        return sampleForecastJson(52.23, 21.01);
+    }
+
+    public static String sampleForecastJson(double latitude, double longitude) {
+        return """
+                {
+                  "latitude": %s,
+                  "longitude": %s,
+                  "generationtime_ms": 0.42,
+                  "utc_offset_seconds": 7200,
+                  "timezone": "Europe/Warsaw",
+                  "timezone_abbreviation": "GMT+2",
+                  "elevation": 113.0,
+                  "daily_units": {
+                    "time": "iso8601",
+                    "temperature_2m_max": "°C",
+                    "temperature_2m_min": "°C",
+                    "weather_code": "wmo code",
+                    "sunshine_duration": "s",
+                    "surface_pressure_mean": "hPa"
+                  },
+                  "daily": {
+                    "time": ["2025-06-17", "2025-06-18"],
+                    "temperature_2m_max": [22.8, 25.8],
+                    "temperature_2m_min": [14.3, 16.7],
+                    "weather_code": [3, 51],
+                    "sunshine_duration": [31549.33, 42575.05],
+                    "surface_pressure_mean": [1008.0, 1005.6]
+                  }
+                }
+                """.formatted(latitude, longitude);
+    }
+
+    public static String sampleHourlyForecastJson() {
+        return """
+                {
+                  "latitude": 52.23,
+                  "longitude": 21.01,
+                  "generationtime_ms": 0.42,
+                  "utc_offset_seconds": 7200,
+                  "timezone": "Europe/Warsaw",
+                  "hourly_units": {
+                    "time": "iso8601",
+                    "temperature_2m": "°C",
+                    "sunshine_duration": "s",
+                    "shortwave_radiation": "W/m²"
+                  },
+                  "hourly": {
+                    "time": ["2025-06-17T00:00", "2025-06-17T01:00", "2025-06-17T02:00"],
+                    "temperature_2m": [15.2, 14.9, 14.3],
+                    "sunshine_duration": [0.0, 0.0, 1200.0],
+                    "shortwave_radiation": [0.0, 0.0, 35.5]
+                  }
+                }
+                """;
+    }
+}
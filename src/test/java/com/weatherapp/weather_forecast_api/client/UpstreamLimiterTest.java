@@ -0,0 +1,177 @@
+package com.weatherapp.weather_forecast_api.client;
+
+import com.weatherapp.weather_forecast_api.exception.UpstreamRejectedException;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+class UpstreamLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final List<String> started = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualTimeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = VirtualTimeScheduler.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    void shouldQueueCallsBeyondConcurrencyLimitAndStartThemInOrder() {
+        UpstreamLimiter limiter = createLimiter(null, 1, 10);
+        Sinks.One<String> first = Sinks.one();
+
+        limiter.limit(call("first", first)).subscribe();
+        limiter.limit(call("second", Sinks.one())).subscribe();
+        limiter.limit(call("third", Sinks.one())).subscribe();
+
+        Assertions.assertThat(started).containsExactly("first");
+        Assertions.assertThat(limiter.queued()).isEqualTo(2);
+
+        first.tryEmitValue("done");
+
+        Assertions.assertThat(started).containsExactly("first", "second");
+        Assertions.assertThat(limiter.inFlight()).isEqualTo(1);
+        Assertions.assertThat(limiter.queued()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() {
+        UpstreamLimiter limiter = createLimiter(null, 1, 1);
+        limiter.limit(call("first", Sinks.one())).subscribe();
+        limiter.limit(call("second", Sinks.one())).subscribe();
+
+        Assertions.assertThatThrownBy(() -> limiter.limit(call("third", Sinks.one())).block())
+                .isInstanceOf(UpstreamRejectedException.class)
+                .hasMessageContaining("Too many pending");
+        Assertions.assertThat(started).containsExactly("first");
+        Assertions.assertThat(meterRegistry.get("weather.upstream.rejections").tag("reason", "queue_full")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldFailQueuedCallAfterMaxWait() {
+        UpstreamLimiter limiter = createLimiter(null, 1, 10);
+        Sinks.One<String> first = Sinks.one();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        limiter.limit(call("first", first)).subscribe();
+        limiter.limit(call("second", Sinks.one())).subscribe(value -> {
+        }, error::set);
+
+        scheduler.advanceTimeBy(Duration.ofSeconds(2));
+
+        Assertions.assertThat(error.get()).isInstanceOf(UpstreamRejectedException.class)
+                .hasMessageContaining("Timed out waiting");
+        Assertions.assertThat(limiter.queued()).isZero();
+        Assertions.assertThat(meterRegistry.get("weather.upstream.rejections").tag("reason", "deadline")
+                .counter().count()).isEqualTo(1.0);
+
+        first.tryEmitValue("done");
+        Assertions.assertThat(started).containsExactly("first");
+        Assertions.assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldReleaseSlotWhenQueuedCallIsCancelled() {
+        UpstreamLimiter limiter = createLimiter(null, 1, 10);
+        Sinks.One<String> first = Sinks.one();
+        limiter.limit(call("first", first)).subscribe();
+        Disposable second = limiter.limit(call("second", Sinks.one())).subscribe();
+        limiter.limit(call("third", Sinks.one())).subscribe();
+
+        second.dispose();
+        first.tryEmitValue("done");
+
+        Assertions.assertThat(started).containsExactly("first", "third");
+    }
+
+    @Test
+    void shouldWaitForQuotaTokens() {
+        TokenBucket tokenBucket = new TokenBucket(1.0, 1, nanoTime::get);
+        UpstreamLimiter limiter = createLimiter(tokenBucket, 10, 10);
+
+        limiter.limit(Mono.fromSupplier(() -> record("first"))).subscribe();
+        limiter.limit(Mono.fromSupplier(() -> record("second"))).subscribe();
+
+        Assertions.assertThat(started).containsExactly("first");
+
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        scheduler.advanceTimeBy(Duration.ofSeconds(1));
+
+        Assertions.assertThat(started).containsExactly("first", "second");
+        Assertions.assertThat(meterRegistry.get("weather.upstream.queue.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExposeLimitGauges() {
+        UpstreamLimiter limiter = createLimiter(null, 1, 10);
+        limiter.limit(call("first", Sinks.one())).subscribe();
+        limiter.limit(call("second", Sinks.one())).subscribe();
+
+        Assertions.assertThat(meterRegistry.get("weather.upstream.concurrency.limit").gauge().value()).isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.get("weather.upstream.inflight").gauge().value()).isEqualTo(1.0);
+        Assertions.assertThat(meterRegistry.get("weather.upstream.queued").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldOnlyBackOffOnUpstreamOverload() {
+        UpstreamLimiter limiter = new UpstreamLimiter(null, new AdaptiveConcurrencyLimit(8, 1, 8, 2.0),
+                10, Duration.ofSeconds(2), scheduler, nanoTime::get, new PipelineMetrics(meterRegistry));
+
+        failWith(limiter, WebClientResponseException.create(404, "Not Found", null, null, null));
+        failWith(limiter, new IllegalStateException("Failed to decode response"));
+        Assertions.assertThat(limiter.limit()).isEqualTo(8);
+        Assertions.assertThat(limiter.inFlight()).isZero();
+
+        failWith(limiter, WebClientResponseException.create(503, "Service Unavailable", null, null, null));
+        Assertions.assertThat(limiter.limit()).isEqualTo(4);
+        failWith(limiter, WebClientResponseException.create(429, "Too Many Requests", null, null, null));
+        Assertions.assertThat(limiter.limit()).isEqualTo(2);
+        failWith(limiter, new RuntimeException(new TimeoutException("Response timed out")));
+        Assertions.assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    private void failWith(UpstreamLimiter limiter, Throwable error) {
+        limiter.limit(Mono.error(error)).onErrorResume(e -> Mono.empty()).block();
+    }
+
+    private UpstreamLimiter createLimiter(TokenBucket tokenBucket, int concurrencyLimit, int maxQueueSize) {
+        return new UpstreamLimiter(tokenBucket,
+                new AdaptiveConcurrencyLimit(concurrencyLimit, concurrencyLimit, concurrencyLimit, 2.0),
+                maxQueueSize, Duration.ofSeconds(2), scheduler, nanoTime::get, new PipelineMetrics(meterRegistry));
+    }
+
+    private Mono<String> call(String name, Sinks.One<String> result) {
+        return Mono.defer(() -> {
+            record(name);
+            return result.asMono();
+        });
+    }
+
+    private String record(String name) {
+        started.add(name);
+        return name;
+    }
+}
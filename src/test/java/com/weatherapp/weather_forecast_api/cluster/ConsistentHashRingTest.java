@@ -0,0 +1,63 @@
+package com.weatherapp.weather_forecast_api.cluster;
+
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class ConsistentHashRingTest {
+
+    private static final List<String> MEMBERS = List.of("http://node-a:8080", "http://node-b:8080", "http://node-c:8080");
+
+    @Test
+    void shouldAssignSameOwnerOnEveryInstance() {
+        ConsistentHashRing ring = new ConsistentHashRing(MEMBERS, 128);
+        ConsistentHashRing otherInstance = new ConsistentHashRing(List.of(MEMBERS.get(2), MEMBERS.get(0), MEMBERS.get(1)), 128);
+
+        for (ForecastKey key : gridCells()) {
+            Assertions.assertThat(otherInstance.owner(key)).isEqualTo(ring.owner(key));
+        }
+    }
+
+    @Test
+    void shouldSpreadGridCellsEvenlyOverMembers() {
+        ConsistentHashRing ring = new ConsistentHashRing(MEMBERS, 128);
+        Map<String, Integer> cellsPerMember = new HashMap<>();
+
+        List<ForecastKey> cells = gridCells();
+        cells.forEach(key -> cellsPerMember.merge(ring.owner(key), 1, Integer::sum));
+
+        Assertions.assertThat(cellsPerMember).containsOnlyKeys(MEMBERS);
+        Assertions.assertThat(cellsPerMember.values())
+                .allSatisfy(count -> Assertions.assertThat(count).isBetween(cells.size() / 4, cells.size() / 2));
+    }
+
+    @Test
+    void shouldOnlyMoveCellsOfNewMemberWhenScalingOut() {
+        ConsistentHashRing ring = new ConsistentHashRing(MEMBERS, 128);
+        List<String> scaledOut = new ArrayList<>(MEMBERS);
+        scaledOut.add("http://node-d:8080");
+        ConsistentHashRing scaledOutRing = new ConsistentHashRing(scaledOut, 128);
+
+        for (ForecastKey key : gridCells()) {
+            String newOwner = scaledOutRing.owner(key);
+            if (!newOwner.equals(ring.owner(key))) {
+                Assertions.assertThat(newOwner).isEqualTo("http://node-d:8080");
+            }
+        }
+    }
+
+    private List<ForecastKey> gridCells() {
+        List<ForecastKey> keys = new ArrayList<>();
+        for (int lat = 0; lat < 40; lat++) {
+            for (int lon = 0; lon < 25; lon++) {
+                keys.add(new ForecastKey(49.0 + lat * 0.01, 14.0 + lon * 0.01, 7, "temperature_2m_max"));
+            }
+        }
+        return keys;
+    }
+}
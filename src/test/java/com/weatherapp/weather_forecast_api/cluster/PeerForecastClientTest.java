@@ -0,0 +1,126 @@
+package com.weatherapp.weather_forecast_api.cluster;
+
+import com.weatherapp.weather_forecast_api.client.OpenMeteoStubServer;
+import com.weatherapp.weather_forecast_api.config.ClusterConfig;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+class PeerForecastClientTest {
+
+    private static final String SELF = "http://127.0.0.1:1";
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private OpenMeteoStubServer peer;
+    private PeerForecastClient peerForecastClient;
+
+    @BeforeEach
+    void setUp() {
+        peer = new OpenMeteoStubServer().respondWithStatus(HttpResponseStatus.NOT_FOUND);
+        ClusterConfig clusterConfig = new ClusterConfig();
+        clusterConfig.setEnabled(true);
+        clusterConfig.setSelf(SELF);
+        clusterConfig.setSharedSecret("secret");
+        clusterConfig.setMembers(List.of(SELF, peer.baseUrl()));
+        clusterConfig.setPeerBackoff(Duration.ofSeconds(10));
+        peerForecastClient = new PeerForecastClient(clusterConfig, WebClient.builder(), nanoTime::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        peer.close();
+    }
+
+    @Test
+    void shouldSkipFailedMemberUntilBackoffEnds() {
+        askForCells();
+
+        Assertions.assertThat(peer.requests()).hasSize(1);
+
+        nanoTime.addAndGet(Duration.ofSeconds(11).toNanos());
+        askForCells();
+
+        Assertions.assertThat(peer.requests()).hasSize(2);
+    }
+
+    @Test
+    void shouldReportUpstreamFailureOfOwnerWithoutBackingOff() {
+        peer.respondWithStatus(HttpResponseStatus.SERVICE_UNAVAILABLE)
+                .respondWith(request -> "{\"error\":\"Weather API Error\",\"status\":503,"
+                        + "\"message\":\"Failed to fetch weather data: 503\"}");
+
+        List<Throwable> errors = askForCellsCollectingErrors();
+        int requests = peer.requests().size();
+
+        Assertions.assertThat(requests).isPositive();
+        Assertions.assertThat(errors).hasSize(requests).allSatisfy(error -> Assertions.assertThat(error)
+                .isInstanceOf(WeatherApiException.class)
+                .hasMessage("Failed to fetch weather data: 503"));
+
+        askForCellsCollectingErrors();
+
+        Assertions.assertThat(peer.requests()).hasSize(2 * requests);
+    }
+
+    @Test
+    void shouldFallBackWithoutBackingOffWhenOwnerRejectsUnderLoad() {
+        peer.respondWithStatus(HttpResponseStatus.TOO_MANY_REQUESTS);
+
+        askForCells();
+        int requests = peer.requests().size();
+        askForCells();
+
+        Assertions.assertThat(peer.requests()).hasSize(2 * requests);
+    }
+
+    @Test
+    void shouldRequireSharedSecretInClusterMode() {
+        ClusterConfig clusterConfig = new ClusterConfig();
+        clusterConfig.setEnabled(true);
+        clusterConfig.setSelf(SELF);
+        clusterConfig.setMembers(List.of(SELF));
+
+        Assertions.assertThatThrownBy(() -> new PeerForecastClient(clusterConfig, WebClient.builder()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("weather.cluster.shared-secret");
+    }
+
+    // Asks for enough grid cells that some of them are owned by the peer.
+    private void askForCells() {
+        for (ForecastKey key : cells()) {
+            Assertions.assertThat(peerForecastClient.fetchFromOwner(key).block(Duration.ofSeconds(5))).isNull();
+        }
+    }
+
+    private List<Throwable> askForCellsCollectingErrors() {
+        List<Throwable> errors = new ArrayList<>();
+        for (ForecastKey key : cells()) {
+            peerForecastClient.fetchFromOwner(key)
+                    .onErrorResume(error -> {
+                        errors.add(error);
+                        return Mono.empty();
+                    })
+                    .block(Duration.ofSeconds(5));
+        }
+        return errors;
+    }
+
+    private static List<ForecastKey> cells() {
+        List<ForecastKey> cells = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            cells.add(new ForecastKey(50.0 + i * 0.1, 20.0, 7, "sunshine_duration"));
+        }
+        return cells;
+    }
+}
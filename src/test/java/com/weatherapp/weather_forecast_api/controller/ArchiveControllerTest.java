@@ -0,0 +1,75 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.exception.ValidationException;
+import com.weatherapp.weather_forecast_api.service.ArchiveService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ArchiveController.class)
+class ArchiveControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private ArchiveService archiveService;
+
+    @Test
+    void shouldStreamArchiveAsNdjson() throws Exception {
+        when(archiveService.getDailyHistory(eq(52.23), eq(21.01), eq(LocalDate.of(2020, 1, 1)), eq(LocalDate.of(2020, 1, 2))))
+                .thenReturn(Flux.just(
+                        new DailyForecastDto(LocalDate.of(2020, 1, 1), 3, -2.1, 3.4, 0.42, 1012.0),
+                        new DailyForecastDto(LocalDate.of(2020, 1, 2), 71, -4.0, 0.5, 0.0, 1018.3)));
+
+        MvcResult result = mvc.perform(get("/api/weather/archive")
+                        .param("latitude", "52.23")
+                        .param("longitude", "21.01")
+                        .param("startDate", "2020-01-01")
+                        .param("endDate", "2020-01-02"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        Assertions.assertThat(body.lines().toList()).containsExactly(
+                "{\"date\":\"01/01/2020\",\"weatherCode\":3,\"minTemperature\":-2.1,\"maxTemperature\":3.4,"
+                        + "\"energyGenerated\":0.42,\"pressure\":1012.0}",
+                "{\"date\":\"02/01/2020\",\"weatherCode\":71,\"minTemperature\":-4.0,\"maxTemperature\":0.5,"
+                        + "\"energyGenerated\":0.0,\"pressure\":1018.3}");
+    }
+
+    @Test
+    void shouldReturnBadRequestForInvalidRange() throws Exception {
+        when(archiveService.getDailyHistory(any(), any(), any(), any()))
+                .thenThrow(new ValidationException("Start date must not be after end date"));
+
+        mvc.perform(get("/api/weather/archive")
+                        .param("latitude", "52.23")
+                        .param("longitude", "21.01")
+                        .param("startDate", "2020-02-01")
+                        .param("endDate", "2020-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,99 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.dto.BatchForecastRequest;
+import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.dto.LocationForecastEvent;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.service.ForecastStreamService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ForecastStreamController.class)
+class ForecastStreamControllerTest {
+
+    private static final String REQUEST_BODY =
+            "{\"locations\":[{\"latitude\":52.23,\"longitude\":21.01},{\"latitude\":50.06,\"longitude\":19.94}]}";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private ForecastStreamService forecastStreamService;
+
+    @BeforeEach
+    void setUp() {
+        LocationRequest warsaw = new LocationRequest(52.23, 21.01);
+        LocationRequest krakow = new LocationRequest(50.06, 19.94);
+        when(forecastStreamService.streamForecasts(any(BatchForecastRequest.class))).thenReturn(Flux.just(
+                LocationForecastEvent.forecast(1, krakow,
+                        List.of(new DailyForecastDto(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 2.19, 1008.0))),
+                LocationForecastEvent.error(0, warsaw, "Failed to fetch weather data: 503")));
+    }
+
+    @Test
+    void shouldStreamEventsAsNdjson() throws Exception {
+        String body = stream(MediaType.APPLICATION_NDJSON);
+
+        Assertions.assertThat(body.lines().toList()).containsExactly(
+                "{\"index\":1,\"latitude\":50.06,\"longitude\":19.94,\"forecast\":[{\"date\":\"17/06/2025\","
+                        + "\"weatherCode\":3,\"minTemperature\":14.3,\"maxTemperature\":22.8,"
+                        + "\"energyGenerated\":2.19,\"pressure\":1008.0}]}",
+                "{\"index\":0,\"latitude\":52.23,\"longitude\":21.01,\"error\":\"Failed to fetch weather data: 503\"}");
+    }
+
+    @Test
+    void shouldStreamEventsAsServerSentEvents() throws Exception {
+        String body = stream(MediaType.TEXT_EVENT_STREAM);
+
+        Assertions.assertThat(body.lines().filter(line -> line.startsWith("data:")).toList())
+                .hasSize(2)
+                .satisfiesExactly(
+                        first -> Assertions.assertThat(first).startsWith("data:{\"index\":1,"),
+                        second -> Assertions.assertThat(second).contains("\"error\":\"Failed to fetch weather data: 503\""));
+    }
+
+    @Test
+    void shouldRejectInvalidRequestBeforeStreaming() throws Exception {
+        mvc.perform(post("/api/weather/forecast/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content("{\"locations\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(forecastStreamService);
+    }
+
+    private String stream(MediaType mediaType) throws Exception {
+        MvcResult result = mvc.perform(post("/api/weather/forecast/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(mediaType)
+                        .content(REQUEST_BODY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
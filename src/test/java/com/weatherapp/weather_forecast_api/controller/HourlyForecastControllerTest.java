@@ -0,0 +1,69 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.dto.HourlyForecastDto;
+import com.weatherapp.weather_forecast_api.dto.HourlyForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.model.HourlyResolution;
+import com.weatherapp.weather_forecast_api.service.HourlyForecastService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(HourlyForecastController.class)
+class HourlyForecastControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private HourlyForecastService hourlyForecastService;
+
+    @Test
+    void shouldGetHourlyForecastAtRequestedResolution() throws Exception {
+        when(hourlyForecastService.getHourlyForecast(any(LocationRequest.class), eq(HourlyResolution.SIX_HOURLY)))
+                .thenReturn(Mono.just(new HourlyForecastResponse(List.of(
+                        new HourlyForecastDto(LocalDateTime.of(2025, 6, 17, 6, 0), 6, 18.4, 15.2, 21.0, 4.5, 412.3, 2.25)))));
+
+        MvcResult result = mvc.perform(post("/api/weather/hourly")
+                        .param("resolution", "6h")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"latitude\":52.2297,\"longitude\":21.0122}"))
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.forecast[0].time").value("17/06/2025 06:00"))
+                .andExpect(jsonPath("$.forecast[0].hours").value(6))
+                .andExpect(jsonPath("$.forecast[0].radiation").value(412.3))
+                .andExpect(jsonPath("$.forecast[0].energyGenerated").value(2.25));
+    }
+
+    @Test
+    void shouldRejectUnknownResolution() throws Exception {
+        mvc.perform(post("/api/weather/hourly")
+                        .param("resolution", "2h")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"latitude\":52.2297,\"longitude\":21.0122}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Resolution must be one of 1h, 3h, 6h or daily"));
+
+        verifyNoInteractions(hourlyForecastService);
+    }
+}
@@ -0,0 +1,83 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.dto.DailyEnergyDto;
+import com.weatherapp.weather_forecast_api.dto.PortfolioForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.PortfolioRequest;
+import com.weatherapp.weather_forecast_api.dto.RegionEnergyResponse;
+import com.weatherapp.weather_forecast_api.service.PortfolioService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PortfolioController.class)
+class PortfolioControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private PortfolioService portfolioService;
+
+    @Test
+    void shouldReturnPortfolioTotals() throws Exception {
+        List<DailyEnergyDto> daily = List.of(new DailyEnergyDto(LocalDate.of(2025, 6, 17), 25.0));
+        when(portfolioService.getPortfolioForecastReactive(any(PortfolioRequest.class)))
+                .thenReturn(Mono.just(new PortfolioForecastResponse(2, 25.0, daily,
+                        List.of(new RegionEnergyResponse("north", 2, 25.0, daily)))));
+
+        MvcResult result = mvc.perform(post("/api/weather/portfolio")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"sites":[
+                                  {"id":"a","region":"north","latitude":52.23,"longitude":21.01,"peakPowerKw":10.0,"efficiency":0.2},
+                                  {"id":"b","region":"north","latitude":52.24,"longitude":21.02,"peakPowerKw":2.5,"efficiency":0.2,"orientationDerating":0.8}
+                                ]}
+                                """))
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sites").value(2))
+                .andExpect(jsonPath("$.totalEnergy").value(25.0))
+                .andExpect(jsonPath("$.daily[0].date").value("17/06/2025"))
+                .andExpect(jsonPath("$.regions[0].region").value("north"))
+                .andExpect(jsonPath("$.regions[0].daily[0].energyGenerated").value(25.0));
+    }
+
+    @Test
+    void shouldRejectSiteWithInvalidInstallation() throws Exception {
+        mvc.perform(post("/api/weather/portfolio")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sites\":[{\"latitude\":52.23,\"longitude\":21.01,\"peakPowerKw\":10.0,\"efficiency\":1.5}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Error"));
+
+        verifyNoInteractions(portfolioService);
+    }
+
+    @Test
+    void shouldRejectEmptyPortfolio() throws Exception {
+        mvc.perform(post("/api/weather/portfolio")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sites\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(portfolioService);
+    }
+}
@@ -0,0 +1,182 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.cache.SerializedResponseCache;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.dto.WeatherForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.WeatherSummaryResponse;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
+import com.weatherapp.weather_forecast_api.service.WeatherService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveWeatherController.class)
+@Import({SerializedResponseCache.class, CacheConfig.class, PipelineMetrics.class, SimpleMeterRegistry.class})
+class ReactiveWeatherControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private WeatherService weatherService;
+
+    @Test
+    void shouldGetWeatherForecast() {
+        WeatherForecastResponse response = new WeatherForecastResponse(List.of(
+                new DailyForecastDto(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 2.19, 1008.0)
+        ));
+
+        when(weatherService.getWeatherReportReactive(any(LocationRequest.class)))
+                .thenReturn(Mono.just(new WeatherReport(response.forecast(), null)));
+
+        webTestClient.post().uri("/api/weather/forecast")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"latitude\":52.2297,\"longitude\":21.0122}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Forecast-Stale")
+                .expectBody()
+                .jsonPath("$.forecast[0].date").isEqualTo("17/06/2025")
+                .jsonPath("$.forecast[0].weatherCode").isEqualTo(3)
+                .jsonPath("$.forecast[0].energyGenerated").isEqualTo(2.19);
+    }
+
+    @Test
+    void shouldGetWeatherSummary() {
+        WeatherSummaryResponse response = new WeatherSummaryResponse(1007.26, 8.5, 12.1, 29.0, "bez opadów");
+
+        when(weatherService.getWeatherReportReactive(any(LocationRequest.class)))
+                .thenReturn(Mono.just(new WeatherReport(List.of(), response)));
+
+        webTestClient.post().uri("/api/weather/summary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"latitude\":52.2297,\"longitude\":21.0122}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.averagePressure").isEqualTo(1007.26)
+                .jsonPath("$.weekSummary").isEqualTo("bez opadów");
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenETagMatches() {
+        WeatherSummaryResponse response = new WeatherSummaryResponse(1007.26, 8.5, 12.1, 29.0, "bez opadów");
+
+        when(weatherService.getWeatherReportReactive(any(LocationRequest.class)))
+                .thenReturn(Mono.just(new WeatherReport(List.of(), response)));
+
+        String etag = webTestClient.get().uri("/api/weather/summary?latitude=52.2297&longitude=21.0122")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.averagePressure").isEqualTo(1007.26)
+                .returnResult()
+                .getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/api/weather/summary?latitude=52.2297&longitude=21.0122")
+                .header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void shouldFailPostPreconditionWhenETagMatches() {
+        WeatherSummaryResponse response = new WeatherSummaryResponse(1007.26, 8.5, 12.1, 29.0, "bez opadów");
+
+        when(weatherService.getWeatherReportReactive(any(LocationRequest.class)))
+                .thenReturn(Mono.just(new WeatherReport(List.of(), response)));
+
+        String etag = webTestClient.post().uri("/api/weather/summary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"latitude\":52.2297,\"longitude\":21.0122}")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+
+        webTestClient.post().uri("/api/weather/summary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("If-None-Match", etag)
+                .bodyValue("{\"latitude\":52.2297,\"longitude\":21.0122}")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void shouldValidateQueryParametersOfGetRequests() {
+        webTestClient.get().uri("/api/weather/forecast?latitude=95.0&longitude=21.0122")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.latitude").isEqualTo("Latitude must be between -90.0 and 90.0.");
+
+        verifyNoInteractions(weatherService);
+    }
+
+    @Test
+    void shouldMarkStaleSummary() {
+        WeatherSummaryResponse response = new WeatherSummaryResponse(1007.26, 8.5, 12.1, 29.0, "bez opadów");
+
+        when(weatherService.getWeatherReportReactive(any(LocationRequest.class)))
+                .thenReturn(Mono.just(new WeatherReport(List.of(), response, true)));
+
+        webTestClient.post().uri("/api/weather/summary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"latitude\":52.2297,\"longitude\":21.0122}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Forecast-Stale", "true")
+                .expectBody()
+                .jsonPath("$.averagePressure").isEqualTo(1007.26);
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenLatitudeOutOfRange() {
+        webTestClient.post().uri("/api/weather/forecast")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"latitude\":95.0,\"longitude\":21.0122}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation Error")
+                .jsonPath("$.errors.latitude").isEqualTo("Latitude must be between -90.0 and 90.0.");
+
+        verifyNoInteractions(weatherService);
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableWhenWeatherApiExceptionSignalled() {
+        when(weatherService.getWeatherReportReactive(any(LocationRequest.class)))
+                .thenReturn(Mono.error(new WeatherApiException("API service unavailable")));
+
+        webTestClient.post().uri("/api/weather/summary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"latitude\":52.2297,\"longitude\":21.0122}")
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Weather API Error")
+                .jsonPath("$.message").isEqualTo("API service unavailable");
+    }
+}
@@ -0,0 +1,66 @@
+package com.weatherapp.weather_forecast_api.controller;
+
+import com.weatherapp.weather_forecast_api.dto.RankedSiteDto;
+import com.weatherapp.weather_forecast_api.dto.SiteRankingRequest;
+import com.weatherapp.weather_forecast_api.dto.SiteRankingResponse;
+import com.weatherapp.weather_forecast_api.service.SiteRankingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SiteRankingController.class)
+class SiteRankingControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private SiteRankingService siteRankingService;
+
+    @Test
+    void shouldReturnRanking() throws Exception {
+        when(siteRankingService.rankSites(any(SiteRankingRequest.class))).thenReturn(Mono.just(new SiteRankingResponse(
+                List.of(new RankedSiteDto(1, 0, "roof-1", null, 52.23, 21.01, 24.0)), 1, 0, 2, true)));
+
+        MvcResult result = mvc.perform(post("/api/weather/portfolio/ranking")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"limit\":1,\"sites\":[{\"id\":\"roof-1\",\"latitude\":52.23,\"longitude\":21.01,"
+                                + "\"peakPowerKw\":10.0,\"efficiency\":0.2}]}"))
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sites[0].rank").value(1))
+                .andExpect(jsonPath("$.sites[0].id").value("roof-1"))
+                .andExpect(jsonPath("$.sites[0].region").doesNotExist())
+                .andExpect(jsonPath("$.sites[0].energyGenerated").value(24.0))
+                .andExpect(jsonPath("$.partial").value(true));
+    }
+
+    @Test
+    void shouldRejectLimitOutOfRange() throws Exception {
+        mvc.perform(post("/api/weather/portfolio/ranking")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"limit\":0,\"sites\":[{\"latitude\":52.23,\"longitude\":21.01,"
+                                + "\"peakPowerKw\":10.0,\"efficiency\":0.2}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.limit").value("Limit must be between 1 and 1000."));
+
+        verifyNoInteractions(siteRankingService);
+    }
+}
@@ -1,34 +1,55 @@
 package com.weatherapp.weather_forecast_api.controller;
 
+import com.weatherapp.weather_forecast_api.cache.SerializedResponseCache;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.dto.BatchForecastRequest;
+import com.weatherapp.weather_forecast_api.dto.BatchForecastResponse;
 import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.dto.LocationForecastResponse;
 import com.weatherapp.weather_forecast_api.dto.LocationRequest;
 import com.weatherapp.weather_forecast_api.dto.WeatherForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.WeatherReportResponse;
 import com.weatherapp.weather_forecast_api.dto.WeatherSummaryResponse;
 import com.weatherapp.weather_forecast_api.exception.DataProcessingException;
 import com.weatherapp.weather_forecast_api.exception.ValidationException;
 import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
 import com.weatherapp.weather_forecast_api.service.WeatherService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(WeatherController.class)
+@Import({SerializedResponseCache.class, CacheConfig.class, PipelineMetrics.class, SimpleMeterRegistry.class})
 class WeatherControllerTest {
 
     @Autowired
@@ -52,7 +73,8 @@ class WeatherControllerTest {
         WeatherForecastResponse response = new WeatherForecastResponse(forecastDtos);
 
 
-        when(weatherService.getWeatherForecast(any(LocationRequest.class))).thenReturn(response);
+        when(weatherService.getWeatherReport(any(LocationRequest.class)))
+                .thenReturn(new WeatherReport(response.forecast(), null));
 
         mvc.perform(post("/api/weather/forecast")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -72,7 +94,8 @@ class WeatherControllerTest {
                 1007.26, 8.5, 12.1, 29.0, "bez opadów"
         );
 
-        when(weatherService.getWeatherSummary(any(LocationRequest.class))).thenReturn(response);
+        when(weatherService.getWeatherReport(any(LocationRequest.class)))
+                .thenReturn(new WeatherReport(List.of(), response));
 
         mvc.perform(post("/api/weather/summary")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -85,6 +108,151 @@ class WeatherControllerTest {
                 .andExpect(jsonPath("$.weekSummary").value("bez opadów"));
     }
 
+    @Test
+    void shouldGetForecastWithSummary() throws Exception {
+        WeatherReportResponse response = new WeatherReportResponse(
+                List.of(new DailyForecastDto(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 2.19, 1008.0)),
+                new WeatherSummaryResponse(1008.0, 8.76, 14.3, 22.8, "bez opadów")
+        );
+
+        when(weatherService.getWeatherReport(any(LocationRequest.class)))
+                .thenReturn(new WeatherReport(response.forecast(), response.summary()));
+
+        mvc.perform(post("/api/weather/report")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"latitude\":52.2297,\"longitude\":21.0122}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.forecast[0].date").value("17/06/2025"))
+                .andExpect(jsonPath("$.summary.averagePressure").value(1008.0))
+                .andExpect(jsonPath("$.summary.weekSummary").value("bez opadów"));
+    }
+
+    @Test
+    void shouldMarkStaleForecast() throws Exception {
+        WeatherReport report = new WeatherReport(
+                List.of(new DailyForecastDto(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 2.19, 1008.0)),
+                new WeatherSummaryResponse(1008.0, 8.76, 14.3, 22.8, "bez opadów"),
+                true
+        );
+
+        when(weatherService.getWeatherReport(any(LocationRequest.class))).thenReturn(report);
+
+        mvc.perform(post("/api/weather/forecast")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"latitude\":52.2297,\"longitude\":21.0122}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Forecast-Stale", "true"))
+                .andExpect(jsonPath("$.forecast[0].date").value("17/06/2025"));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenETagMatches() throws Exception {
+        when(weatherService.getWeatherReport(any(LocationRequest.class))).thenReturn(sampleReport());
+
+        String etag = mvc.perform(get("/api/weather/forecast")
+                        .param("latitude", "52.2297")
+                        .param("longitude", "21.0122"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                .andExpect(jsonPath("$.forecast[0].date").value("17/06/2025"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        Assertions.assertThat(etag).matches("\"[0-9a-f]{32}\"");
+        MvcResult notModified = mvc.perform(get("/api/weather/forecast")
+                        .param("latitude", "52.2297")
+                        .param("longitude", "21.0122")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andReturn();
+        Assertions.assertThat(notModified.getResponse().getContentAsByteArray()).isEmpty();
+
+        mvc.perform(get("/api/weather/summary")
+                        .param("latitude", "52.2297")
+                        .param("longitude", "21.0122")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldFailPostPreconditionWhenETagMatches() throws Exception {
+        when(weatherService.getWeatherReport(any(LocationRequest.class))).thenReturn(sampleReport());
+
+        String etag = mvc.perform(post("/api/weather/forecast")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"latitude\":52.2297,\"longitude\":21.0122}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        MvcResult failed = mvc.perform(post("/api/weather/forecast")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("If-None-Match", etag)
+                        .content("{\"latitude\":52.2297,\"longitude\":21.0122}"))
+                .andExpect(status().isPreconditionFailed())
+                .andReturn();
+        Assertions.assertThat(failed.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void shouldGiveEachEncodingItsOwnETag() throws Exception {
+        when(weatherService.getWeatherReport(any(LocationRequest.class))).thenReturn(sampleReport());
+
+        String identityEtag = mvc.perform(get("/api/weather/report")
+                        .param("latitude", "52.2297")
+                        .param("longitude", "21.0122"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        String gzipEtag = mvc.perform(get("/api/weather/report")
+                        .param("latitude", "52.2297")
+                        .param("longitude", "21.0122")
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        Assertions.assertThat(gzipEtag).matches("\"[0-9a-f]{32}-gzip\"").isNotEqualTo(identityEtag);
+        mvc.perform(get("/api/weather/report")
+                        .param("latitude", "52.2297")
+                        .param("longitude", "21.0122")
+                        .header("If-None-Match", identityEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", identityEtag));
+        mvc.perform(get("/api/weather/report")
+                        .param("latitude", "52.2297")
+                        .param("longitude", "21.0122")
+                        .header("Accept-Encoding", "gzip")
+                        .header("If-None-Match", gzipEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", gzipEtag));
+    }
+
+    @Test
+    void shouldValidateQueryParametersOfGetRequests() throws Exception {
+        mvc.perform(get("/api/weather/forecast")
+                        .param("latitude", "95.0")
+                        .param("longitude", "21.0122"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.latitude").value("Latitude must be between -90.0 and 90.0."));
+
+        verifyNoInteractions(weatherService);
+    }
+
+    @Test
+    void shouldServePrecompressedBodyToGzipClients() throws Exception {
+        when(weatherService.getWeatherReport(any(LocationRequest.class))).thenReturn(sampleReport());
+
+        MvcResult result = mvc.perform(post("/api/weather/report")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Accept-Encoding", "gzip, deflate")
+                        .content("{\"latitude\":52.2297,\"longitude\":21.0122}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn();
+
+        Assertions.assertThat(gunzip(result.getResponse().getContentAsByteArray()))
+                .contains("\"weekSummary\":\"bez opadów\"");
+    }
+
     @Test
     void shouldReturnBadRequestWhenLatitudeIsNull() throws Exception {
         mvc.perform(post("/api/weather/forecast")
@@ -128,7 +296,7 @@ class WeatherControllerTest {
     @Test
     void shouldReturnBadRequestWhenValidationExceptionThrown() throws Exception {
         doThrow(new ValidationException("Invalid coordinates")).when(weatherService)
-                .getWeatherForecast(any(LocationRequest.class));
+                .getWeatherReport(any(LocationRequest.class));
 
         mvc.perform(post("/api/weather/forecast")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -140,7 +308,7 @@ class WeatherControllerTest {
     @Test
     void shouldReturnServiceUnavailableWhenWeatherApiExceptionThrown() throws Exception {
         doThrow(new WeatherApiException("API service unavailable")).when(weatherService)
-                .getWeatherSummary(any(LocationRequest.class));
+                .getWeatherReport(any(LocationRequest.class));
 
         mvc.perform(post("/api/weather/summary")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -153,7 +321,7 @@ class WeatherControllerTest {
     @Test
     void shouldReturnBadRequestWhenDataProcessingExceptionThrown() throws Exception {
         doThrow(new DataProcessingException("Failed to process data")).when(weatherService)
-                .getWeatherForecast(any(LocationRequest.class));
+                .getWeatherReport(any(LocationRequest.class));
 
         mvc.perform(post("/api/weather/forecast")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -166,7 +334,7 @@ class WeatherControllerTest {
     @Test
     void shouldReturnInternalServerErrorWhenGenericExceptionThrown() throws Exception {
         doThrow(new RuntimeException("Unexpected error")).when(weatherService)
-                .getWeatherSummary(any(LocationRequest.class));
+                .getWeatherReport(any(LocationRequest.class));
 
         mvc.perform(post("/api/weather/summary")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -175,4 +343,58 @@ class WeatherControllerTest {
                 .andExpect(jsonPath("$.error").value("Internal Server Error"))
                 .andExpect(jsonPath("$.message").value("An unexpected error occurred. Please try again later."));
     }
+
+    @Test
+    void shouldGetBatchForecast() throws Exception {
+        BatchForecastResponse response = new BatchForecastResponse(List.of(
+                new LocationForecastResponse(52.2297, 21.0122, List.of(
+                        new DailyForecastDto(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 2.19, 1008.0))),
+                new LocationForecastResponse(50.0647, 19.9450, List.of(
+                        new DailyForecastDto(LocalDate.of(2025, 6, 17), 51, 12.0, 20.0, 1.0, 1004.0)))
+        ));
+
+        when(weatherService.getBatchForecast(any(BatchForecastRequest.class))).thenReturn(response);
+
+        mvc.perform(post("/api/weather/forecast/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"locations\":[{\"latitude\":52.2297,\"longitude\":21.0122},"
+                                + "{\"latitude\":50.0647,\"longitude\":19.9450}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.forecasts[0].latitude").value(52.2297))
+                .andExpect(jsonPath("$.forecasts[0].forecast[0].date").value("17/06/2025"))
+                .andExpect(jsonPath("$.forecasts[1].forecast[0].weatherCode").value(51));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenBatchLocationInvalid() throws Exception {
+        mvc.perform(post("/api/weather/forecast/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"locations\":[{\"latitude\":52.2297,\"longitude\":21.0122},"
+                                + "{\"latitude\":95.0,\"longitude\":19.9450}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Error"))
+                .andExpect(jsonPath("$.errors['locations[1].latitude']")
+                        .value("Latitude must be between -90.0 and 90.0."));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenBatchIsEmpty() throws Exception {
+        mvc.perform(post("/api/weather/forecast/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"locations\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.locations").value("At least one location is required."));
+    }
+
+    private WeatherReport sampleReport() {
+        return new WeatherReport(
+                List.of(new DailyForecastDto(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 2.19, 1008.0)),
+                new WeatherSummaryResponse(1008.0, 8.76, 14.3, 22.8, "bez opadów"));
+    }
+
+    private String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package com.weatherapp.weather_forecast_api.load;
+
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Compares the heap allocated for one cached 7-day forecast in the boxed
+ * {@code List<DailyWeatherData>} model and in {@link DailyForecastColumns}.
+ * Run with {@code mvn test -Pload-test}.
+ */
+@Tag("load")
+class ForecastModelFootprintTest {
+
+    private static final int FORECASTS = 20_000;
+
+    @Test
+    void shouldAllocateLessPerForecastInColumnarModel() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        DailyForecastColumns template = DailyForecastColumns.fromDailyWeatherData(sampleWeek());
+
+        measure(threads, i -> template.toDailyWeatherData());
+        measure(threads, i -> DailyForecastColumns.fromDailyWeatherData(sampleWeek()));
+
+        double boxedBytes = measure(threads, i -> template.toDailyWeatherData());
+        List<DailyWeatherData> boxed = template.toDailyWeatherData();
+        double columnarBytes = measure(threads, i -> DailyForecastColumns.fromDailyWeatherData(boxed));
+
+        System.out.printf("%nBytes per 7-day forecast: List<DailyWeatherData> %.0f, DailyForecastColumns %.0f%n",
+                boxedBytes, columnarBytes);
+
+        Assertions.assertThat(columnarBytes).isLessThan(boxedBytes / 2);
+    }
+
+    private double measure(com.sun.management.ThreadMXBean threads, IntFunction<Object> factory) {
+        List<Object> retained = new ArrayList<>(FORECASTS);
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < FORECASTS; i++) {
+            retained.add(factory.apply(i));
+        }
+
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        Assertions.assertThat(retained).hasSize(FORECASTS);
+        return (double) allocated / FORECASTS;
+    }
+
+    private List<DailyWeatherData> sampleWeek() {
+        List<DailyWeatherData> week = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            week.add(new DailyWeatherData(LocalDate.of(2025, 6, 17).plusDays(day), 3 + day,
+                    14.3 + day, 22.8 + day, 8.76 + day, 1008.0 + day));
+        }
+        return week;
+    }
+}
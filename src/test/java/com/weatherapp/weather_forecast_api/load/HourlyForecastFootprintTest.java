@@ -0,0 +1,77 @@
+package com.weatherapp.weather_forecast_api.load;
+
+import com.weatherapp.weather_forecast_api.dto.HourlyForecastDto;
+import com.weatherapp.weather_forecast_api.model.HourlyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.HourlyResolution;
+import com.weatherapp.weather_forecast_api.service.SolarEnergyService;
+import com.weatherapp.weather_forecast_api.service.WeatherMappingService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Compares the heap allocated for one cached 168-hour forecast in {@link HourlyForecastColumns}
+ * and as the {@code List<HourlyForecastDto>} it is mapped to at hourly resolution.
+ * Run with {@code mvn test -Pload-test}.
+ */
+@Tag("load")
+class HourlyForecastFootprintTest {
+
+    private static final int FORECASTS = 10_000;
+    private static final int HOURS = 168;
+
+    private final WeatherMappingService mappingService = new WeatherMappingService(new SolarEnergyService());
+
+    @Test
+    void shouldKeepHourlyColumnsSmallerThanMappedDtos() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        HourlyForecastColumns template = sampleWeek();
+
+        measure(threads, i -> sampleWeek());
+        measure(threads, i -> mappingService.mapToHourlyForecastDtos(template, HourlyResolution.HOURLY));
+
+        double columnarBytes = measure(threads, i -> sampleWeek());
+        double dtoBytes = measure(threads, i -> mappingService.mapToHourlyForecastDtos(template, HourlyResolution.HOURLY));
+
+        System.out.printf("%nBytes per %d-hour forecast: HourlyForecastColumns %.0f, List<HourlyForecastDto> %.0f%n",
+                HOURS, columnarBytes, dtoBytes);
+
+        Assertions.assertThat(columnarBytes).isLessThan(HOURS * 16 + 256);
+        Assertions.assertThat(columnarBytes).isLessThan(dtoBytes / 5);
+    }
+
+    private double measure(com.sun.management.ThreadMXBean threads, IntFunction<Object> factory) {
+        List<Object> retained = new ArrayList<>(FORECASTS);
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < FORECASTS; i++) {
+            retained.add(factory.apply(i));
+        }
+
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        Assertions.assertThat(retained).hasSize(FORECASTS);
+        return (double) allocated / FORECASTS;
+    }
+
+    private HourlyForecastColumns sampleWeek() {
+        int firstHour = 20_256 * 24;
+        int[] epochHours = new int[HOURS];
+        float[] temperatures = new float[HOURS];
+        float[] sunshine = new float[HOURS];
+        float[] radiation = new float[HOURS];
+        for (int hour = 0; hour < HOURS; hour++) {
+            epochHours[hour] = firstHour + hour;
+            temperatures[hour] = 14.3f + hour % 24 * 0.4f;
+            sunshine[hour] = hour % 24 >= 6 && hour % 24 < 20 ? 2400.0f : 0.0f;
+            radiation[hour] = hour % 24 >= 6 && hour % 24 < 20 ? 420.5f : 0.0f;
+        }
+        return new HourlyForecastColumns(epochHours, temperatures, sunshine, radiation);
+    }
+}
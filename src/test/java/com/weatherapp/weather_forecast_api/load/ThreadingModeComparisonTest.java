@@ -0,0 +1,142 @@
+package com.weatherapp.weather_forecast_api.load;
+
+import com.weatherapp.weather_forecast_api.WeatherForecastApiApplication;
+import com.weatherapp.weather_forecast_api.client.OpenMeteoStubServer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares platform-thread Tomcat with the virtual-threads profile under a slow upstream.
+ * Run with {@code mvn test -Pload-test}.
+ */
+@Tag("load")
+class ThreadingModeComparisonTest {
+
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int REQUESTS = 4_000;
+    private static final int CONCURRENCY = 800;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(200);
+
+    record LoadResult(String mode, double throughput, double p50Millis, double p99Millis, int failures) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-16s %10.1f req/s   p50 %7.1f ms   p99 %7.1f ms   failures %d",
+                    mode, throughput, p50Millis, p99Millis, failures);
+        }
+    }
+
+    @Test
+    void shouldCompareVirtualAndPlatformThreadRequestHandling() throws Exception {
+        try (OpenMeteoStubServer upstream = new OpenMeteoStubServer().delayResponses(UPSTREAM_LATENCY)) {
+            LoadResult platform = runScenario(upstream, false);
+            LoadResult virtual = runScenario(upstream, true);
+
+            System.out.printf("%nUpstream latency %d ms, %d requests, concurrency %d%n",
+                    UPSTREAM_LATENCY.toMillis(), REQUESTS, CONCURRENCY);
+            System.out.println(platform);
+            System.out.println(virtual);
+
+            Assertions.assertThat(platform.failures()).isZero();
+            Assertions.assertThat(virtual.failures()).isZero();
+        }
+    }
+
+    private LoadResult runScenario(OpenMeteoStubServer upstream, boolean virtualThreads) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(WeatherForecastApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "weather.api.base-url=" + upstream.baseUrl(),
+                        "weather.cache.enabled=false",
+                        "weather.http.max-connections=" + CONCURRENCY,
+                        "weather.http.pending-acquire-max-count=" + REQUESTS,
+                        "weather.api.rate-limit-per-second=0",
+                        "weather.api.concurrency-limit-initial=" + CONCURRENCY,
+                        "weather.api.concurrency-limit-max=" + CONCURRENCY,
+                        "weather.api.limiter-queue-size=" + REQUESTS,
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "logging.level.com.weatherapp=WARN")
+                .run();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            URI uri = URI.create("http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/weather/forecast");
+            HttpClient httpClient = HttpClient.newBuilder().executor(executor).build();
+
+            fire(httpClient, executor, uri, WARMUP_REQUESTS, new long[WARMUP_REQUESTS]);
+
+            long[] latencies = new long[REQUESTS];
+            long started = System.nanoTime();
+            int failures = fire(httpClient, executor, uri, REQUESTS, latencies);
+            double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+            Arrays.sort(latencies);
+            return new LoadResult(
+                    virtualThreads ? "virtual threads" : "platform threads",
+                    REQUESTS / elapsedSeconds,
+                    latencies[REQUESTS / 2] / 1e6,
+                    latencies[(int) (REQUESTS * 0.99)] / 1e6,
+                    failures);
+        } finally {
+            context.close();
+        }
+    }
+
+    private int fire(HttpClient httpClient, ExecutorService executor, URI uri, int requests, long[] latencies)
+            throws InterruptedException {
+        Semaphore permits = new Semaphore(CONCURRENCY);
+        AtomicInteger failures = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            permits.acquire();
+            executor.execute(() -> {
+                long started = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = httpClient.send(request(uri, index),
+                            HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        failures.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latencies[index] = System.nanoTime() - started;
+                    completed.incrementAndGet();
+                    permits.release();
+                }
+            });
+        }
+
+        permits.acquire(CONCURRENCY);
+        Assertions.assertThat(completed.get()).isEqualTo(requests);
+        return failures.get();
+    }
+
+    private HttpRequest request(URI uri, int index) {
+        double latitude = -60.0 + (index % 12_000) * 0.01;
+        String body = String.format(Locale.ROOT, "{\"latitude\":%.2f,\"longitude\":21.0122}", latitude);
+
+        return HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.client.OpenMeteoClient;
+import com.weatherapp.weather_forecast_api.client.OpenMeteoStubServer;
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.config.HttpClientConfig;
+import com.weatherapp.weather_forecast_api.config.WebClientConfig;
+import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.exception.ValidationException;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class ArchiveServiceTest {
+
+    private OpenMeteoStubServer stubServer;
+    private ConnectionProvider connectionProvider;
+    private ArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        stubServer = new OpenMeteoStubServer().respondWith(ArchiveServiceTest::archiveJson);
+        ApiConfig apiConfig = new ApiConfig();
+        apiConfig.setBaseUrl(stubServer.baseUrl());
+        apiConfig.setArchiveBaseUrl(stubServer.baseUrl());
+        apiConfig.setArchiveChunkDays(30);
+        apiConfig.setRateLimitPerSecond(0.0);
+        HttpClientConfig httpClientConfig = new HttpClientConfig();
+        httpClientConfig.setPoolMetrics(false);
+
+        WebClientConfig webClientConfig = new WebClientConfig();
+        connectionProvider = webClientConfig.openMeteoConnectionProvider(httpClientConfig);
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(new SimpleMeterRegistry());
+        WebClient webClient = webClientConfig.openMeteoWebClient(
+                webClientConfig.webClientBuilder(), apiConfig, httpClientConfig, connectionProvider, pipelineMetrics);
+        archiveService = new ArchiveService(new OpenMeteoClient(apiConfig, webClient, pipelineMetrics), apiConfig,
+                new WeatherValidationService(), new WeatherMappingService(new SolarEnergyService()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        stubServer.close();
+    }
+
+    @Test
+    void shouldStreamEveryDayOfRangeInOrder() {
+        List<DailyForecastDto> days = archiveService.getDailyHistory(52.23, 21.01,
+                LocalDate.of(2020, 1, 1), LocalDate.of(2020, 3, 15)).collectList().block();
+
+        Assertions.assertThat(days).hasSize(75);
+        Assertions.assertThat(days.get(0).date()).isEqualTo(LocalDate.of(2020, 1, 1));
+        Assertions.assertThat(days.get(74).date()).isEqualTo(LocalDate.of(2020, 3, 15));
+        Assertions.assertThat(days).extracting(DailyForecastDto::energyGenerated).allMatch(energy -> energy > 0);
+    }
+
+    @Test
+    void shouldFetchRangeInConsecutiveChunks() {
+        archiveService.getDailyHistory(52.23, 21.01, LocalDate.of(2020, 1, 1), LocalDate.of(2020, 3, 15))
+                .blockLast();
+
+        Assertions.assertThat(stubServer.requests())
+                .extracting(request -> request.queryParam("start_date") + ".." + request.queryParam("end_date"))
+                .containsExactly("2020-01-01..2020-01-30", "2020-01-31..2020-02-29", "2020-03-01..2020-03-15");
+        Assertions.assertThat(stubServer.requests().get(0).path()).isEqualTo("/v1/archive");
+    }
+
+    @Test
+    void shouldNotFetchAheadOfSubscriberDemand() {
+        StepVerifier.create(archiveService.getDailyHistory(52.23, 21.01,
+                        LocalDate.of(1980, 1, 1), LocalDate.of(2019, 12, 31)), 1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        Assertions.assertThat(stubServer.requests()).hasSize(1);
+    }
+
+    @Test
+    void shouldStreamFortyYearsOfHistory() {
+        Long days = archiveService.getDailyHistory(52.23, 21.01, LocalDate.of(1980, 1, 1), LocalDate.of(2019, 12, 31))
+                .count()
+                .block(Duration.ofSeconds(30));
+
+        Assertions.assertThat(days).isEqualTo(14610);
+        Assertions.assertThat(stubServer.requests()).hasSize(487);
+    }
+
+    @Test
+    void shouldRejectInvertedRangeBeforeFetching() {
+        Assertions.assertThatThrownBy(() -> archiveService.getDailyHistory(52.23, 21.01,
+                        LocalDate.of(2020, 2, 1), LocalDate.of(2020, 1, 1)))
+                .isInstanceOf(ValidationException.class);
+        Assertions.assertThat(stubServer.requests()).isEmpty();
+    }
+
+    @Test
+    void shouldFailStreamOnUpstreamError() {
+        stubServer.respondWithStatus(HttpResponseStatus.BAD_REQUEST);
+
+        StepVerifier.create(archiveService.getDailyHistory(52.23, 21.01,
+                        LocalDate.of(2020, 1, 1), LocalDate.of(2020, 3, 15)))
+                .expectError(WeatherApiException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private static String archiveJson(OpenMeteoStubServer.RecordedRequest request) {
+        List<LocalDate> dates = LocalDate.parse(request.queryParam("start_date"))
+                .datesUntil(LocalDate.parse(request.queryParam("end_date")).plusDays(1))
+                .toList();
+        return """
+                {
+                  "latitude": 52.23,
+                  "longitude": 21.01,
+                  "daily": {
+                    "time": %s,
+                    "temperature_2m_max": %s,
+                    "temperature_2m_min": %s,
+                    "weather_code": %s,
+                    "sunshine_duration": %s,
+                    "surface_pressure_mean": %s
+                  }
+                }
+                """.formatted(
+                dates.stream().map(date -> "\"" + date + "\"").collect(Collectors.joining(",", "[", "]")),
+                repeat("22.8", dates.size()), repeat("14.3", dates.size()), repeat("3", dates.size()),
+                repeat("31549.33", dates.size()), repeat("1008.0", dates.size()));
+    }
+
+    private static String repeat(String value, int times) {
+        return String.join(",", Collections.nCopies(times, value)).transform(values -> "[" + values + "]");
+    }
+}
@@ -0,0 +1,127 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.dto.BatchForecastRequest;
+import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.dto.LocationForecastEvent;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ForecastStreamServiceTest {
+
+    @Mock
+    private WeatherService weatherService;
+
+    private ApiConfig apiConfig;
+    private ForecastStreamService forecastStreamService;
+
+    @BeforeEach
+    void setUp() {
+        apiConfig = new ApiConfig();
+        forecastStreamService = new ForecastStreamService(weatherService, apiConfig);
+    }
+
+    @Test
+    void shouldEmitLocationsInCompletionOrder() {
+        LocationRequest slow = new LocationRequest(52.23, 21.01);
+        LocationRequest fast = new LocationRequest(50.06, 19.94);
+        Sinks.One<WeatherReport> slowReport = Sinks.one();
+        when(weatherService.getWeatherReportReactive(slow)).thenReturn(slowReport.asMono());
+        when(weatherService.getWeatherReportReactive(fast)).thenReturn(Mono.just(report()));
+
+        StepVerifier.create(forecastStreamService.streamForecasts(new BatchForecastRequest(List.of(slow, fast))))
+                .assertNext(event -> Assertions.assertThat(event.index()).isEqualTo(1))
+                .then(() -> slowReport.tryEmitValue(report()))
+                .assertNext(event -> {
+                    Assertions.assertThat(event.index()).isZero();
+                    Assertions.assertThat(event.latitude()).isEqualTo(52.23);
+                    Assertions.assertThat(event.forecast()).hasSize(1);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldTurnFailedLocationIntoErrorEvent() {
+        LocationRequest failing = new LocationRequest(52.23, 21.01);
+        LocationRequest working = new LocationRequest(50.06, 19.94);
+        when(weatherService.getWeatherReportReactive(failing))
+                .thenReturn(Mono.error(new WeatherApiException("Failed to fetch weather data: 503")));
+        when(weatherService.getWeatherReportReactive(working)).thenReturn(Mono.just(report()));
+
+        List<LocationForecastEvent> events = forecastStreamService
+                .streamForecasts(new BatchForecastRequest(List.of(failing, working)))
+                .collectList()
+                .block();
+
+        Assertions.assertThat(events).hasSize(2);
+        Assertions.assertThat(events).filteredOn(event -> event.index() == 0).singleElement()
+                .satisfies(event -> {
+                    Assertions.assertThat(event.error()).isEqualTo("Failed to fetch weather data: 503");
+                    Assertions.assertThat(event.forecast()).isNull();
+                });
+        Assertions.assertThat(events).filteredOn(event -> event.index() == 1).singleElement()
+                .satisfies(event -> Assertions.assertThat(event.forecast()).isNotNull());
+    }
+
+    @Test
+    void shouldHideUnexpectedErrorDetails() {
+        LocationRequest location = new LocationRequest(52.23, 21.01);
+        when(weatherService.getWeatherReportReactive(location))
+                .thenReturn(Mono.error(new IllegalStateException("connection pool internals")));
+
+        LocationForecastEvent event = forecastStreamService
+                .streamForecasts(new BatchForecastRequest(List.of(location)))
+                .blockFirst();
+
+        Assertions.assertThat(event.error()).doesNotContain("internals");
+    }
+
+    @Test
+    void shouldBoundLocationsInFlight() {
+        apiConfig.setStreamConcurrency(3);
+        forecastStreamService = new ForecastStreamService(weatherService, apiConfig);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(weatherService.getWeatherReportReactive(any())).thenAnswer(invocation -> Mono.defer(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return Mono.delay(Duration.ofMillis(10)).thenReturn(report());
+                })
+                .doOnTerminate(inFlight::decrementAndGet));
+
+        List<LocationRequest> locations = IntStream.range(0, 20)
+                .mapToObj(i -> new LocationRequest(50.0 + i, 20.0))
+                .toList();
+        List<LocationForecastEvent> events = forecastStreamService
+                .streamForecasts(new BatchForecastRequest(locations))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        Assertions.assertThat(events).hasSize(20);
+        Assertions.assertThat(maxInFlight.get()).isEqualTo(3);
+    }
+
+    private static WeatherReport report() {
+        return new WeatherReport(List.of(new DailyForecastDto(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 2.19, 1008.0)),
+                null);
+    }
+}
@@ -0,0 +1,138 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.MutableClock;
+import com.weatherapp.weather_forecast_api.cache.ForecastKeyFactory;
+import com.weatherapp.weather_forecast_api.cache.HotLocationTracker;
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.config.RefreshConfig;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HotLocationRefresherTest {
+
+    @Mock
+    private OpenMeteoService openMeteoService;
+
+    private RefreshConfig refreshConfig;
+    private ForecastKeyFactory forecastKeyFactory;
+    private HotLocationTracker hotLocationTracker;
+    private MutableClock clock;
+    private HotLocationRefresher hotLocationRefresher;
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig cacheConfig = new CacheConfig();
+        refreshConfig = new RefreshConfig();
+        refreshConfig.setJitter(Duration.ZERO);
+        forecastKeyFactory = new ForecastKeyFactory(new ApiConfig(), cacheConfig);
+        hotLocationTracker = new HotLocationTracker(cacheConfig);
+        clock = new MutableClock(Instant.parse("2025-06-17T10:30:00Z"));
+        hotLocationRefresher = new HotLocationRefresher(refreshConfig, cacheConfig, hotLocationTracker,
+                openMeteoService, clock);
+    }
+
+    @Test
+    void shouldRefreshOnlyTheHottestLocations() {
+        refreshConfig.setHotLocations(2);
+        ForecastKey warsaw = track(52.2297, 21.0122, 5);
+        ForecastKey krakow = track(50.0647, 19.9450, 3);
+        ForecastKey gdansk = track(54.3520, 18.6466, 1);
+        when(openMeteoService.refresh(any(ForecastKey.class))).thenReturn(Mono.just(emptyForecast()));
+
+        StepVerifier.create(hotLocationRefresher.refreshHotLocations()).verifyComplete();
+
+        verify(openMeteoService).refresh(warsaw);
+        verify(openMeteoService).refresh(krakow);
+        verify(openMeteoService, never()).refresh(gdansk);
+    }
+
+    @Test
+    void shouldKeepRefreshingWhenOneLocationFails() {
+        ForecastKey warsaw = track(52.2297, 21.0122, 5);
+        ForecastKey krakow = track(50.0647, 19.9450, 3);
+        when(openMeteoService.refresh(warsaw)).thenReturn(Mono.error(new WeatherApiException("API service unavailable")));
+        when(openMeteoService.refresh(krakow)).thenReturn(Mono.just(emptyForecast()));
+
+        StepVerifier.create(hotLocationRefresher.refreshHotLocations()).verifyComplete();
+
+        verify(openMeteoService).refresh(krakow);
+    }
+
+    @Test
+    void shouldLimitConcurrentRefreshes() {
+        refreshConfig.setMaxConcurrency(2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        for (int i = 0; i < 6; i++) {
+            track(50.0 + i, 20.0, 1);
+        }
+        when(openMeteoService.refresh(any(ForecastKey.class))).thenAnswer(invocation -> Mono.delay(Duration.ofMillis(20))
+                .doOnSubscribe(subscription -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .doOnTerminate(inFlight::decrementAndGet)
+                .thenReturn(emptyForecast()));
+
+        StepVerifier.create(hotLocationRefresher.refreshHotLocations()).verifyComplete();
+
+        verify(openMeteoService, times(6)).refresh(any(ForecastKey.class));
+        Assertions.assertThat(maxInFlight).hasValueLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void shouldRefreshOncePerModelUpdate() {
+        track(52.2297, 21.0122, 5);
+        when(openMeteoService.refresh(any(ForecastKey.class))).thenReturn(Mono.just(emptyForecast()));
+
+        hotLocationRefresher.refreshAfterModelUpdate();
+        clock.advance(Duration.ofMinutes(10));
+        hotLocationRefresher.refreshAfterModelUpdate();
+        verifyNoInteractions(openMeteoService);
+
+        clock.advance(Duration.ofMinutes(21));
+        hotLocationRefresher.refreshAfterModelUpdate();
+        hotLocationRefresher.refreshAfterModelUpdate();
+
+        verify(openMeteoService, timeout(1000).times(1)).refresh(any(ForecastKey.class));
+    }
+
+    @Test
+    void shouldNotRefreshWhenDisabled() {
+        refreshConfig.setEnabled(false);
+        track(52.2297, 21.0122, 5);
+
+        hotLocationRefresher.refreshAfterModelUpdate();
+        clock.advance(Duration.ofHours(1));
+        hotLocationRefresher.refreshAfterModelUpdate();
+
+        verifyNoInteractions(openMeteoService);
+    }
+
+    private ForecastKey track(double latitude, double longitude, int requests) {
+        ForecastKey key = forecastKeyFactory.create(latitude, longitude);
+        for (int i = 0; i < requests; i++) {
+            hotLocationTracker.record(key);
+        }
+        return key;
+    }
+
+    private DailyForecastColumns emptyForecast() {
+        return new DailyForecastColumns(new int[0], new int[0], new double[0], new double[0], new double[0], new double[0]);
+    }
+}
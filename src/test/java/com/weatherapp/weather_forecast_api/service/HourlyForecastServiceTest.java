@@ -0,0 +1,122 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.cache.ForecastKeyFactory;
+import com.weatherapp.weather_forecast_api.cache.HourlyForecastCache;
+import com.weatherapp.weather_forecast_api.client.OpenMeteoClient;
+import com.weatherapp.weather_forecast_api.client.OpenMeteoStubServer;
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.config.HttpClientConfig;
+import com.weatherapp.weather_forecast_api.config.WebClientConfig;
+import com.weatherapp.weather_forecast_api.dto.HourlyForecastDto;
+import com.weatherapp.weather_forecast_api.dto.HourlyForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.exception.ValidationException;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.HourlyResolution;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+class HourlyForecastServiceTest {
+
+    private static final LocationRequest WARSAW = new LocationRequest(52.2297, 21.0122);
+
+    private OpenMeteoStubServer stubServer;
+    private ConnectionProvider connectionProvider;
+    private HourlyForecastService hourlyForecastService;
+
+    @BeforeEach
+    void setUp() {
+        stubServer = new OpenMeteoStubServer().respondWith(request -> OpenMeteoStubServer.sampleHourlyForecastJson());
+        ApiConfig apiConfig = new ApiConfig();
+        apiConfig.setBaseUrl(stubServer.baseUrl());
+        CacheConfig cacheConfig = new CacheConfig();
+        HttpClientConfig httpClientConfig = new HttpClientConfig();
+        httpClientConfig.setPoolMetrics(false);
+
+        WebClientConfig webClientConfig = new WebClientConfig();
+        connectionProvider = webClientConfig.openMeteoConnectionProvider(httpClientConfig);
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(new SimpleMeterRegistry());
+        WebClient webClient = webClientConfig.openMeteoWebClient(
+                webClientConfig.webClientBuilder(), apiConfig, httpClientConfig, connectionProvider, pipelineMetrics);
+        hourlyForecastService = new HourlyForecastService(
+                new OpenMeteoClient(apiConfig, webClient, pipelineMetrics),
+                new WeatherValidationService(),
+                new WeatherMappingService(new SolarEnergyService()),
+                new ForecastKeyFactory(apiConfig, cacheConfig),
+                new HourlyForecastCache(cacheConfig),
+                pipelineMetrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        stubServer.close();
+    }
+
+    @Test
+    void shouldRequestHourlyVariables() {
+        HourlyForecastResponse response = hourlyForecastService.getHourlyForecast(WARSAW, HourlyResolution.HOURLY)
+                .block();
+
+        Assertions.assertThat(response.forecast()).hasSize(3);
+        Assertions.assertThat(response.forecast().get(2))
+                .isEqualTo(new HourlyForecastDto(LocalDateTime.of(2025, 6, 17, 2, 0), 1, 14.3, 14.3, 14.3, 0.33, 35.5, 0.17));
+        OpenMeteoStubServer.RecordedRequest request = stubServer.requests().get(0);
+        Assertions.assertThat(request.queryParam("hourly")).isEqualTo("temperature_2m,sunshine_duration,shortwave_radiation");
+        Assertions.assertThat(request.queryParam("daily")).isNull();
+        Assertions.assertThat(request.queryParam("latitude")).isEqualTo("52.23");
+    }
+
+    @Test
+    void shouldServeEveryResolutionFromOneFetch() {
+        hourlyForecastService.getHourlyForecast(WARSAW, HourlyResolution.HOURLY).block();
+        HourlyForecastResponse threeHourly = hourlyForecastService
+                .getHourlyForecast(WARSAW, HourlyResolution.THREE_HOURLY).block();
+        HourlyForecastResponse daily = hourlyForecastService.getHourlyForecast(WARSAW, HourlyResolution.DAILY).block();
+
+        Assertions.assertThat(threeHourly.forecast()).singleElement()
+                .satisfies(interval -> Assertions.assertThat(interval.temperature()).isEqualTo(14.8));
+        Assertions.assertThat(daily.forecast()).singleElement()
+                .satisfies(interval -> Assertions.assertThat(interval.hours()).isEqualTo(3));
+        Assertions.assertThat(stubServer.requests()).hasSize(1);
+    }
+
+    @Test
+    void shouldFailWithWeatherApiExceptionOnUpstreamError() {
+        stubServer.respondWithStatus(HttpResponseStatus.SERVICE_UNAVAILABLE);
+
+        StepVerifier.create(hourlyForecastService.getHourlyForecast(WARSAW, HourlyResolution.HOURLY))
+                .expectError(WeatherApiException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldFailWhenResponseHasNoHourlyData() {
+        stubServer.respondWith(request -> OpenMeteoStubServer.sampleForecastJson());
+
+        StepVerifier.create(hourlyForecastService.getHourlyForecast(WARSAW, HourlyResolution.HOURLY))
+                .expectErrorMessage("No hourly weather data received from Open-Meteo API")
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldRejectInvalidCoordinatesWithoutFetching() {
+        StepVerifier.create(hourlyForecastService.getHourlyForecast(new LocationRequest(91.0, 0.0), HourlyResolution.HOURLY))
+                .expectError(ValidationException.class)
+                .verify(Duration.ofSeconds(5));
+
+        Assertions.assertThat(stubServer.requests()).isEmpty();
+    }
+}
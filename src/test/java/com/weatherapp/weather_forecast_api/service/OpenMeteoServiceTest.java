@@ -1,21 +1,39 @@
 package com.weatherapp.weather_forecast_api.service;
 
+import com.weatherapp.weather_forecast_api.cache.ForecastCache;
+import com.weatherapp.weather_forecast_api.cache.ForecastKeyFactory;
+import com.weatherapp.weather_forecast_api.cache.HotLocationTracker;
 import com.weatherapp.weather_forecast_api.client.OpenMeteoClient;
+import com.weatherapp.weather_forecast_api.cluster.PeerForecastClient;
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
 import com.weatherapp.weather_forecast_api.exception.DataProcessingException;
+import com.weatherapp.weather_forecast_api.exception.UpstreamRejectedException;
 import com.weatherapp.weather_forecast_api.exception.ValidationException;
 import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
 import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
-import com.weatherapp.weather_forecast_api.model.OpenMeteo;
+import com.weatherapp.weather_forecast_api.model.ForecastKey;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,15 +48,25 @@ class OpenMeteoServiceTest {
     @Mock
     private WeatherDataMappingService dataMappingService;
 
+    @Mock
+    private PeerForecastClient peerForecastClient;
+
+    private ApiConfig apiConfig;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private HotLocationTracker hotLocationTracker;
+
     private OpenMeteoService openMeteoService;
 
     @BeforeEach
     void setUp() {
-        openMeteoService = new OpenMeteoService(
-                openMeteoClient,
-                validationService,
-                dataMappingService
-        );
+        apiConfig = new ApiConfig();
+        apiConfig.setBatchChunkSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        hotLocationTracker = new HotLocationTracker(new CacheConfig());
+        lenient().when(peerForecastClient.fetchFromOwner(any(ForecastKey.class))).thenReturn(Mono.empty());
+        openMeteoService = createService(new CacheConfig());
     }
 
     @Test
@@ -46,24 +74,24 @@ class OpenMeteoServiceTest {
         Double latitude = 52.2297;
         Double longitude = 21.0122;
 
-        OpenMeteo mockResponse = new OpenMeteo();
-        List<DailyWeatherData> expectedData = List.of(
+        OpenMeteoForecast mockResponse = forecastResponse();
+        DailyForecastColumns expectedData = DailyForecastColumns.fromDailyWeatherData(List.of(
                 new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
-        );
+        ));
 
-        when(openMeteoClient.fetchWeatherForecast(latitude, longitude)).thenReturn(mockResponse);
-        when(dataMappingService.mapToWeatherData(mockResponse)).thenReturn(expectedData);
+        when(openMeteoClient.fetchWeatherForecast(52.23, 21.01)).thenReturn(mockResponse);
+        when(dataMappingService.mapToColumns(mockResponse)).thenReturn(expectedData);
 
-        List<DailyWeatherData> result = openMeteoService.getWeatherForecast(latitude, longitude);
+        DailyForecastColumns result = openMeteoService.getWeatherForecast(latitude, longitude);
 
         Assertions.assertThat(result).isNotNull();
-        Assertions.assertThat(result).hasSize(1);
-        Assertions.assertThat(result.get(0).getDate()).isEqualTo(LocalDate.of(2025, 6, 17));
+        Assertions.assertThat(result.size()).isEqualTo(1);
+        Assertions.assertThat(result.date(0)).isEqualTo(LocalDate.of(2025, 6, 17));
 
         verify(validationService).validateCoordinates(latitude, longitude);
         verify(validationService).validateResponse(mockResponse);
-        verify(openMeteoClient).fetchWeatherForecast(latitude, longitude);
-        verify(dataMappingService).mapToWeatherData(mockResponse);
+        verify(openMeteoClient).fetchWeatherForecast(52.23, 21.01);
+        verify(dataMappingService).mapToColumns(mockResponse);
     }
 
     @Test
@@ -87,7 +115,7 @@ class OpenMeteoServiceTest {
         Double latitude = 52.2297;
         Double longitude = 21.0122;
 
-        when(openMeteoClient.fetchWeatherForecast(latitude, longitude))
+        when(openMeteoClient.fetchWeatherForecast(52.23, 21.01))
                 .thenThrow(new WeatherApiException("API service unavailable"));
 
         Assertions.assertThatThrownBy(() -> openMeteoService.getWeatherForecast(latitude, longitude))
@@ -95,8 +123,10 @@ class OpenMeteoServiceTest {
                 .hasMessageContaining("API service unavailable");
 
         verify(validationService).validateCoordinates(latitude, longitude);
-        verify(openMeteoClient).fetchWeatherForecast(latitude, longitude);
+        verify(openMeteoClient).fetchWeatherForecast(52.23, 21.01);
         verifyNoInteractions(dataMappingService);
+        Assertions.assertThat(meterRegistry.get("weather.upstream.errors")
+                .tag("exception", "WeatherApiException").counter().count()).isEqualTo(1.0);
     }
 
     @Test
@@ -104,10 +134,10 @@ class OpenMeteoServiceTest {
         Double latitude = 52.2297;
         Double longitude = 21.0122;
 
-        OpenMeteo mockResponse = new OpenMeteo();
+        OpenMeteoForecast mockResponse = forecastResponse();
 
-        when(openMeteoClient.fetchWeatherForecast(latitude, longitude)).thenReturn(mockResponse);
-        when(dataMappingService.mapToWeatherData(mockResponse))
+        when(openMeteoClient.fetchWeatherForecast(52.23, 21.01)).thenReturn(mockResponse);
+        when(dataMappingService.mapToColumns(mockResponse))
                 .thenThrow(new RuntimeException("Unexpected mapping error"));
 
         Assertions.assertThatThrownBy(() -> openMeteoService.getWeatherForecast(latitude, longitude))
@@ -116,7 +146,377 @@ class OpenMeteoServiceTest {
 
         verify(validationService).validateCoordinates(latitude, longitude);
         verify(validationService).validateResponse(mockResponse);
-        verify(openMeteoClient).fetchWeatherForecast(latitude, longitude);
-        verify(dataMappingService).mapToWeatherData(mockResponse);
+        verify(openMeteoClient).fetchWeatherForecast(52.23, 21.01);
+        verify(dataMappingService).mapToColumns(mockResponse);
+        Assertions.assertThat(meterRegistry.get("weather.upstream.errors")
+                .tag("exception", "DataProcessingException").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldServeStaleForecastWhileRefreshingInBackground() throws InterruptedException {
+        CacheConfig cacheConfig = new CacheConfig();
+        cacheConfig.setModelUpdateInterval(Duration.ofMillis(1));
+        cacheConfig.setMinimumTtl(Duration.ZERO);
+        openMeteoService = createService(cacheConfig);
+
+        OpenMeteoForecast firstResponse = forecastResponse();
+        OpenMeteoForecast refreshedResponse = new OpenMeteoForecast(52.23, 21.01, 0.5, 1, null);
+        DailyForecastColumns firstData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+        DailyForecastColumns refreshedData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 61, 13.1, 20.4, 2.5, 1002.0)
+        ));
+
+        when(openMeteoClient.fetchWeatherForecast(52.23, 21.01)).thenReturn(firstResponse);
+        when(dataMappingService.mapToColumns(firstResponse)).thenReturn(firstData);
+        when(openMeteoClient.fetchWeatherForecastReactive(52.23, 21.01)).thenReturn(Mono.just(refreshedResponse));
+        when(dataMappingService.mapToColumns(refreshedResponse)).thenReturn(refreshedData);
+
+        Assertions.assertThat(openMeteoService.getWeatherForecast(52.2297, 21.0122).isStale()).isFalse();
+        Thread.sleep(5);
+
+        DailyForecastColumns result = openMeteoService.getWeatherForecast(52.2297, 21.0122);
+
+        Assertions.assertThat(result.isStale()).isTrue();
+        Assertions.assertThat(result.maxTemperature(0)).isEqualTo(22.8);
+        verify(openMeteoClient, timeout(1000)).fetchWeatherForecastReactive(52.23, 21.01);
+        verify(openMeteoClient).fetchWeatherForecast(52.23, 21.01);
+    }
+
+    @Test
+    void shouldNotCallUpstreamAgainWhileFailureIsRemembered() {
+        when(openMeteoClient.fetchWeatherForecast(52.23, 21.01))
+                .thenThrow(new WeatherApiException("API service unavailable"));
+
+        Assertions.assertThatThrownBy(() -> openMeteoService.getWeatherForecast(52.2297, 21.0122))
+                .isInstanceOf(WeatherApiException.class);
+        Assertions.assertThatThrownBy(() -> openMeteoService.getWeatherForecast(52.2297, 21.0122))
+                .isInstanceOf(WeatherApiException.class)
+                .hasMessageContaining("API service unavailable");
+
+        verify(openMeteoClient, times(1)).fetchWeatherForecast(52.23, 21.01);
+    }
+
+    @Test
+    void shouldNotRememberLocalRejectionsAsFailures() {
+        DailyForecastColumns expectedData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+        OpenMeteoForecast response = forecastResponse();
+        when(openMeteoClient.fetchWeatherForecastReactive(52.23, 21.01))
+                .thenReturn(Mono.error(new UpstreamRejectedException("Too many pending Open-Meteo API requests")))
+                .thenReturn(Mono.just(response));
+        when(dataMappingService.mapToColumns(response)).thenReturn(expectedData);
+
+        StepVerifier.create(openMeteoService.getWeatherForecastReactive(52.2297, 21.0122))
+                .expectError(UpstreamRejectedException.class)
+                .verify();
+        StepVerifier.create(openMeteoService.getWeatherForecastReactive(52.2297, 21.0122))
+                .expectNext(expectedData)
+                .verifyComplete();
+
+        verify(openMeteoClient, times(2)).fetchWeatherForecastReactive(52.23, 21.01);
+    }
+
+    @Test
+    void shouldNotAskOwningClusterMemberWhileFailureIsRemembered() {
+        when(openMeteoClient.fetchWeatherForecastReactive(52.23, 21.01))
+                .thenReturn(Mono.error(new WeatherApiException("API service unavailable")));
+
+        StepVerifier.create(openMeteoService.getWeatherForecastReactive(52.2297, 21.0122))
+                .expectError(WeatherApiException.class)
+                .verify();
+        Assertions.assertThatThrownBy(() -> openMeteoService.getWeatherForecast(52.2297, 21.0122))
+                .hasMessageContaining("API service unavailable");
+        StepVerifier.create(openMeteoService.getWeatherForecastReactive(52.2297, 21.0122))
+                .expectErrorMessage("API service unavailable")
+                .verify();
+
+        verify(peerForecastClient, times(1)).fetchFromOwner(any(ForecastKey.class));
+    }
+
+    @Test
+    void shouldRecordStageTimingsAndUpstreamGenerationTime() {
+        OpenMeteoForecast mockResponse = new OpenMeteoForecast(52.23, 21.01, 0.42, 1, null);
+        DailyForecastColumns expectedData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+
+        when(openMeteoClient.fetchWeatherForecast(52.23, 21.01)).thenReturn(mockResponse);
+        when(dataMappingService.mapToColumns(mockResponse)).thenReturn(expectedData);
+
+        openMeteoService.getWeatherForecast(52.2297, 21.0122);
+
+        Assertions.assertThat(meterRegistry.get("weather.pipeline.stage").tag("stage", "validation").timer().count())
+                .isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("weather.pipeline.stage").tag("stage", "mapping").timer().count())
+                .isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("openmeteo.generation.time").timer()
+                .totalTime(TimeUnit.MICROSECONDS)).isEqualTo(420.0);
+    }
+
+    @Test
+    void shouldFetchUsingCoordinatesSnappedToGrid() {
+        OpenMeteoForecast mockResponse = forecastResponse();
+        DailyForecastColumns expectedData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+
+        when(openMeteoClient.fetchWeatherForecast(52.23, 21.01)).thenReturn(mockResponse);
+        when(dataMappingService.mapToColumns(mockResponse)).thenReturn(expectedData);
+
+        openMeteoService.getWeatherForecast(52.2341, 21.0149);
+
+        verify(openMeteoClient).fetchWeatherForecast(52.23, 21.01);
+    }
+
+    @Test
+    void shouldServeRepeatedRequestsForSameGridCellFromCache() {
+        OpenMeteoForecast mockResponse = forecastResponse();
+        DailyForecastColumns expectedData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+
+        when(openMeteoClient.fetchWeatherForecast(52.23, 21.01)).thenReturn(mockResponse);
+        when(dataMappingService.mapToColumns(mockResponse)).thenReturn(expectedData);
+
+        DailyForecastColumns first = openMeteoService.getWeatherForecast(52.2297, 21.0122);
+        DailyForecastColumns second = openMeteoService.getWeatherForecast(52.2301, 21.0098);
+
+        Assertions.assertThat(second).isEqualTo(first);
+        verify(openMeteoClient, times(1)).fetchWeatherForecast(52.23, 21.01);
+        verify(dataMappingService, times(1)).mapToColumns(mockResponse);
+    }
+
+    @Test
+    void shouldRetryFailedFetchesWhenFailureCachingIsDisabled() {
+        CacheConfig cacheConfig = new CacheConfig();
+        cacheConfig.setFailureTtl(Duration.ZERO);
+        openMeteoService = createService(cacheConfig);
+
+        OpenMeteoForecast mockResponse = forecastResponse();
+        DailyForecastColumns expectedData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+
+        when(openMeteoClient.fetchWeatherForecast(52.23, 21.01))
+                .thenThrow(new WeatherApiException("API service unavailable"))
+                .thenReturn(mockResponse);
+        when(dataMappingService.mapToColumns(mockResponse)).thenReturn(expectedData);
+
+        Assertions.assertThatThrownBy(() -> openMeteoService.getWeatherForecast(52.2297, 21.0122))
+                .isInstanceOf(WeatherApiException.class);
+
+        DailyForecastColumns result = openMeteoService.getWeatherForecast(52.2297, 21.0122);
+
+        Assertions.assertThat(result).isEqualTo(expectedData);
+        verify(openMeteoClient, times(2)).fetchWeatherForecast(52.23, 21.01);
+    }
+
+    @Test
+    void shouldGetWeatherForecastReactively() {
+        OpenMeteoForecast mockResponse = forecastResponse();
+        DailyForecastColumns expectedData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+
+        when(openMeteoClient.fetchWeatherForecastReactive(52.23, 21.01)).thenReturn(Mono.just(mockResponse));
+        when(dataMappingService.mapToColumns(mockResponse)).thenReturn(expectedData);
+
+        StepVerifier.create(openMeteoService.getWeatherForecastReactive(52.2297, 21.0122))
+                .expectNext(expectedData)
+                .verifyComplete();
+
+        DailyForecastColumns cached = openMeteoService.getWeatherForecast(52.2297, 21.0122);
+
+        Assertions.assertThat(cached).isEqualTo(expectedData);
+        verify(openMeteoClient, never()).fetchWeatherForecast(anyDouble(), anyDouble());
+    }
+
+    @Test
+    void shouldSignalWeatherApiExceptionReactivelyWhenClientFails() {
+        when(openMeteoClient.fetchWeatherForecastReactive(52.23, 21.01))
+                .thenReturn(Mono.error(new WeatherApiException("API service unavailable")));
+
+        StepVerifier.create(openMeteoService.getWeatherForecastReactive(52.2297, 21.0122))
+                .expectErrorSatisfies(error -> Assertions.assertThat(error)
+                        .isInstanceOf(WeatherApiException.class)
+                        .hasMessageContaining("API service unavailable"))
+                .verify();
+
+        verifyNoInteractions(dataMappingService);
+    }
+
+    @Test
+    void shouldSignalValidationErrorReactivelyWithoutCallingClient() {
+        doThrow(new ValidationException("Latitude must be between -90.0 and 90.0"))
+                .when(validationService).validateCoordinates(95.0, 21.0122);
+
+        StepVerifier.create(openMeteoService.getWeatherForecastReactive(95.0, 21.0122))
+                .expectError(ValidationException.class)
+                .verify();
+
+        verifyNoInteractions(openMeteoClient, dataMappingService);
+    }
+
+    @Test
+    void shouldFetchBatchInChunksAndFanOutResultsInRequestOrder() {
+        OpenMeteoForecast warsaw = forecastResponse();
+        OpenMeteoForecast krakow = forecastResponse();
+        OpenMeteoForecast gdansk = forecastResponse();
+        DailyForecastColumns warsawData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)));
+        DailyForecastColumns krakowData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 51, 12.0, 20.0, 4.0, 1004.0)));
+        DailyForecastColumns gdanskData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 1, 11.0, 18.0, 10.0, 1012.0)));
+
+        ForecastKeyFactory keyFactory = new ForecastKeyFactory(apiConfig, new CacheConfig());
+        List<ForecastKey> firstChunk = List.of(keyFactory.create(52.23, 21.01), keyFactory.create(50.06, 19.95));
+        List<ForecastKey> secondChunk = List.of(keyFactory.create(54.35, 18.65));
+
+        when(openMeteoClient.fetchWeatherForecastsReactive(firstChunk)).thenReturn(Mono.just(List.of(warsaw, krakow)));
+        when(openMeteoClient.fetchWeatherForecastsReactive(secondChunk)).thenReturn(Mono.just(List.of(gdansk)));
+        when(dataMappingService.mapAllToColumns(List.of(warsaw, krakow))).thenReturn(List.of(warsawData, krakowData));
+        when(dataMappingService.mapAllToColumns(List.of(gdansk))).thenReturn(List.of(gdanskData));
+
+        List<DailyForecastColumns> result = openMeteoService.getWeatherForecasts(List.of(
+                new LocationRequest(52.2297, 21.0122),
+                new LocationRequest(50.0647, 19.9450),
+                new LocationRequest(52.2301, 21.0098),
+                new LocationRequest(54.3520, 18.6466)
+        ));
+
+        Assertions.assertThat(result).containsExactly(warsawData, krakowData, warsawData, gdanskData);
+        verify(openMeteoClient).fetchWeatherForecastsReactive(firstChunk);
+        verify(openMeteoClient).fetchWeatherForecastsReactive(secondChunk);
+    }
+
+    @Test
+    void shouldServeCachedLocationsOfBatchWithoutFetching() {
+        OpenMeteoForecast warsaw = forecastResponse();
+        OpenMeteoForecast krakow = forecastResponse();
+        DailyForecastColumns warsawData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)));
+        DailyForecastColumns krakowData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 51, 12.0, 20.0, 4.0, 1004.0)));
+
+        when(openMeteoClient.fetchWeatherForecast(52.23, 21.01)).thenReturn(warsaw);
+        when(dataMappingService.mapToColumns(warsaw)).thenReturn(warsawData);
+        openMeteoService.getWeatherForecast(52.2297, 21.0122);
+
+        ForecastKeyFactory keyFactory = new ForecastKeyFactory(apiConfig, new CacheConfig());
+        List<ForecastKey> missing = List.of(keyFactory.create(50.06, 19.95));
+        when(openMeteoClient.fetchWeatherForecastsReactive(missing)).thenReturn(Mono.just(List.of(krakow)));
+        when(dataMappingService.mapAllToColumns(List.of(krakow))).thenReturn(List.of(krakowData));
+
+        List<DailyForecastColumns> result = openMeteoService.getWeatherForecasts(List.of(
+                new LocationRequest(52.2297, 21.0122),
+                new LocationRequest(50.0647, 19.9450)
+        ));
+
+        Assertions.assertThat(result).containsExactly(warsawData, krakowData);
+        verify(openMeteoClient).fetchWeatherForecastsReactive(missing);
+    }
+
+    @Test
+    void shouldFailBatchWhenUpstreamReturnsWrongNumberOfLocations() {
+        ForecastKeyFactory keyFactory = new ForecastKeyFactory(apiConfig, new CacheConfig());
+        List<ForecastKey> chunk = List.of(keyFactory.create(52.23, 21.01), keyFactory.create(50.06, 19.95));
+        List<OpenMeteoForecast> responses = List.of(forecastResponse());
+
+        when(openMeteoClient.fetchWeatherForecastsReactive(chunk)).thenReturn(Mono.just(responses));
+        doThrow(new WeatherApiException("Expected 2 locations from Open-Meteo API but received 1"))
+                .when(validationService).validateResponses(responses, 2);
+
+        Assertions.assertThatThrownBy(() -> openMeteoService.getWeatherForecasts(List.of(
+                        new LocationRequest(52.2297, 21.0122),
+                        new LocationRequest(50.0647, 19.9450))))
+                .isInstanceOf(WeatherApiException.class)
+                .hasMessageContaining("Expected 2 locations");
+
+        verifyNoInteractions(dataMappingService);
+    }
+
+    @Test
+    void shouldTakeForecastFromOwningClusterMember() {
+        DailyForecastColumns fromOwner = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+        when(peerForecastClient.fetchFromOwner(any(ForecastKey.class))).thenReturn(Mono.just(fromOwner));
+
+        DailyForecastColumns first = openMeteoService.getWeatherForecast(52.2297, 21.0122);
+        DailyForecastColumns second = openMeteoService.getWeatherForecastReactive(52.2297, 21.0122).block();
+
+        Assertions.assertThat(first).isSameAs(fromOwner);
+        Assertions.assertThat(second).isSameAs(fromOwner);
+        verify(peerForecastClient, times(1)).fetchFromOwner(any(ForecastKey.class));
+        verifyNoInteractions(openMeteoClient);
+    }
+
+    @Test
+    void shouldFetchFromUpstreamWhenOwningClusterMemberHasNoAnswer() {
+        DailyForecastColumns expectedData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+        OpenMeteoForecast response = forecastResponse();
+        when(openMeteoClient.fetchWeatherForecastReactive(52.23, 21.01)).thenReturn(Mono.just(response));
+        when(dataMappingService.mapToColumns(response)).thenReturn(expectedData);
+
+        StepVerifier.create(openMeteoService.getWeatherForecastReactive(52.2297, 21.0122))
+                .expectNext(expectedData)
+                .verifyComplete();
+
+        verify(peerForecastClient).fetchFromOwner(any(ForecastKey.class));
+    }
+
+    @Test
+    void shouldRememberUpstreamFailureReportedByOwningClusterMember() {
+        when(peerForecastClient.fetchFromOwner(any(ForecastKey.class)))
+                .thenReturn(Mono.error(new WeatherApiException("Failed to fetch weather data: 503")));
+
+        StepVerifier.create(openMeteoService.getWeatherForecastReactive(52.2297, 21.0122))
+                .expectErrorMessage("Failed to fetch weather data: 503")
+                .verify();
+        Assertions.assertThatThrownBy(() -> openMeteoService.getWeatherForecast(52.2297, 21.0122))
+                .hasMessage("Failed to fetch weather data: 503");
+
+        verify(peerForecastClient, times(1)).fetchFromOwner(any(ForecastKey.class));
+        verifyNoInteractions(openMeteoClient);
+    }
+
+    @Test
+    void shouldServePeersWithoutAskingOtherMembers() {
+        DailyForecastColumns expectedData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+        OpenMeteoForecast response = forecastResponse();
+        when(openMeteoClient.fetchWeatherForecastReactive(52.23, 21.01)).thenReturn(Mono.just(response));
+        when(dataMappingService.mapToColumns(response)).thenReturn(expectedData);
+
+        StepVerifier.create(openMeteoService.getWeatherForecastForPeer(52.2297, 21.0122))
+                .expectNext(expectedData)
+                .verifyComplete();
+
+        verify(peerForecastClient, never()).fetchFromOwner(any(ForecastKey.class));
+    }
+
+    private OpenMeteoService createService(CacheConfig cacheConfig) {
+        return new OpenMeteoService(
+                openMeteoClient,
+                apiConfig,
+                validationService,
+                dataMappingService,
+                new ForecastKeyFactory(apiConfig, cacheConfig),
+                new ForecastCache(cacheConfig),
+                hotLocationTracker,
+                peerForecastClient,
+                new PipelineMetrics(meterRegistry)
+        );
+    }
+
+    private OpenMeteoForecast forecastResponse() {
+        return new OpenMeteoForecast(null, null, null, 1, null);
     }
 }
@@ -0,0 +1,180 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.config.PortfolioConfig;
+import com.weatherapp.weather_forecast_api.config.SolarConfig;
+import com.weatherapp.weather_forecast_api.dto.DailyEnergyDto;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.dto.PortfolioForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.PortfolioRequest;
+import com.weatherapp.weather_forecast_api.dto.PortfolioSiteRequest;
+import com.weatherapp.weather_forecast_api.dto.RegionEnergyResponse;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioServiceTest {
+
+    private static final int JUNE_17 = (int) LocalDate.of(2025, 6, 17).toEpochDay();
+
+    @Mock
+    private OpenMeteoService openMeteoService;
+
+    private PortfolioConfig portfolioConfig;
+    private PortfolioService portfolioService;
+
+    @BeforeEach
+    void setUp() {
+        portfolioConfig = new PortfolioConfig();
+        portfolioService = createService();
+    }
+
+    @Test
+    void shouldSumEnergyPerDayAndRegion() {
+        List<PortfolioSiteRequest> sites = List.of(
+                site("north", 52.23, 21.01, 10.0, 0.2, null),
+                site("south", 50.06, 19.94, 5.0, 0.2, 0.5),
+                site("north", 52.23, 21.01, 2.5, 0.2, 1.0));
+        DailyForecastColumns warsaw = forecast(JUNE_17, 8.0, 4.0);
+        DailyForecastColumns krakow = forecast(JUNE_17, 10.0, 0.0);
+        when(openMeteoService.getWeatherForecastsReactive(anyList()))
+                .thenReturn(Mono.just(List.of(warsaw, krakow, warsaw)));
+
+        PortfolioForecastResponse response = portfolioService.getPortfolioForecastReactive(new PortfolioRequest(sites))
+                .block();
+
+        Assertions.assertThat(response.sites()).isEqualTo(3);
+        Assertions.assertThat(response.totalEnergy()).isEqualTo(35.0);
+        Assertions.assertThat(response.daily()).containsExactly(
+                new DailyEnergyDto(LocalDate.of(2025, 6, 17), 25.0),
+                new DailyEnergyDto(LocalDate.of(2025, 6, 18), 10.0));
+        Assertions.assertThat(response.regions()).extracting(RegionEnergyResponse::region)
+                .containsExactly("north", "south");
+        Assertions.assertThat(response.regions().get(0).sites()).isEqualTo(2);
+        Assertions.assertThat(response.regions().get(0).totalEnergy()).isEqualTo(30.0);
+        Assertions.assertThat(response.regions().get(1).daily()).containsExactly(
+                new DailyEnergyDto(LocalDate.of(2025, 6, 17), 5.0),
+                new DailyEnergyDto(LocalDate.of(2025, 6, 18), 0.0));
+    }
+
+    @Test
+    void shouldResolveForecastsForEverySiteInOneBatch() {
+        List<PortfolioSiteRequest> sites = List.of(
+                site("north", 52.23, 21.01, 10.0, 0.2, null),
+                site("north", 52.23, 21.01, 2.5, 0.2, null));
+        DailyForecastColumns warsaw = forecast(JUNE_17, 8.0);
+        when(openMeteoService.getWeatherForecastsReactive(anyList())).thenReturn(Mono.just(List.of(warsaw, warsaw)));
+
+        portfolioService.getPortfolioForecastReactive(new PortfolioRequest(sites)).block();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LocationRequest>> locations = ArgumentCaptor.forClass(List.class);
+        verify(openMeteoService).getWeatherForecastsReactive(locations.capture());
+        Assertions.assertThat(locations.getValue()).containsExactly(
+                new LocationRequest(52.23, 21.01), new LocationRequest(52.23, 21.01));
+    }
+
+    @Test
+    void shouldAlignDaysByDateAcrossSites() {
+        List<PortfolioSiteRequest> sites = List.of(
+                site("west", 40.71, -74.01, 10.0, 0.1, null),
+                site(null, 35.68, 139.69, 10.0, 0.1, null));
+        when(openMeteoService.getWeatherForecastsReactive(anyList())).thenReturn(Mono.just(List.of(
+                forecast(JUNE_17 - 1, 5.0, 5.0),
+                forecast(JUNE_17, 3.0, 3.0))));
+
+        PortfolioForecastResponse response = portfolioService.getPortfolioForecastReactive(new PortfolioRequest(sites))
+                .block();
+
+        Assertions.assertThat(response.daily()).containsExactly(
+                new DailyEnergyDto(LocalDate.of(2025, 6, 16), 5.0),
+                new DailyEnergyDto(LocalDate.of(2025, 6, 17), 8.0),
+                new DailyEnergyDto(LocalDate.of(2025, 6, 18), 3.0));
+        Assertions.assertThat(response.regions().get(0).daily()).hasSize(2);
+        Assertions.assertThat(response.regions().get(1).region()).isEqualTo(PortfolioService.UNASSIGNED_REGION);
+        Assertions.assertThat(response.regions().get(1).daily()).extracting(DailyEnergyDto::date)
+                .containsExactly(LocalDate.of(2025, 6, 17), LocalDate.of(2025, 6, 18));
+    }
+
+    @Test
+    void shouldGiveSameTotalsWhenSplitAcrossWorkers() {
+        Random random = new Random(7);
+        List<PortfolioSiteRequest> sites = new ArrayList<>();
+        List<DailyForecastColumns> forecasts = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            sites.add(site("region-" + random.nextInt(12), 50.0, 20.0, 1.0 + random.nextInt(20), 0.18, 0.9));
+            forecasts.add(forecast(JUNE_17, random.nextDouble() * 14, random.nextDouble() * 14, random.nextDouble() * 14));
+        }
+
+        portfolioConfig.setForkThreshold(Integer.MAX_VALUE);
+        PortfolioForecastResponse sequential = portfolioService.aggregate(sites, forecasts);
+        portfolioConfig.setForkThreshold(16);
+        PortfolioForecastResponse parallel = createService().aggregate(sites, forecasts);
+
+        Assertions.assertThat(parallel.daily()).isEqualTo(sequential.daily());
+        Assertions.assertThat(parallel.regions()).isEqualTo(sequential.regions());
+        Assertions.assertThat(parallel.totalEnergy()).isEqualTo(sequential.totalEnergy());
+    }
+
+    @Test
+    void shouldReturnEmptyTotalsForSitesWithoutForecastDays() {
+        List<PortfolioSiteRequest> sites = List.of(site("north", 52.23, 21.01, 10.0, 0.2, null));
+
+        PortfolioForecastResponse response = portfolioService.aggregate(sites,
+                List.of(new DailyForecastColumns(new int[0], new int[0], new double[0], new double[0],
+                        new double[0], new double[0])));
+
+        Assertions.assertThat(response.totalEnergy()).isZero();
+        Assertions.assertThat(response.daily()).isEmpty();
+        Assertions.assertThat(response.regions().get(0).daily()).isEmpty();
+    }
+
+    @Test
+    void shouldPropagateForecastFailure() {
+        when(openMeteoService.getWeatherForecastsReactive(anyList()))
+                .thenReturn(Mono.error(new WeatherApiException("Failed to fetch weather data: 503")));
+
+        StepVerifier.create(portfolioService.getPortfolioForecastReactive(new PortfolioRequest(
+                        List.of(site("north", 52.23, 21.01, 10.0, 0.2, null)))))
+                .expectError(WeatherApiException.class)
+                .verify();
+    }
+
+    private PortfolioService createService() {
+        return new PortfolioService(openMeteoService, new SolarEnergyBatchService(new SolarConfig()), portfolioConfig,
+                new ForkJoinPool(4));
+    }
+
+    private static PortfolioSiteRequest site(String region, double latitude, double longitude, double peakPowerKw,
+                                             double efficiency, Double orientationDerating) {
+        return new PortfolioSiteRequest(null, region, latitude, longitude, peakPowerKw, efficiency, orientationDerating);
+    }
+
+    private static DailyForecastColumns forecast(int firstEpochDay, double... sunshineHours) {
+        int days = sunshineHours.length;
+        int[] epochDays = new int[days];
+        for (int day = 0; day < days; day++) {
+            epochDays[day] = firstEpochDay + day;
+        }
+        double[] zeros = new double[days];
+        return new DailyForecastColumns(epochDays, new int[days], zeros, zeros, sunshineHours, zeros);
+    }
+}
@@ -0,0 +1,171 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.cache.ForecastKeyFactory;
+import com.weatherapp.weather_forecast_api.config.ApiConfig;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.config.PortfolioConfig;
+import com.weatherapp.weather_forecast_api.dto.LocationRequest;
+import com.weatherapp.weather_forecast_api.dto.PortfolioSiteRequest;
+import com.weatherapp.weather_forecast_api.dto.RankedSiteDto;
+import com.weatherapp.weather_forecast_api.dto.SiteRankingRequest;
+import com.weatherapp.weather_forecast_api.dto.SiteRankingResponse;
+import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SiteRankingServiceTest {
+
+    private static final int JUNE_17 = (int) LocalDate.of(2025, 6, 17).toEpochDay();
+
+    @Mock
+    private OpenMeteoService openMeteoService;
+
+    private ApiConfig apiConfig;
+    private PortfolioConfig portfolioConfig;
+
+    @BeforeEach
+    void setUp() {
+        apiConfig = new ApiConfig();
+        portfolioConfig = new PortfolioConfig();
+    }
+
+    @Test
+    void shouldRankSitesByEnergyOverForecastHorizon() {
+        answerForecasts(Map.of(52.23, Mono.just(forecast(8.0, 4.0)), 50.06, Mono.just(forecast(10.0, 10.0))));
+        List<PortfolioSiteRequest> sites = List.of(
+                site("small-warsaw", 52.23, 2.5, null),
+                site("large-warsaw", 52.23, 10.0, null),
+                site("krakow", 50.06, 10.0, 0.5));
+
+        SiteRankingResponse response = createService().rankSites(new SiteRankingRequest(sites, 2)).block();
+
+        Assertions.assertThat(response.sites()).extracting(RankedSiteDto::id).containsExactly("large-warsaw", "krakow");
+        Assertions.assertThat(response.sites()).extracting(RankedSiteDto::rank).containsExactly(1, 2);
+        Assertions.assertThat(response.sites()).extracting(RankedSiteDto::energyGenerated).containsExactly(24.0, 20.0);
+        Assertions.assertThat(response.sites().get(1).index()).isEqualTo(2);
+        Assertions.assertThat(response.evaluated()).isEqualTo(3);
+        Assertions.assertThat(response.partial()).isFalse();
+        verify(openMeteoService).getWeatherForecastsReactive(
+                List.of(new LocationRequest(52.23, 21.01), new LocationRequest(50.06, 21.01)));
+    }
+
+    @Test
+    void shouldBreakTiesBySiteOrder() {
+        answerForecasts(Map.of(52.23, Mono.just(forecast(8.0))));
+        List<PortfolioSiteRequest> sites = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sites.add(site("site-" + i, 52.23, 2.5, null));
+        }
+
+        SiteRankingResponse response = createService().rankSites(new SiteRankingRequest(sites, null)).block();
+
+        Assertions.assertThat(response.sites()).hasSize(SiteRankingService.DEFAULT_LIMIT);
+        Assertions.assertThat(response.sites()).extracting(RankedSiteDto::index)
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void shouldResolveDistinctGridCellsInBatchChunks() {
+        apiConfig.setBatchChunkSize(100);
+        when(openMeteoService.getWeatherForecastsReactive(anyList())).thenAnswer(invocation -> {
+            List<LocationRequest> locations = invocation.getArgument(0);
+            return Mono.just(locations.stream().map(location -> forecast(location.latitude() - 40.0)).toList());
+        });
+        List<PortfolioSiteRequest> sites = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            sites.add(site("site-" + i, 40.0 + i * 0.05, 2.5, null));
+            sites.add(site("twin-" + i, 40.0 + i * 0.05, 5.0, null));
+        }
+
+        SiteRankingResponse response = createService().rankSites(new SiteRankingRequest(sites, 3)).block();
+
+        ArgumentCaptor<List<LocationRequest>> chunks = ArgumentCaptor.captor();
+        verify(openMeteoService, times(3)).getWeatherForecastsReactive(chunks.capture());
+        Assertions.assertThat(chunks.getAllValues()).extracting(List::size).containsExactlyInAnyOrder(100, 100, 50);
+        Assertions.assertThat(response.sites()).extracting(RankedSiteDto::id)
+                .containsExactly("twin-249", "twin-248", "twin-247");
+        Assertions.assertThat(response.evaluated()).isEqualTo(500);
+    }
+
+    @Test
+    void shouldLeaveSitesOfFailedChunkOutOfRanking() {
+        apiConfig.setBatchChunkSize(1);
+        answerForecasts(Map.of(
+                52.23, Mono.error(new WeatherApiException("Failed to fetch weather data: 503")),
+                50.06, Mono.just(forecast(10.0))));
+
+        SiteRankingResponse response = createService().rankSites(new SiteRankingRequest(List.of(
+                site("warsaw", 52.23, 10.0, null),
+                site("krakow", 50.06, 2.5, null)), 5)).block();
+
+        Assertions.assertThat(response.sites()).extracting(RankedSiteDto::id).containsExactly("krakow");
+        Assertions.assertThat(response.failed()).isEqualTo(1);
+        Assertions.assertThat(response.evaluated()).isEqualTo(1);
+        Assertions.assertThat(response.partial()).isFalse();
+    }
+
+    @Test
+    void shouldReturnPartialRankingAtDeadline() {
+        apiConfig.setBatchChunkSize(1);
+        portfolioConfig.setRankingDeadline(Duration.ofMillis(200));
+        answerForecasts(Map.of(52.23, Mono.never(), 50.06, Mono.just(forecast(10.0))));
+
+        SiteRankingResponse response = createService().rankSites(new SiteRankingRequest(List.of(
+                site("warsaw", 52.23, 10.0, null),
+                site("krakow", 50.06, 2.5, null)), 5)).block(Duration.ofSeconds(5));
+
+        Assertions.assertThat(response.sites()).extracting(RankedSiteDto::id).containsExactly("krakow");
+        Assertions.assertThat(response.evaluated()).isEqualTo(1);
+        Assertions.assertThat(response.total()).isEqualTo(2);
+        Assertions.assertThat(response.partial()).isTrue();
+    }
+
+    private SiteRankingService createService() {
+        return new SiteRankingService(openMeteoService, new SolarEnergyService(),
+                new ForecastKeyFactory(apiConfig, new CacheConfig()), apiConfig, portfolioConfig);
+    }
+
+    // Answers every chunk from the per-latitude forecasts; a chunk fails or hangs if any of its cells does.
+    private void answerForecasts(Map<Double, Mono<DailyForecastColumns>> byLatitude) {
+        when(openMeteoService.getWeatherForecastsReactive(anyList())).thenAnswer(invocation -> {
+            List<LocationRequest> locations = invocation.getArgument(0);
+            return Flux.fromIterable(locations)
+                    .concatMap(location -> byLatitude.get(location.latitude()))
+                    .collectList();
+        });
+    }
+
+    private static PortfolioSiteRequest site(String id, double latitude, double peakPowerKw, Double orientationDerating) {
+        return new PortfolioSiteRequest(id, null, latitude, 21.01, peakPowerKw, 0.2, orientationDerating);
+    }
+
+    private static DailyForecastColumns forecast(double... sunshineHours) {
+        int days = sunshineHours.length;
+        int[] epochDays = new int[days];
+        for (int day = 0; day < days; day++) {
+            epochDays[day] = JUNE_17 + day;
+        }
+        double[] zeros = new double[days];
+        return new DailyForecastColumns(epochDays, new int[days], zeros, zeros, sunshineHours, zeros);
+    }
+}
@@ -0,0 +1,161 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.config.SolarConfig;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.EnergyBatch;
+import com.weatherapp.weather_forecast_api.model.SolarInstallation;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class SolarEnergyBatchServiceTest {
+
+    private final SolarEnergyBatchService vectorService = new SolarEnergyBatchService(new SolarConfig());
+    private final SolarEnergyBatchService scalarService = new SolarEnergyBatchService(scalarConfig());
+
+    @Test
+    void shouldUseVectorApiWhenModuleIsAvailable() {
+        Assertions.assertThat(vectorService.isVectorized()).isTrue();
+        Assertions.assertThat(scalarService.isVectorized()).isFalse();
+    }
+
+    @Test
+    void shouldCalculateEnergyPerInstallationAndDay() {
+        DailyForecastColumns week = forecast(8.0, 0.0, -1.0, 12.5);
+        List<SolarInstallation> installations = List.of(
+                SolarInstallation.REFERENCE,
+                new SolarInstallation(10.0, 0.2, 0.5));
+
+        EnergyBatch energy = vectorService.calculate(installations, List.of(week, forecast(4.0)));
+
+        Assertions.assertThat(energy.installations()).isEqualTo(2);
+        Assertions.assertThat(energy.days(0)).isEqualTo(4);
+        Assertions.assertThat(energy.days(1)).isEqualTo(1);
+        Assertions.assertThat(energy.energy(0, 0)).isEqualTo(4.0);
+        Assertions.assertThat(energy.energy(0, 2)).isZero();
+        Assertions.assertThat(energy.energy(1, 0)).isEqualTo(4.0);
+        Assertions.assertThat(energy.totalEnergy(0)).isEqualTo(10.25);
+    }
+
+    @Test
+    void shouldMatchSolarEnergyServiceAfterRounding() {
+        SolarEnergyService solarEnergyService = new SolarEnergyService();
+        DailyForecastColumns forecast = forecast(10.333, 8.76, 0.01, 14.2);
+        SolarInstallation installation = new SolarInstallation(7.5, 0.21, 0.9);
+
+        EnergyBatch energy = vectorService.calculate(List.of(installation), List.of(forecast));
+
+        for (int day = 0; day < forecast.size(); day++) {
+            Assertions.assertThat(Math.round(energy.energy(0, day) * 100.0) / 100.0)
+                    .isEqualTo(solarEnergyService.calculateEnergyProduction(forecast.sunshineHours(day), installation));
+        }
+    }
+
+    @Test
+    void shouldMatchSolarEnergyServiceExactlyForLargeFleets() {
+        Random random = new Random(7);
+        List<SolarInstallation> installations = new ArrayList<>();
+        List<DailyForecastColumns> forecasts = new ArrayList<>();
+        for (int i = 0; i < 1_500; i++) {
+            installations.add(new SolarInstallation(random.nextDouble(0.5, 250.0), random.nextDouble(0.1, 0.25),
+                    random.nextDouble(0.5, 1.0)));
+            forecasts.add(i % 100 == 0 ? forecast() : forecast(random.doubles(7, -2.0, 16.0).toArray()));
+        }
+
+        EnergyBatch vectorEnergy = vectorService.calculate(installations, forecasts);
+        EnergyBatch scalarEnergy = scalarService.calculate(installations, forecasts);
+
+        for (int i = 0; i < installations.size(); i++) {
+            Assertions.assertThat(vectorEnergy.days(i)).isEqualTo(forecasts.get(i).size());
+            for (int day = 0; day < forecasts.get(i).size(); day++) {
+                double expected = SolarEnergyService.unroundedEnergyProduction(
+                        forecasts.get(i).sunshineHours(day), installations.get(i));
+                Assertions.assertThat(vectorEnergy.energy(i, day)).isEqualTo(expected);
+                Assertions.assertThat(scalarEnergy.energy(i, day)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void shouldGiveIdenticalResultsWithVectorKernelScalarKernelAndSolarEnergyService() {
+        Random random = new Random(42);
+        int length = 10_007;
+        double[] sunshineHours = new double[length];
+        double[] peakPowerKw = new double[length];
+        double[] efficiency = new double[length];
+        double[] orientationDerating = new double[length];
+        double[] expected = new double[length];
+        for (int i = 0; i < length; i++) {
+            sunshineHours[i] = random.nextDouble(-2.0, 16.0);
+            peakPowerKw[i] = random.nextDouble(0.5, 250.0);
+            efficiency[i] = random.nextDouble(0.1, 0.25);
+            orientationDerating[i] = random.nextDouble(0.5, 1.0);
+            expected[i] = SolarEnergyService.unroundedEnergyProduction(sunshineHours[i],
+                    new SolarInstallation(peakPowerKw[i], efficiency[i], orientationDerating[i]));
+        }
+
+        double[] vectorEnergy = new double[length];
+        double[] scalarEnergy = new double[length];
+        vectorService.calculate(sunshineHours, peakPowerKw, efficiency, orientationDerating, vectorEnergy);
+        scalarService.calculate(sunshineHours, peakPowerKw, efficiency, orientationDerating, scalarEnergy);
+
+        Assertions.assertThat(vectorEnergy).containsExactly(expected);
+        Assertions.assertThat(scalarEnergy).containsExactly(expected);
+    }
+
+    @Test
+    void shouldMatchSolarEnergyServiceWithScalarFallbackIncludingEdgeValues() {
+        double[] sunshineHours = {-0.0, 0.0, -1.5, Double.MIN_VALUE, 0.1, 7.3, 13.999, Double.NaN, 24.0};
+        int length = sunshineHours.length;
+        double[] peakPowerKw = new double[length];
+        double[] efficiency = new double[length];
+        double[] orientationDerating = new double[length];
+        double[] expected = new double[length];
+        for (int i = 0; i < length; i++) {
+            peakPowerKw[i] = 3.3 + i;
+            efficiency[i] = 0.17;
+            orientationDerating[i] = 0.85;
+            expected[i] = SolarEnergyService.unroundedEnergyProduction(sunshineHours[i],
+                    new SolarInstallation(peakPowerKw[i], efficiency[i], orientationDerating[i]));
+        }
+
+        double[] scalarEnergy = new double[length];
+        double[] vectorEnergy = new double[length];
+        new ScalarEnergyKernel().calculate(sunshineHours, peakPowerKw, efficiency, orientationDerating, scalarEnergy,
+                length);
+        new VectorEnergyKernel().calculate(sunshineHours, peakPowerKw, efficiency, orientationDerating, vectorEnergy,
+                length);
+
+        Assertions.assertThat(scalarService.isVectorized()).isFalse();
+        Assertions.assertThat(scalarEnergy).containsExactly(expected);
+        Assertions.assertThat(vectorEnergy).containsExactly(expected);
+        Assertions.assertThat(Double.doubleToRawLongBits(scalarEnergy[0])).isEqualTo(Double.doubleToRawLongBits(0.0));
+    }
+
+    @Test
+    void shouldRejectMismatchedInputs() {
+        Assertions.assertThatThrownBy(() -> vectorService.calculate(List.of(SolarInstallation.REFERENCE), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> vectorService.calculate(new double[3], new double[3], new double[3], new double[3], new double[2]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SolarConfig scalarConfig() {
+        SolarConfig solarConfig = new SolarConfig();
+        solarConfig.setVectorApi(false);
+        return solarConfig;
+    }
+
+    private static DailyForecastColumns forecast(double... sunshineHours) {
+        int days = sunshineHours.length;
+        int[] epochDays = new int[days];
+        for (int day = 0; day < days; day++) {
+            epochDays[day] = 20_256 + day;
+        }
+        return new DailyForecastColumns(epochDays, new int[days], new double[days], new double[days],
+                sunshineHours, new double[days]);
+    }
+}
@@ -1,5 +1,6 @@
 package com.weatherapp.weather_forecast_api.service;
 
+import com.weatherapp.weather_forecast_api.model.SolarInstallation;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -57,4 +58,13 @@ class SolarEnergyServiceTest {
 
         Assertions.assertThat(result).isEqualTo(5.17);
     }
+
+    @Test
+    void shouldApplyInstallationParameters() {
+        SolarInstallation installation = new SolarInstallation(10.0, 0.18, 0.85);
+
+        double result = solarEnergyService.calculateEnergyProduction(8.0, installation);
+
+        Assertions.assertThat(result).isEqualTo(12.24);
+    }
 }
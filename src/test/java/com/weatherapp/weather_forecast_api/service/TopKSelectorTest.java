@@ -0,0 +1,49 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+class TopKSelectorTest {
+
+    @Test
+    void shouldKeepGreatestElementsGreatestFirst() {
+        TopKSelector<Integer> selector = new TopKSelector<>(3, Comparator.naturalOrder());
+
+        List.of(5, 1, 9, 3, 7, 2, 8).forEach(selector::offer);
+
+        Assertions.assertThat(selector.size()).isEqualTo(3);
+        Assertions.assertThat(selector.toSortedList()).containsExactly(9, 8, 7);
+    }
+
+    @Test
+    void shouldReturnAllElementsWhenFewerThanK() {
+        TopKSelector<Integer> selector = new TopKSelector<>(10, Comparator.naturalOrder());
+
+        List.of(4, 6).forEach(selector::offer);
+
+        Assertions.assertThat(selector.toSortedList()).containsExactly(6, 4);
+    }
+
+    @Test
+    void shouldMatchFullSortOnRandomInput() {
+        Random random = new Random(11);
+        List<Integer> values = IntStream.range(0, 10_000).map(i -> random.nextInt(1_000_000)).boxed().toList();
+        TopKSelector<Integer> selector = new TopKSelector<>(25, Comparator.naturalOrder());
+
+        values.forEach(selector::offer);
+
+        Assertions.assertThat(selector.toSortedList())
+                .isEqualTo(values.stream().sorted(Comparator.reverseOrder()).limit(25).toList());
+    }
+
+    @Test
+    void shouldRejectNonPositiveK() {
+        Assertions.assertThatThrownBy(() -> new TopKSelector<Integer>(0, Comparator.naturalOrder()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
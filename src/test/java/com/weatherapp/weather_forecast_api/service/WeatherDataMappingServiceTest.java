@@ -1,8 +1,10 @@
 package com.weatherapp.weather_forecast_api.service;
 
 import com.weatherapp.weather_forecast_api.exception.DataProcessingException;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
 import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
 import com.weatherapp.weather_forecast_api.model.OpenMeteo;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -83,6 +85,54 @@ class WeatherDataMappingServiceTest {
         Assertions.assertThat(day.getSunshineDuration()).isEqualTo(1.0);
     }
 
+    @Test
+    void shouldMapEveryLocationOfBatchResponse() {
+        List<DailyForecastColumns> result = weatherDataMappingService.mapAllToColumns(List.of(
+                decodedForecast(createValidOpenMeteoResponse()),
+                decodedForecast(createResponseWithExactSunshineValues())));
+
+        Assertions.assertThat(result).hasSize(2);
+        Assertions.assertThat(result.get(0).size()).isEqualTo(2);
+        Assertions.assertThat(result.get(1).size()).isEqualTo(1);
+        Assertions.assertThat(result.get(1).sunshineHours(0)).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldMapToColumnsSkippingInvalidDays() {
+        DailyForecastColumns result = weatherDataMappingService.mapToColumns(createOpenMeteoResponseWithInvalidData());
+
+        Assertions.assertThat(result.size()).isEqualTo(1);
+        Assertions.assertThat(result.date(0)).isEqualTo(LocalDate.of(2025, 6, 18));
+        Assertions.assertThat(result.epochDay(0)).isEqualTo((int) LocalDate.of(2025, 6, 18).toEpochDay());
+    }
+
+    @Test
+    void shouldMapToColumnsMatchingBoxedModel() {
+        OpenMeteo response = createValidOpenMeteoResponse();
+
+        DailyForecastColumns result = weatherDataMappingService.mapToColumns(response);
+
+        Assertions.assertThat(result.toDailyWeatherData()).isEqualTo(weatherDataMappingService.mapToWeatherData(response));
+        Assertions.assertThat(result.weatherCode(1)).isEqualTo(51);
+        Assertions.assertThat(result.pressure(1)).isEqualTo(1005.6);
+    }
+
+    @Test
+    void shouldThrowDataProcessingExceptionWhenDecodedForecastHasNoValidDays() {
+        OpenMeteoForecast response = new OpenMeteoForecast(52.23, 21.01, 0.42, 2,
+                DailyForecastColumns.fromDailyWeatherData(List.of()));
+
+        Assertions.assertThatThrownBy(() -> weatherDataMappingService.mapToColumns(response))
+                .isInstanceOf(DataProcessingException.class)
+                .hasMessageContaining("No valid weather data could be processed");
+    }
+
+    private OpenMeteoForecast decodedForecast(OpenMeteo response) {
+        DailyForecastColumns columns = weatherDataMappingService.mapToColumns(response);
+        return new OpenMeteoForecast(response.getLatitude(), response.getLongitude(), response.getGenerationtimeMs(),
+                columns.size(), columns);
+    }
+
     private OpenMeteo createValidOpenMeteoResponse() {
         OpenMeteo response = new OpenMeteo();
         OpenMeteo.Daily daily = new OpenMeteo.Daily();
@@ -1,8 +1,13 @@
 package com.weatherapp.weather_forecast_api.service;
 
 import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
+import com.weatherapp.weather_forecast_api.dto.HourlyForecastDto;
 import com.weatherapp.weather_forecast_api.dto.WeatherSummaryResponse;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
 import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
+import com.weatherapp.weather_forecast_api.model.HourlyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.HourlyResolution;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +16,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
@@ -63,11 +70,8 @@ class WeatherMappingServiceTest {
                 new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
         );
 
-        when(weatherSummaryService.calculateAveragePressure(weatherData)).thenReturn(1008.0);
-        when(weatherSummaryService.calculateAverageSunshineHours(weatherData)).thenReturn(8.76);
-        when(weatherSummaryService.findMinTemperature(weatherData)).thenReturn(14.3);
-        when(weatherSummaryService.findMaxTemperature(weatherData)).thenReturn(22.8);
-        when(weatherSummaryService.generateWeekSummary(weatherData)).thenReturn("bez opadów");
+        when(weatherSummaryService.summarize(weatherData))
+                .thenReturn(new WeatherSummaryResponse(1008.0, 8.76, 14.3, 22.8, "bez opadów"));
 
         WeatherSummaryResponse result = weatherMappingService.mapToSummaryResponse(weatherData, weatherSummaryService);
 
@@ -77,11 +81,7 @@ class WeatherMappingServiceTest {
         Assertions.assertThat(result.maxTemperature()).isEqualTo(22.8);
         Assertions.assertThat(result.weekSummary()).isEqualTo("bez opadów");
 
-        verify(weatherSummaryService).calculateAveragePressure(weatherData);
-        verify(weatherSummaryService).calculateAverageSunshineHours(weatherData);
-        verify(weatherSummaryService).findMinTemperature(weatherData);
-        verify(weatherSummaryService).findMaxTemperature(weatherData);
-        verify(weatherSummaryService).generateWeekSummary(weatherData);
+        verify(weatherSummaryService).summarize(weatherData);
     }
 
     @Test
@@ -93,4 +93,138 @@ class WeatherMappingServiceTest {
         Assertions.assertThat(result).isEmpty();
         verifyNoInteractions(solarEnergyService);
     }
+
+    @Test
+    void shouldMapToReportInSinglePass() {
+        List<DailyWeatherData> weatherData = List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0),
+                new DailyWeatherData(LocalDate.of(2025, 6, 18), 51, 16.7, 25.8, 10.63, 1005.6)
+        );
+        WeatherSummaryService summaryService = new WeatherSummaryService();
+
+        when(solarEnergyService.calculateEnergyProduction(8.76)).thenReturn(4.38);
+        when(solarEnergyService.calculateEnergyProduction(10.63)).thenReturn(5.32);
+
+        WeatherReport result = weatherMappingService.mapToReport(weatherData, summaryService);
+
+        Assertions.assertThat(result.forecast()).isEqualTo(weatherMappingService.mapToForecastDtos(weatherData));
+        Assertions.assertThat(result.summary())
+                .isEqualTo(weatherMappingService.mapToSummaryResponse(weatherData, summaryService));
+        Assertions.assertThat(result.summary().averagePressure()).isEqualTo(1006.8);
+        Assertions.assertThat(result.summary().minTemperature()).isEqualTo(14.3);
+        Assertions.assertThat(result.summary().maxTemperature()).isEqualTo(25.8);
+        Assertions.assertThat(result.stale()).isFalse();
+    }
+
+    @Test
+    void shouldPassMissingFieldsThroughAsNull() {
+        List<DailyWeatherData> weatherData = List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), null, 14.3, null, null, 1008.0),
+                new DailyWeatherData(LocalDate.of(2025, 6, 18), 51, 16.7, 25.8, 10.63, null)
+        );
+
+        when(solarEnergyService.calculateEnergyProduction(10.63)).thenReturn(5.32);
+
+        WeatherReport result = weatherMappingService.mapToReport(weatherData, new WeatherSummaryService());
+
+        Assertions.assertThat(result.forecast().get(0))
+                .isEqualTo(new DailyForecastDto(LocalDate.of(2025, 6, 17), null, 14.3, null, null, 1008.0));
+        Assertions.assertThat(result.forecast().get(1).energyGenerated()).isEqualTo(5.32);
+        Assertions.assertThat(result.forecast().get(1).pressure()).isNull();
+        Assertions.assertThat(result.summary().averagePressure()).isEqualTo(1008.0);
+        Assertions.assertThat(result.summary().averageSunshineHours()).isEqualTo(10.63);
+        Assertions.assertThat(result.summary().maxTemperature()).isEqualTo(25.8);
+    }
+
+    @Test
+    void shouldRejectMissingFieldsWhenPackingColumns() {
+        List<DailyWeatherData> weatherData = List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, null, 1008.0));
+
+        Assertions.assertThatThrownBy(() -> DailyForecastColumns.fromDailyWeatherData(weatherData))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Day 0 has missing fields");
+    }
+
+    @Test
+    void shouldCarryStaleFlagIntoReport() {
+        DailyForecastColumns weatherData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        )).asStale();
+
+        WeatherReport result = weatherMappingService.mapToReport(weatherData, new WeatherSummaryService());
+
+        Assertions.assertThat(result.stale()).isTrue();
+        Assertions.assertThat(result.forecast()).hasSize(1);
+    }
+
+    @Test
+    void shouldMapEmptyWeatherDataToZeroReport() {
+        WeatherReport result = weatherMappingService.mapToReport(List.of(), new WeatherSummaryService());
+
+        Assertions.assertThat(result.forecast()).isEmpty();
+        Assertions.assertThat(result.summary())
+                .isEqualTo(new WeatherSummaryResponse(0.0, 0.0, 0.0, 0.0, "bez opadów"));
+    }
+
+    @Test
+    void shouldMapEveryHourAtHourlyResolution() {
+        when(solarEnergyService.calculateEnergyProduction(anyDouble())).thenReturn(0.5);
+
+        List<HourlyForecastDto> result = weatherMappingService.mapToHourlyForecastDtos(
+                hourlyColumns(LocalDateTime.of(2025, 6, 17, 10, 0), 2), HourlyResolution.HOURLY);
+
+        Assertions.assertThat(result).containsExactly(
+                new HourlyForecastDto(LocalDateTime.of(2025, 6, 17, 10, 0), 1, 20.1, 20.1, 20.1, 0.5, 400.0, 0.5),
+                new HourlyForecastDto(LocalDateTime.of(2025, 6, 17, 11, 0), 1, 21.2, 21.2, 21.2, 0.5, 410.0, 0.5));
+    }
+
+    @Test
+    void shouldDownsampleToIntervalsAlignedToMidnight() {
+        when(solarEnergyService.calculateEnergyProduction(anyDouble())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<HourlyForecastDto> result = weatherMappingService.mapToHourlyForecastDtos(
+                hourlyColumns(LocalDateTime.of(2025, 6, 17, 4, 0), 8), HourlyResolution.THREE_HOURLY);
+
+        Assertions.assertThat(result).extracting(HourlyForecastDto::time).containsExactly(
+                LocalDateTime.of(2025, 6, 17, 3, 0),
+                LocalDateTime.of(2025, 6, 17, 6, 0),
+                LocalDateTime.of(2025, 6, 17, 9, 0));
+        Assertions.assertThat(result).extracting(HourlyForecastDto::hours).containsExactly(2, 3, 3);
+        Assertions.assertThat(result.get(1).temperature()).isEqualTo(23.4);
+        Assertions.assertThat(result.get(1).minTemperature()).isEqualTo(22.3);
+        Assertions.assertThat(result.get(1).maxTemperature()).isEqualTo(24.5);
+        Assertions.assertThat(result.get(1).sunshineHours()).isEqualTo(1.5);
+        Assertions.assertThat(result.get(1).radiation()).isEqualTo(430.0);
+        Assertions.assertThat(result.get(1).energyGenerated()).isEqualTo(1.5);
+    }
+
+    @Test
+    void shouldDownsampleToDailyIntervals() {
+        when(solarEnergyService.calculateEnergyProduction(anyDouble())).thenReturn(1.0);
+
+        List<HourlyForecastDto> result = weatherMappingService.mapToHourlyForecastDtos(
+                hourlyColumns(LocalDateTime.of(2025, 6, 17, 0, 0), 168), HourlyResolution.DAILY);
+
+        Assertions.assertThat(result).hasSize(7);
+        Assertions.assertThat(result).extracting(HourlyForecastDto::hours).containsOnly(24);
+        Assertions.assertThat(result.get(6).time()).isEqualTo(LocalDateTime.of(2025, 6, 23, 0, 0));
+        Assertions.assertThat(result.get(0).sunshineHours()).isEqualTo(12.0);
+    }
+
+    // Temperature rises by 1.1 °C and radiation by 10 W/m² every hour; each hour has 30 minutes of sunshine.
+    private static HourlyForecastColumns hourlyColumns(LocalDateTime start, int hours) {
+        int firstHour = (int) (start.toEpochSecond(ZoneOffset.UTC) / 3600);
+        int[] epochHours = new int[hours];
+        float[] temperatures = new float[hours];
+        float[] sunshine = new float[hours];
+        float[] radiation = new float[hours];
+        for (int hour = 0; hour < hours; hour++) {
+            epochHours[hour] = firstHour + hour;
+            temperatures[hour] = 20.1f + 1.1f * hour;
+            sunshine[hour] = 1800.0f;
+            radiation[hour] = 400.0f + 10.0f * hour;
+        }
+        return new HourlyForecastColumns(epochHours, temperatures, sunshine, radiation);
+    }
 }
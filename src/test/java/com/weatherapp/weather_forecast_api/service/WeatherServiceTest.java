@@ -1,21 +1,33 @@
 package com.weatherapp.weather_forecast_api.service;
 
+import com.weatherapp.weather_forecast_api.cache.WeatherReportCache;
+import com.weatherapp.weather_forecast_api.config.CacheConfig;
+import com.weatherapp.weather_forecast_api.dto.BatchForecastRequest;
+import com.weatherapp.weather_forecast_api.dto.BatchForecastResponse;
 import com.weatherapp.weather_forecast_api.dto.DailyForecastDto;
 import com.weatherapp.weather_forecast_api.dto.LocationRequest;
 import com.weatherapp.weather_forecast_api.dto.WeatherForecastResponse;
+import com.weatherapp.weather_forecast_api.dto.WeatherReportResponse;
 import com.weatherapp.weather_forecast_api.dto.WeatherSummaryResponse;
 import com.weatherapp.weather_forecast_api.exception.ValidationException;
+import com.weatherapp.weather_forecast_api.metrics.PipelineMetrics;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
 import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
+import com.weatherapp.weather_forecast_api.model.WeatherReport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,7 +49,9 @@ class WeatherServiceTest {
         weatherService = new WeatherService(
                 openMeteoService,
                 weatherSummaryService,
-                weatherMappingService
+                weatherMappingService,
+                new WeatherReportCache(new CacheConfig()),
+                new PipelineMetrics(new SimpleMeterRegistry())
         );
     }
 
@@ -45,16 +59,17 @@ class WeatherServiceTest {
     void shouldGetWeatherForecast() {
         LocationRequest locationRequest = new LocationRequest(52.2297, 21.0122);
 
-        List<DailyWeatherData> weatherData = List.of(
+        DailyForecastColumns weatherData = DailyForecastColumns.fromDailyWeatherData(List.of(
                 new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
-        );
+        ));
 
         List<DailyForecastDto> forecastDtos = List.of(
                 new DailyForecastDto(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 2.19, 1008.0)
         );
 
         when(openMeteoService.getWeatherForecast(52.2297, 21.0122)).thenReturn(weatherData);
-        when(weatherMappingService.mapToForecastDtos(weatherData)).thenReturn(forecastDtos);
+        when(weatherMappingService.mapToReport(weatherData, weatherSummaryService))
+                .thenReturn(new WeatherReport(forecastDtos, null));
 
         WeatherForecastResponse result = weatherService.getWeatherForecast(locationRequest);
 
@@ -64,25 +79,25 @@ class WeatherServiceTest {
         Assertions.assertThat(result.forecast().get(0).weatherCode()).isEqualTo(3);
 
         verify(openMeteoService).getWeatherForecast(52.2297, 21.0122);
-        verify(weatherMappingService).mapToForecastDtos(weatherData);
+        verify(weatherMappingService).mapToReport(weatherData, weatherSummaryService);
     }
 
     @Test
     void shouldGetWeatherSummary() {
         LocationRequest locationRequest = new LocationRequest(52.2297, 21.0122);
 
-        List<DailyWeatherData> weatherData = List.of(
+        DailyForecastColumns weatherData = DailyForecastColumns.fromDailyWeatherData(List.of(
                 new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0),
                 new DailyWeatherData(LocalDate.of(2025, 6, 18), 51, 16.7, 25.8, 10.63, 1005.6)
-        );
+        ));
 
         WeatherSummaryResponse expectedResponse = new WeatherSummaryResponse(
                 1006.8, 9.7, 14.3, 25.8, "bez opadów"
         );
 
         when(openMeteoService.getWeatherForecast(52.2297, 21.0122)).thenReturn(weatherData);
-        when(weatherMappingService.mapToSummaryResponse(weatherData, weatherSummaryService))
-                .thenReturn(expectedResponse);
+        when(weatherMappingService.mapToReport(weatherData, weatherSummaryService))
+                .thenReturn(new WeatherReport(List.of(), expectedResponse));
 
         WeatherSummaryResponse result = weatherService.getWeatherSummary(locationRequest);
 
@@ -94,7 +109,7 @@ class WeatherServiceTest {
         Assertions.assertThat(result.weekSummary()).isEqualTo("bez opadów");
 
         verify(openMeteoService).getWeatherForecast(52.2297, 21.0122);
-        verify(weatherMappingService).mapToSummaryResponse(weatherData, weatherSummaryService);
+        verify(weatherMappingService).mapToReport(weatherData, weatherSummaryService);
     }
 
     @Test
@@ -129,4 +144,104 @@ class WeatherServiceTest {
 
         verifyNoInteractions(openMeteoService, weatherMappingService);
     }
+
+    @Test
+    void shouldGetWeatherForecastReactively() {
+        LocationRequest locationRequest = new LocationRequest(52.2297, 21.0122);
+
+        DailyForecastColumns weatherData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+
+        List<DailyForecastDto> forecastDtos = List.of(
+                new DailyForecastDto(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 2.19, 1008.0)
+        );
+
+        when(openMeteoService.getWeatherForecastReactive(52.2297, 21.0122)).thenReturn(Mono.just(weatherData));
+        when(weatherMappingService.mapToReport(weatherData, weatherSummaryService))
+                .thenReturn(new WeatherReport(forecastDtos, null));
+
+        StepVerifier.create(weatherService.getWeatherForecastReactive(locationRequest))
+                .assertNext(result -> Assertions.assertThat(result.forecast()).isEqualTo(forecastDtos))
+                .verifyComplete();
+
+        verify(openMeteoService, never()).getWeatherForecast(anyDouble(), anyDouble());
+    }
+
+    @Test
+    void shouldSignalValidationExceptionReactivelyWhenLatitudeIsNull() {
+        LocationRequest locationRequest = new LocationRequest(null, 21.0122);
+
+        StepVerifier.create(weatherService.getWeatherSummaryReactive(locationRequest))
+                .expectError(ValidationException.class)
+                .verify();
+
+        verifyNoInteractions(openMeteoService, weatherMappingService);
+    }
+
+    @Test
+    void shouldGetBatchForecastAndMapEachGridCellOnce() {
+        List<LocationRequest> locations = List.of(
+                new LocationRequest(52.2297, 21.0122),
+                new LocationRequest(52.2301, 21.0098)
+        );
+        DailyForecastColumns weatherData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+        List<DailyForecastDto> forecastDtos = List.of(
+                new DailyForecastDto(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 2.19, 1008.0)
+        );
+
+        when(openMeteoService.getWeatherForecasts(locations)).thenReturn(List.of(weatherData, weatherData));
+        when(weatherMappingService.mapToReport(weatherData, weatherSummaryService))
+                .thenReturn(new WeatherReport(forecastDtos, null));
+
+        BatchForecastResponse result = weatherService.getBatchForecast(new BatchForecastRequest(locations));
+
+        Assertions.assertThat(result.forecasts()).hasSize(2);
+        Assertions.assertThat(result.forecasts().get(1).latitude()).isEqualTo(52.2301);
+        Assertions.assertThat(result.forecasts().get(1).forecast()).isEqualTo(forecastDtos);
+        verify(weatherMappingService, times(1)).mapToReport(weatherData, weatherSummaryService);
+    }
+
+    @Test
+    void shouldGetForecastWithSummary() {
+        LocationRequest locationRequest = new LocationRequest(52.2297, 21.0122);
+        DailyForecastColumns weatherData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+        List<DailyForecastDto> forecastDtos = List.of(
+                new DailyForecastDto(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 4.38, 1008.0)
+        );
+        WeatherSummaryResponse summary = new WeatherSummaryResponse(1008.0, 8.76, 14.3, 22.8, "bez opadów");
+
+        when(openMeteoService.getWeatherForecast(52.2297, 21.0122)).thenReturn(weatherData);
+        when(weatherMappingService.mapToReport(weatherData, weatherSummaryService))
+                .thenReturn(new WeatherReport(forecastDtos, summary));
+
+        WeatherReportResponse result = weatherService.getForecastWithSummary(locationRequest);
+
+        Assertions.assertThat(result.forecast()).isEqualTo(forecastDtos);
+        Assertions.assertThat(result.summary()).isEqualTo(summary);
+        verify(openMeteoService, times(1)).getWeatherForecast(52.2297, 21.0122);
+    }
+
+    @Test
+    void shouldReuseReportForForecastAndSummaryOfSameCachedData() {
+        LocationRequest locationRequest = new LocationRequest(52.2297, 21.0122);
+        DailyForecastColumns weatherData = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)
+        ));
+        WeatherSummaryResponse summary = new WeatherSummaryResponse(1008.0, 8.76, 14.3, 22.8, "bez opadów");
+
+        when(openMeteoService.getWeatherForecast(52.2297, 21.0122)).thenReturn(weatherData);
+        when(weatherMappingService.mapToReport(weatherData, weatherSummaryService))
+                .thenReturn(new WeatherReport(List.of(), summary));
+
+        weatherService.getWeatherForecast(locationRequest);
+        WeatherSummaryResponse result = weatherService.getWeatherSummary(locationRequest);
+
+        Assertions.assertThat(result).isEqualTo(summary);
+        verify(weatherMappingService, times(1)).mapToReport(weatherData, weatherSummaryService);
+    }
 }
@@ -0,0 +1,82 @@
+package com.weatherapp.weather_forecast_api.service;
+
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+class WeatherSummaryAccumulatorTest {
+
+    private final WeatherSummaryService weatherSummaryService = new WeatherSummaryService();
+
+    @Test
+    void shouldMergeChunksIntoSameResultAsSinglePass() {
+        DailyForecastColumns weatherData = DailyForecastColumns.fromDailyWeatherData(longRange(365));
+
+        WeatherSummaryAccumulator whole = new WeatherSummaryAccumulator().addAll(weatherData);
+        WeatherSummaryAccumulator merged = new WeatherSummaryAccumulator();
+        for (int from = 0; from < weatherData.size(); from += 30) {
+            merged.merge(new WeatherSummaryAccumulator()
+                    .addRange(weatherData, from, Math.min(from + 30, weatherData.size())));
+        }
+
+        Assertions.assertThat(merged.days()).isEqualTo(365);
+        Assertions.assertThat(merged.rainyDays()).isEqualTo(whole.rainyDays());
+        Assertions.assertThat(merged.minTemperature()).isEqualTo(whole.minTemperature());
+        Assertions.assertThat(merged.maxTemperature()).isEqualTo(whole.maxTemperature());
+        Assertions.assertThat(weatherSummaryService.summarize(merged)).isEqualTo(weatherSummaryService.summarize(whole));
+    }
+
+    @Test
+    void shouldCollectParallelStreamLikeSequentialLoop() {
+        List<DailyWeatherData> weatherData = longRange(10_000);
+
+        WeatherSummaryAccumulator parallel = weatherData.parallelStream()
+                .collect(WeatherSummaryAccumulator.collector());
+
+        Assertions.assertThat(weatherSummaryService.summarize(parallel))
+                .isEqualTo(weatherSummaryService.summarize(weatherData));
+    }
+
+    @Test
+    void shouldMergeLocationsWithEmptyAccumulator() {
+        DailyForecastColumns warsaw = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)));
+        DailyForecastColumns krakow = DailyForecastColumns.fromDailyWeatherData(List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 61, 12.0, 26.1, 4.0, 1004.0)));
+
+        WeatherSummaryAccumulator merged = new WeatherSummaryAccumulator()
+                .merge(new WeatherSummaryAccumulator().addAll(warsaw))
+                .merge(new WeatherSummaryAccumulator())
+                .merge(new WeatherSummaryAccumulator().addAll(krakow));
+
+        Assertions.assertThat(merged.days()).isEqualTo(2);
+        Assertions.assertThat(merged.averagePressure()).isEqualTo(1006.0);
+        Assertions.assertThat(merged.minTemperature()).isEqualTo(12.0);
+        Assertions.assertThat(merged.maxTemperature()).isEqualTo(26.1);
+        Assertions.assertThat(merged.rainyDays()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportZerosWhenEmpty() {
+        WeatherSummaryAccumulator empty = new WeatherSummaryAccumulator();
+
+        Assertions.assertThat(empty.averagePressure()).isZero();
+        Assertions.assertThat(empty.averageSunshineHours()).isZero();
+        Assertions.assertThat(empty.minTemperature()).isZero();
+        Assertions.assertThat(empty.maxTemperature()).isZero();
+    }
+
+    private List<DailyWeatherData> longRange(int days) {
+        List<DailyWeatherData> weatherData = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            weatherData.add(new DailyWeatherData(LocalDate.of(2025, 1, 1).plusDays(day), (day * 7) % 100,
+                    -5.0 + (day % 40) * 0.7, 3.0 + (day % 50) * 0.6, (day % 14) * 1.1, 995.0 + (day % 30)));
+        }
+        return weatherData;
+    }
+}
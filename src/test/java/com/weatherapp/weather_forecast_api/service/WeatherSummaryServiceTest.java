@@ -1,5 +1,7 @@
 package com.weatherapp.weather_forecast_api.service;
 
+import com.weatherapp.weather_forecast_api.dto.WeatherSummaryResponse;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
 import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -117,4 +119,38 @@ class WeatherSummaryServiceTest {
         Assertions.assertThat(minTemp).isEqualTo(0.0);
         Assertions.assertThat(maxTemp).isEqualTo(0.0);
     }
+
+    @Test
+    void shouldSummarizeInSinglePass() {
+        List<DailyWeatherData> weatherData = List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), 61, 14.3, 22.8, 8.76, 1008.0),
+                new DailyWeatherData(LocalDate.of(2025, 6, 18), 51, 16.7, 25.8, 10.63, 1005.6),
+                new DailyWeatherData(LocalDate.of(2025, 6, 19), 80, 12.1, 29.0, 15.32, 1010.2),
+                new DailyWeatherData(LocalDate.of(2025, 6, 20), 95, 11.0, 21.4, 2.5, 1002.3)
+        );
+
+        WeatherSummaryResponse result = weatherSummaryService.summarize(weatherData);
+
+        Assertions.assertThat(result).isEqualTo(new WeatherSummaryResponse(
+                weatherSummaryService.calculateAveragePressure(weatherData),
+                weatherSummaryService.calculateAverageSunshineHours(weatherData),
+                11.0,
+                29.0,
+                "z opadami"
+        ));
+        Assertions.assertThat(weatherSummaryService.summarize(DailyForecastColumns.fromDailyWeatherData(weatherData)))
+                .isEqualTo(result);
+    }
+
+    @Test
+    void shouldSkipNullFieldsInsteadOfFailing() {
+        List<DailyWeatherData> weatherData = List.of(
+                new DailyWeatherData(LocalDate.of(2025, 6, 17), null, 14.3, null, 8.0, null),
+                new DailyWeatherData(LocalDate.of(2025, 6, 18), 51, null, 25.8, null, 1005.6)
+        );
+
+        WeatherSummaryResponse result = weatherSummaryService.summarize(weatherData);
+
+        Assertions.assertThat(result).isEqualTo(new WeatherSummaryResponse(1005.6, 8.0, 14.3, 25.8, "bez opadów"));
+    }
 }
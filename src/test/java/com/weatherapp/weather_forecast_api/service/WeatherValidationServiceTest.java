@@ -2,11 +2,15 @@ package com.weatherapp.weather_forecast_api.service;
 
 import com.weatherapp.weather_forecast_api.exception.ValidationException;
 import com.weatherapp.weather_forecast_api.exception.WeatherApiException;
+import com.weatherapp.weather_forecast_api.model.DailyForecastColumns;
+import com.weatherapp.weather_forecast_api.model.DailyWeatherData;
 import com.weatherapp.weather_forecast_api.model.OpenMeteo;
+import com.weatherapp.weather_forecast_api.model.OpenMeteoForecast;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
 import java.util.List;
 
 class WeatherValidationServiceTest {
@@ -153,6 +157,42 @@ class WeatherValidationServiceTest {
                 .doesNotThrowAnyException();
     }
 
+    @Test
+    void shouldValidateDecodedForecastResponse() {
+        OpenMeteoForecast response = new OpenMeteoForecast(52.23, 21.01, 0.42, 1, sampleColumns());
+
+        Assertions.assertThatCode(() -> weatherValidationService.validateResponse(response))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldThrowWeatherApiExceptionWhenDecodedForecastHasNoTimeData() {
+        OpenMeteoForecast response = new OpenMeteoForecast(52.23, 21.01, 0.42, 0, sampleColumns());
+
+        Assertions.assertThatThrownBy(() -> weatherValidationService.validateResponse(response))
+                .isInstanceOf(WeatherApiException.class)
+                .hasMessageContaining("No time data received from API");
+    }
+
+    @Test
+    void shouldThrowWeatherApiExceptionWhenBatchResponseCountDiffers() {
+        OpenMeteoForecast response = new OpenMeteoForecast(52.23, 21.01, 0.42, 1, sampleColumns());
+
+        Assertions.assertThatThrownBy(() -> weatherValidationService.validateResponses(List.of(response), 2))
+                .isInstanceOf(WeatherApiException.class)
+                .hasMessageContaining("Expected 2 locations from Open-Meteo API but received 1");
+    }
+
+    @Test
+    void shouldValidateEveryResponseOfBatch() {
+        OpenMeteoForecast valid = new OpenMeteoForecast(52.23, 21.01, 0.42, 1, sampleColumns());
+        OpenMeteoForecast withoutDaily = new OpenMeteoForecast(50.06, 19.95, 0.42, 0, null);
+
+        Assertions.assertThatThrownBy(() -> weatherValidationService.validateResponses(List.of(valid, withoutDaily), 2))
+                .isInstanceOf(WeatherApiException.class)
+                .hasMessageContaining("No daily weather data received from Open-Meteo API");
+    }
+
     private OpenMeteo createValidOpenMeteoResponse() {
         OpenMeteo response = new OpenMeteo();
         OpenMeteo.Daily daily = new OpenMeteo.Daily();
@@ -160,4 +200,9 @@ class WeatherValidationServiceTest {
         response.setDaily(daily);
         return response;
     }
+
+    private DailyForecastColumns sampleColumns() {
+        return DailyForecastColumns.fromDailyWeatherData(
+                List.of(new DailyWeatherData(LocalDate.of(2025, 6, 17), 3, 14.3, 22.8, 8.76, 1008.0)));
+    }
 }